@@ -0,0 +1,51 @@
+package dev.firecrawl.benchmark;
+
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.util.GsonJsonCodec;
+import dev.firecrawl.util.JsonCodec;
+import dev.firecrawl.util.jackson.JacksonJsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a crawl status page from UTF-8 bytes, as the client does from a response body, with each
+ * {@link JsonCodec} implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+    @Param({"gson", "jackson"})
+    public String codec;
+
+    private JsonCodec jsonCodec;
+    private byte[] crawlPage;
+
+    @Setup
+    public void setUp() {
+        jsonCodec = "jackson".equals(codec) ? new JacksonJsonCodec() : new GsonJsonCodec();
+        crawlPage = ModelAdapterBenchmark.crawlPage(10).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CrawlStatusResponse decodeCrawlPage() throws IOException {
+        return jsonCodec.decode(new ByteArrayInputStream(crawlPage), CrawlStatusResponse.class);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.firecrawl.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
+import dev.firecrawl.model.ScrapeParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Gson's reflective adapters with {@link ModelTypeAdapterFactory} on a crawl status page
+ * shaped like real API output: 10 documents with markdown, html, links and metadata.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; add {@code -prof gc} (on by default in
+ * the profile) to see allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelAdapterBenchmark {
+    @Param({"reflective", "streaming"})
+    public String adapters;
+
+    private Gson gson;
+    private String crawlPage;
+    private String smallPage;
+    private ScrapeParams scrapeParams;
+
+    @Setup
+    public void setUp() {
+        gson = "streaming".equals(adapters) ? ModelTypeAdapterFactory.newGsonBuilder().create() : new Gson();
+        crawlPage = crawlPage(10);
+        smallPage = crawlPage(1);
+        scrapeParams = new ScrapeParams()
+                .setFormats(new String[]{"markdown", "html", "links"})
+                .setHeaders(Map.of("User-Agent", "benchmark", "Accept-Language", "en"))
+                .setIncludeTags(new String[]{"article", "main"})
+                .setExcludeTags(new String[]{"nav", "footer"})
+                .setOnlyMainContent(true)
+                .setWaitFor(1000)
+                .setTimeout(30000)
+                .setMaxAge(3600000)
+                .setLocation(Map.of("country", "US"))
+                .setBlockAds(true);
+    }
+
+    @Benchmark
+    public CrawlStatusResponse parseCrawlPage() {
+        return gson.fromJson(new StringReader(crawlPage), CrawlStatusResponse.class);
+    }
+
+    /**
+     * First use of a fresh Gson instance, which is where reflective adapter construction costs most.
+     */
+    @Benchmark
+    public CrawlStatusResponse parseWithFreshGson() {
+        Gson fresh = "streaming".equals(adapters) ? ModelTypeAdapterFactory.newGsonBuilder().create() : new Gson();
+        return fresh.fromJson(new StringReader(smallPage), CrawlStatusResponse.class);
+    }
+
+    @Benchmark
+    public String writeScrapeParams() {
+        return gson.toJson(scrapeParams);
+    }
+
+    static String crawlPage(int documents) {
+        StringBuilder paragraph = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            paragraph.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit ").append(i).append(". ");
+        }
+        JsonArray data = new JsonArray();
+        for (int d = 0; d < documents; d++) {
+            JsonObject doc = new JsonObject();
+            doc.addProperty("markdown", "# Page " + d + "\n\n" + paragraph + "\n\n" + paragraph);
+            doc.addProperty("html", "<html><body><h1>Page " + d + "</h1><p>" + paragraph + "</p></body></html>");
+            JsonArray links = new JsonArray();
+            for (int l = 0; l < 50; l++) {
+                links.add("https://example.com/section/" + d + "/page-" + l);
+            }
+            doc.add("links", links);
+            JsonObject metadata = new JsonObject();
+            metadata.addProperty("title", "Page " + d);
+            metadata.addProperty("description", "Description of page " + d);
+            metadata.addProperty("language", "en");
+            metadata.addProperty("sourceURL", "https://example.com/section/" + d);
+            metadata.addProperty("url", "https://example.com/section/" + d);
+            metadata.addProperty("statusCode", 200);
+            metadata.addProperty("contentType", "text/html; charset=utf-8");
+            JsonArray ogImages = new JsonArray();
+            ogImages.add("https://example.com/og/" + d + ".png");
+            metadata.add("ogImage", ogImages);
+            doc.add("metadata", metadata);
+            data.add(doc);
+        }
+        JsonObject page = new JsonObject();
+        page.addProperty("success", true);
+        page.addProperty("status", "scraping");
+        page.addProperty("total", 120);
+        page.addProperty("completed", documents);
+        page.addProperty("creditsUsed", documents);
+        page.addProperty("expiresAt", "2026-01-01T00:00:00.000Z");
+        page.addProperty("next", "https://api.firecrawl.dev/v2/crawl/abc?skip=" + documents);
+        page.add("data", data);
+        return page.toString();
+    }
+}
@@ -1,14 +1,36 @@
 package dev.firecrawl.client;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import dev.firecrawl.exception.ApiException;
 import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.CircuitBreaker;
+import dev.firecrawl.util.ConcurrencyLimiter;
 import dev.firecrawl.util.HttpUtils;
+import dev.firecrawl.util.JsonCodec;
+import dev.firecrawl.util.JsonRequestBody;
+import dev.firecrawl.util.RateLimiter;
+import dev.firecrawl.util.RequestCoalescer;
+import dev.firecrawl.util.RequestHedger;
+import dev.firecrawl.util.RetryPolicy;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 /**
  * Base class for all API service classes.
@@ -19,6 +41,14 @@ abstract class BaseService {
     protected final String apiUrl;
     protected final OkHttpClient httpClient;
     protected final Gson gson;
+    protected final JsonCodec jsonCodec;
+    protected final RetryPolicy retryPolicy;
+    protected final RateLimiter rateLimiter;
+    protected final ConcurrencyLimiter concurrencyLimiter;
+    protected final CircuitBreaker circuitBreaker;
+    protected final RequestHedger requestHedger;
+    protected final RequestCoalescer requestCoalescer;
+    private final String basePath;
 
     /**
      * Creates a new BaseService with the specified client.
@@ -31,6 +61,32 @@ abstract class BaseService {
         this.apiUrl = client.getApiUrl();
         this.httpClient = client.getHttpClient();
         this.gson = client.getGson();
+        this.jsonCodec = client.getJsonCodec();
+        this.retryPolicy = client.getRetryPolicy();
+        this.rateLimiter = client.getRateLimiter();
+        this.concurrencyLimiter = client.getConcurrencyLimiter();
+        this.circuitBreaker = client.getCircuitBreaker();
+        this.requestHedger = client.getRequestHedger();
+        this.requestCoalescer = client.getRequestCoalescer();
+        HttpUrl base = HttpUrl.parse(apiUrl);
+        String prefix = base != null ? base.encodedPath() : "";
+        this.basePath = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+
+    /**
+     * Returns the API path of a request, e.g. {@code /v2/scrape}, without the path of the client's
+     * API URL. Limits are configured by API path, so they also apply when the API is served below
+     * a prefix, e.g. {@code https://lb.example.com/firecrawl}.
+     *
+     * @param request the request
+     * @return the request path relative to the API URL
+     */
+    protected String endpointPath(Request request) {
+        String path = request.url().encodedPath();
+        if (!basePath.isEmpty() && path.startsWith(basePath + "/")) {
+            return path.substring(basePath.length());
+        }
+        return path;
     }
 
     /**
@@ -40,8 +96,8 @@ abstract class BaseService {
      * @param body the request body
      * @return the built request
      */
-    protected Request buildRequest(String path, JsonObject body) {
-        return HttpUtils.buildRequest(apiUrl, path, apiKey, body, null, "POST");
+    protected Request buildRequest(String path, RequestBody body) {
+        return HttpUtils.buildRequestWithBody(apiUrl, path, apiKey, body, null, "POST");
     }
 
     /**
@@ -52,8 +108,8 @@ abstract class BaseService {
      * @param idempotencyKey the idempotency key
      * @return the built request
      */
-    protected Request buildRequest(String path, JsonObject body, String idempotencyKey) {
-        return HttpUtils.buildRequest(apiUrl, path, apiKey, body, idempotencyKey, "POST");
+    protected Request buildRequest(String path, RequestBody body, String idempotencyKey) {
+        return HttpUtils.buildRequestWithBody(apiUrl, path, apiKey, body, idempotencyKey, "POST");
     }
 
     /**
@@ -65,8 +121,90 @@ abstract class BaseService {
      * @param method the HTTP method
      * @return the built request
      */
-    protected Request buildRequest(String path, JsonObject body, String idempotencyKey, String method) {
-        return HttpUtils.buildRequest(apiUrl, path, apiKey, body, idempotencyKey, method);
+    protected Request buildRequest(String path, RequestBody body, String idempotencyKey, String method) {
+        return HttpUtils.buildRequestWithBody(apiUrl, path, apiKey, body, idempotencyKey, method);
+    }
+
+    /**
+     * Builds a GET request for a page cursor returned by the API. Only the path and query of the
+     * cursor are used, appended to the client's API URL, so the API key is never sent to a host
+     * named in a response.
+     *
+     * @param next the next page URL, absolute or relative
+     * @param pathPrefix the endpoint path the cursor must point into
+     * @return the built request
+     * @throws FirecrawlException if the cursor does not point into {@code pathPrefix}
+     */
+    protected Request buildPageRequest(String next, String pathPrefix) throws FirecrawlException {
+        HttpUrl base = HttpUrl.parse(apiUrl);
+        HttpUrl cursor = base != null ? base.resolve(next) : HttpUrl.parse(next);
+        int start = cursor != null ? cursor.encodedPath().indexOf(pathPrefix) : -1;
+        if (start < 0) {
+            throw new FirecrawlException("Unexpected next page URL: " + next);
+        }
+        String query = cursor.encodedQuery();
+        String path = cursor.encodedPath().substring(start) + (query != null ? "?" + query : "");
+        return buildRequest(path, null, null, "GET");
+    }
+
+    /**
+     * Creates a JSON request body written directly with a {@link com.google.gson.stream.JsonWriter}.
+     *
+     * @param content the function writing the JSON document
+     * @return the request body
+     */
+    protected JsonRequestBody jsonBody(JsonRequestBody.Content content) {
+        return new JsonRequestBody(gson, content);
+    }
+
+    /**
+     * Writes a named nested value using Gson's adapter for its runtime type, producing the same
+     * output as adding {@code gson.toJsonTree(value)} to a {@code JsonObject}.
+     *
+     * @param writer the JSON writer
+     * @param name the member name
+     * @param value the value (must not be null)
+     * @throws IOException if writing fails
+     */
+    protected void writeValue(JsonWriter writer, String name, Object value) throws IOException {
+        writer.name(name);
+        gson.toJson(value, value.getClass(), writer);
+    }
+
+    /**
+     * Writes the members of a scrape's options at the current level of a JSON object, as the
+     * scrape and batch scrape endpoints expect them.
+     *
+     * @param writer the JSON writer
+     * @param params the scrape options, or null to write nothing
+     * @param cacheControl whether to write {@code maxAge} and {@code storeInCache}
+     * @throws IOException if writing fails
+     */
+    protected void writeScrapeOptions(JsonWriter writer, ScrapeParams params, boolean cacheControl) throws IOException {
+        if (params != null) {
+            if (params.getFormatsAny() != null) writeValue(writer, "formats", params.getFormatsAny());
+            else if (params.getFormats() != null) writeValue(writer, "formats", params.getFormats());
+            if (params.getHeaders() != null) writeValue(writer, "headers", params.getHeaders());
+            if (params.getIncludeTags() != null) writeValue(writer, "includeTags", params.getIncludeTags());
+            if (params.getExcludeTags() != null) writeValue(writer, "excludeTags", params.getExcludeTags());
+            if (params.getOnlyMainContent() != null) writer.name("onlyMainContent").value(params.getOnlyMainContent());
+            if (params.getWaitFor() != null) writer.name("waitFor").value(params.getWaitFor());
+            // v2 parsers preferred over parsePDF
+            if (params.getParsers() != null) writeValue(writer, "parsers", params.getParsers());
+            if (params.getParsePDF() != null) writer.name("parsePDF").value(params.getParsePDF());
+            if (params.getTimeout() != null) writer.name("timeout").value(params.getTimeout());
+            // v2 additions
+            if (cacheControl && params.getMaxAge() != null) writer.name("maxAge").value(params.getMaxAge());
+            if (params.getMobile() != null) writer.name("mobile").value(params.getMobile());
+            if (params.getSkipTlsVerification() != null) writer.name("skipTlsVerification").value(params.getSkipTlsVerification());
+            if (params.getActions() != null) writeValue(writer, "actions", params.getActions());
+            if (params.getLocation() != null) writeValue(writer, "location", params.getLocation());
+            if (params.getRemoveBase64Images() != null) writer.name("removeBase64Images").value(params.getRemoveBase64Images());
+            if (params.getBlockAds() != null) writer.name("blockAds").value(params.getBlockAds());
+            if (params.getProxy() != null) writer.name("proxy").value(params.getProxy());
+            if (cacheControl && params.getStoreInCache() != null) writer.name("storeInCache").value(params.getStoreInCache());
+            if (params.getZeroDataRetention() != null) writer.name("zeroDataRetention").value(params.getZeroDataRetention());
+        }
     }
 
     /**
@@ -80,10 +218,437 @@ abstract class BaseService {
      * @throws FirecrawlException if the API returns an error
      */
     protected <T> T executeRequest(Request request, Class<T> responseType) throws IOException, FirecrawlException {
+        String path = endpointPath(request);
+        CircuitBreaker.Permit circuit = circuitBreaker != null ? circuitBreaker.acquire(path) : null;
+        try {
+            rateLimiter.acquire(path);
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.acquire();
+            }
+            try {
+                if (circuit != null) {
+                    circuit.sent();
+                }
+                T value = HttpUtils.executeRequest(httpClient, request, responseType, jsonCodec, retryPolicy,
+                        rateLimiter, path);
+                if (circuit != null) {
+                    circuit.record(null);
+                }
+                return value;
+            } catch (ApiException e) {
+                FirecrawlException mapped = new FirecrawlException("API request failed: " + e.getMessage(), e);
+                if (circuit != null) {
+                    circuit.record(mapped);
+                }
+                throw mapped;
+            } catch (IOException e) {
+                if (circuit != null) {
+                    circuit.record(e);
+                }
+                throw e;
+            } finally {
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release();
+                }
+            }
+        } finally {
+            // Refused by a limiter or failed before an outcome was recorded
+            if (circuit != null) {
+                circuit.release();
+            }
+        }
+    }
+
+    /**
+     * Executes an HTTP request without blocking the calling thread.
+     * <p>
+     * Errors are mapped exactly as in {@link #executeRequest(Request, Class)}: an {@link ApiException}
+     * becomes a {@link FirecrawlException}, I/O errors are passed through unchanged. A call refused by
+     * an open circuit fails immediately. A rate-limited call waits for its permit, and then for a
+     * concurrency slot, on a delayed executor or queue rather than a thread. Cancelling the returned
+     * future cancels the wait or the underlying call.
+     *
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param <T> the response type
+     * @return a future completed with the response object
+     */
+    protected <T> CompletableFuture<T> executeRequestAsync(Request request, Class<T> responseType) {
+        return executeRequestAsync(request, responseType, null);
+    }
+
+    /**
+     * Executes an HTTP request without blocking, calling {@code onSent} with the
+     * {@link System#nanoTime()} at which it is sent, once its permits are held.
+     */
+    private <T> CompletableFuture<T> executeRequestAsync(Request request, Class<T> responseType, LongConsumer onSent) {
+        String path = endpointPath(request);
+        CircuitBreaker.Permit circuit;
+        try {
+            circuit = circuitBreaker != null ? circuitBreaker.acquire(path) : null;
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (circuit != null) {
+            // Covers calls that never reach send(), e.g. refused by a limiter or cancelled
+            result.whenComplete((value, error) -> circuit.release());
+        }
+        CompletableFuture<Void> permit = rateLimiter.acquireAsync(path);
+        permit.whenComplete((granted, denied) -> {
+            if (denied != null) {
+                result.completeExceptionally(denied);
+            } else if (concurrencyLimiter == null) {
+                send(request, responseType, result, circuit, null, onSent);
+            } else if (!result.isDone()) {
+                CompletableFuture<Void> slot = concurrencyLimiter.acquireAsync();
+                slot.whenComplete((acquired, rejected) -> {
+                    if (rejected != null) {
+                        result.completeExceptionally(rejected);
+                    } else {
+                        send(request, responseType, result, circuit, concurrencyLimiter::release, onSent);
+                    }
+                });
+                cancelWith(result, slot);
+            }
+        });
+        cancelWith(result, permit);
+        return result;
+    }
+
+    /**
+     * Executes an HTTP request, hedging it if the client has a {@link RequestHedger}. Without one
+     * this is {@link #executeRequest(Request, Class)}.
+     *
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param <T> the response type
+     * @return the response object
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    protected <T> T executeHedged(Request request, Class<T> responseType) throws IOException, FirecrawlException {
+        if (requestHedger == null) {
+            return executeRequest(request, responseType);
+        }
+        return await(executeHedgedAsync(request, responseType));
+    }
+
+    /**
+     * Executes an HTTP request without blocking, hedging it if the client has a
+     * {@link RequestHedger}. The request is sent again if it is still unanswered the hedger's delay
+     * after it was sent and the budget allows. Waiting for a rate limit permit or a concurrency slot
+     * is not counted toward that delay or the recorded latencies. The first successful response
+     * completes the future and the other request is cancelled; the future fails only once both
+     * requests have failed.
+     *
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param <T> the response type
+     * @return a future completed with the response object
+     */
+    protected <T> CompletableFuture<T> executeHedgedAsync(Request request, Class<T> responseType) {
+        if (requestHedger == null) {
+            return executeRequestAsync(request, responseType);
+        }
+        String path = endpointPath(request);
+        long delayNanos = requestHedger.start(path);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicBoolean settled = new AtomicBoolean();
+
+        // Latencies and the hedge delay run from the send, not from the wait for a permit or slot
+        AtomicLong sentAt = new AtomicLong(-1L);
+        CompletableFuture<T> primary = executeRequestAsync(request, responseType, sent -> {
+            sentAt.set(sent);
+            if (delayNanos >= 0) {
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(
+                        () -> hedge(request, responseType, path, result, pending, settled));
+            }
+        });
+        primary.whenComplete((value, error) -> {
+            long sent = sentAt.get();
+            if (sent >= 0 && (error == null || primary.isCancelled())) {
+                requestHedger.recordLatency(path, System.nanoTime() - sent);
+            }
+            settle(result, value, error, pending, settled, null);
+        });
+        // Cancels the loser, or both if the caller cancels
+        result.whenComplete((value, error) -> primary.cancel(true));
+        return result;
+    }
+
+    /**
+     * Sends the hedge of a request still unanswered after the hedger's delay, if the budget allows.
+     */
+    private <T> void hedge(Request request, Class<T> responseType, String path, CompletableFuture<T> result,
+                           AtomicInteger pending, AtomicBoolean settled) {
+        if (result.isDone() || !requestHedger.tryHedge()) {
+            return;
+        }
+        pending.incrementAndGet();
+        AtomicLong sentAt = new AtomicLong(-1L);
+        CompletableFuture<T> hedge = executeRequestAsync(request, responseType, sentAt::set);
+        hedge.whenComplete((value, error) -> {
+            long sent = sentAt.get();
+            if (sent >= 0 && error == null) {
+                requestHedger.recordLatency(path, System.nanoTime() - sent);
+            }
+            settle(result, value, error, pending, settled, requestHedger::recordHedgedWin);
+        });
+        result.whenComplete((value, error) -> hedge.cancel(true));
+    }
+
+    /**
+     * Executes a read, sharing the call with identical reads in flight if the client coalesces
+     * requests. Without coalescing this is {@link #executeHedged(Request, Class)} or
+     * {@link #executeRequest(Request, Class)}.
+     *
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param hedge whether the call may be hedged
+     * @param <T> the response type
+     * @return the response object, possibly the same instance returned to other callers
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    protected <T> T executeShared(Request request, Class<T> responseType, boolean hedge)
+            throws IOException, FirecrawlException {
+        if (requestCoalescer == null) {
+            return hedge ? executeHedged(request, responseType) : executeRequest(request, responseType);
+        }
+        return await(executeSharedAsync(request, responseType, hedge));
+    }
+
+    /**
+     * Executes a read without blocking, sharing the call with identical reads in flight if the
+     * client coalesces requests. Cancelling the returned future, or letting it time out, detaches
+     * only this caller; the call is cancelled once no caller is left.
+     *
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param hedge whether the call may be hedged
+     * @param <T> the response type
+     * @return a future completed with the response object
+     */
+    protected <T> CompletableFuture<T> executeSharedAsync(Request request, Class<T> responseType, boolean hedge) {
+        Supplier<CompletableFuture<T>> call = hedge
+                ? () -> executeHedgedAsync(request, responseType)
+                : () -> executeRequestAsync(request, responseType);
+        return requestCoalescer != null ? requestCoalescer.execute(request, responseType, call) : call.get();
+    }
+
+    /**
+     * Waits for a future, rethrowing its failure as the exception the synchronous API declares.
+     */
+    protected static <T> T await(CompletableFuture<T> future) throws IOException, FirecrawlException {
         try {
-            return HttpUtils.executeRequest(httpClient, request, responseType);
-        } catch (ApiException e) {
-            throw new FirecrawlException("API request failed: " + e.getMessage(), e);
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof FirecrawlException) {
+                throw (FirecrawlException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FirecrawlException("Request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Completes a hedged result with the first success, or with the last failure once no request
+     * is left. {@code onWin} runs before the result completes, so callers see up-to-date metrics.
+     */
+    private static <T> void settle(CompletableFuture<T> result, T value, Throwable error, AtomicInteger pending,
+                                   AtomicBoolean settled, Runnable onWin) {
+        if (error == null) {
+            if (!result.isDone() && settled.compareAndSet(false, true)) {
+                if (onWin != null) {
+                    onWin.run();
+                }
+                result.complete(value);
+            }
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Sends a request once its permits are held, running {@code release} when the call finishes
+     * and {@code onSent}, if given, just before it is sent.
+     */
+    private <T> void send(Request request, Class<T> responseType, CompletableFuture<T> result,
+                          CircuitBreaker.Permit circuit, Runnable release, LongConsumer onSent) {
+        if (result.isDone()) {
+            if (release != null) {
+                release.run();
+            }
+            return;
+        }
+        if (circuit != null) {
+            circuit.sent();
+        }
+        if (onSent != null) {
+            onSent.accept(System.nanoTime());
+        }
+        CompletableFuture<T> call = HttpUtils.executeRequestAsync(httpClient, request, responseType, jsonCodec,
+                retryPolicy, rateLimiter, endpointPath(request));
+        call.whenComplete((value, error) -> {
+            Throwable mapped = error instanceof ApiException
+                    ? new FirecrawlException("API request failed: " + error.getMessage(), error)
+                    : error;
+            // Permits are settled before callers observe the result
+            if (circuit != null) {
+                circuit.record(mapped);
+            }
+            if (release != null) {
+                release.run();
+            }
+            if (mapped == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(mapped);
+            }
+        });
+        cancelWith(result, call);
+    }
+
+    /**
+     * Cancels {@code source} if {@code derived}, a stage built on it, completes first, e.g. because
+     * the caller cancelled it or it timed out.
+     *
+     * @param derived the future returned to the caller
+     * @param source the future it was derived from
+     * @param <R> the derived future type
+     * @return {@code derived}
+     */
+    protected static <R extends CompletableFuture<?>> R detachOnCompletion(R derived, CompletableFuture<?> source) {
+        derived.whenComplete((value, error) -> {
+            if (!source.isDone()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    private static void cancelWith(CompletableFuture<?> result, CompletableFuture<?> dependent) {
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                dependent.cancel(true);
+            }
+        });
+    }
+
+    /**
+     * An asynchronous polling loop built from stages such as status checks and waits, run one after
+     * another. Completing {@link #result()} early, e.g. by cancelling it or with
+     * {@link CompletableFuture#orTimeout}, ends the loop: the stage in flight is cancelled and no
+     * further stage is started.
+     *
+     * @param <T> the type of the loop's final value
+     */
+    protected static final class Polling<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile CompletableFuture<?> current;
+
+        Polling() {
+            result.whenComplete((value, error) -> {
+                CompletableFuture<?> stage = current;
+                if (stage != null) {
+                    stage.cancel(true);
+                }
+            });
+        }
+
+        /**
+         * Returns the future completed with the loop's final value.
+         *
+         * @return the loop's future
+         */
+        CompletableFuture<T> result() {
+            return result;
+        }
+
+        /**
+         * Starts the next stage unless the loop has ended, and hands its value to {@code then}. A
+         * stage that fails, or a {@code then} that throws, ends the loop with that error.
+         *
+         * @param stage starts the stage
+         * @param then continues the loop with the stage's value
+         * @param <R> the stage's value type
+         */
+        <R> void run(Supplier<CompletableFuture<R>> stage, Consumer<R> then) {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<R> started;
+            try {
+                started = stage.get();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            current = started;
+            if (result.isDone()) {
+                // Ended while the stage was being started
+                started.cancel(true);
+                return;
+            }
+            started.whenComplete((value, error) -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                try {
+                    then.accept(value);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        }
+
+        /**
+         * Runs {@code then} after a delay on a delayed executor, unless the loop ends first.
+         *
+         * @param delay the delay
+         * @param unit the delay's unit
+         * @param then continues the loop
+         */
+        void after(long delay, TimeUnit unit, Runnable then) {
+            Executor delayed = CompletableFuture.delayedExecutor(delay, unit);
+            run(() -> CompletableFuture.runAsync(() -> { }, delayed), ignored -> then.run());
+        }
+
+        /**
+         * Ends the loop with a final value.
+         *
+         * @param value the final value
+         */
+        void complete(T value) {
+            result.complete(value);
+        }
+
+        /**
+         * Ends the loop with an error.
+         *
+         * @param error the error
+         */
+        void fail(Throwable error) {
+            result.completeExceptionally(error);
         }
     }
-}
\ No newline at end of file
+}
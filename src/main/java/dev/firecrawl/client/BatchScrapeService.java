@@ -0,0 +1,337 @@
+package dev.firecrawl.client;
+
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.ValidationException;
+import dev.firecrawl.model.BatchScrapeParams;
+import dev.firecrawl.model.BatchScrapeResponse;
+import dev.firecrawl.model.BatchScrapeStatusResponse;
+import dev.firecrawl.model.CancelCrawlJobResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.JsonRequestBody;
+import dev.firecrawl.util.PagePrefetcher;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Service for batch scrape API endpoints.
+ */
+class BatchScrapeService extends BaseService {
+    private static final String PATH = "/v2/batch/scrape";
+
+    private final PagePrefetcher pagePrefetcher;
+
+    /**
+     * Creates a new BatchScrapeService with the specified client.
+     *
+     * @param client the FirecrawlClient
+     */
+    BatchScrapeService(FirecrawlClient client) {
+        super(client);
+        this.pagePrefetcher = client.getPagePrefetcher();
+    }
+
+    /**
+     * Scrapes the specified URLs as one batch job and waits for it to finish.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param idempotencyKey the idempotency key
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return the first page of the final batch scrape status
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    BatchScrapeStatusResponse batchScrape(List<String> urls, BatchScrapeParams params, String idempotencyKey, int... pollInterval)
+            throws IOException, FirecrawlException {
+        BatchScrapeResponse response = startBatchScrape(urls, params, idempotencyKey);
+        if (!response.isSuccess()) {
+            throw new FirecrawlException("Batch scrape failed: " + response.getWarning());
+        }
+
+        return monitorJobStatus(response.getId(), pollInterval(pollInterval));
+    }
+
+    /**
+     * Scrapes the specified URLs as one batch job without blocking the calling thread. Polling
+     * waits on a delayed executor rather than a sleeping thread.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param idempotencyKey the idempotency key
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the first page of the final batch scrape status
+     */
+    CompletableFuture<BatchScrapeStatusResponse> batchScrapeAsync(List<String> urls, BatchScrapeParams params,
+                                                                  String idempotencyKey, int... pollInterval) {
+        int interval = pollInterval(pollInterval);
+        Polling<BatchScrapeStatusResponse> polling = new Polling<>();
+        polling.run(() -> startBatchScrapeAsync(urls, params, idempotencyKey), response -> {
+            if (!response.isSuccess()) {
+                polling.fail(new FirecrawlException("Batch scrape failed: " + response.getWarning()));
+                return;
+            }
+            monitorJobStatusAsync(polling, response.getId(), interval * 1000L, polling::complete);
+        });
+        return polling.result();
+    }
+
+    /**
+     * Starts a batch scrape job.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param idempotencyKey the idempotency key
+     * @return the batch scrape response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    BatchScrapeResponse startBatchScrape(List<String> urls, BatchScrapeParams params, String idempotencyKey)
+            throws IOException, FirecrawlException {
+        validate(urls, params);
+
+        Request request = buildRequest(PATH, buildBody(urls, params), idempotencyKey);
+        return executeRequest(request, BatchScrapeResponse.class);
+    }
+
+    /**
+     * Starts a batch scrape job without blocking the calling thread.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param idempotencyKey the idempotency key
+     * @return a future completed with the batch scrape response
+     */
+    CompletableFuture<BatchScrapeResponse> startBatchScrapeAsync(List<String> urls, BatchScrapeParams params, String idempotencyKey) {
+        try {
+            validate(urls, params);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Request request = buildRequest(PATH, buildBody(urls, params), idempotencyKey);
+        return executeRequestAsync(request, BatchScrapeResponse.class);
+    }
+
+    /**
+     * Returns the status and first page of results of the specified batch scrape job.
+     *
+     * @param id the batch scrape job ID
+     * @return the batch scrape status response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    BatchScrapeStatusResponse getBatchScrapeStatus(String id) throws IOException, FirecrawlException {
+        Objects.requireNonNull(id, "Batch scrape job ID must not be null");
+
+        Request request = buildRequest(PATH + "/" + id, null, null, "GET");
+        return executeShared(request, BatchScrapeStatusResponse.class, false);
+    }
+
+    /**
+     * Returns the status and first page of results of the specified batch scrape job without
+     * blocking the calling thread.
+     *
+     * @param id the batch scrape job ID
+     * @return a future completed with the batch scrape status response
+     */
+    CompletableFuture<BatchScrapeStatusResponse> getBatchScrapeStatusAsync(String id) {
+        Objects.requireNonNull(id, "Batch scrape job ID must not be null");
+
+        Request request = buildRequest(PATH + "/" + id, null, null, "GET");
+        return executeSharedAsync(request, BatchScrapeStatusResponse.class, false);
+    }
+
+    /**
+     * Fetches the page of results a {@link BatchScrapeStatusResponse#getNext()} cursor points to.
+     *
+     * @param next the next page URL
+     * @return the batch scrape status page
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error or the cursor is not a batch scrape page
+     */
+    BatchScrapeStatusResponse getBatchScrapeStatusPage(String next) throws IOException, FirecrawlException {
+        Objects.requireNonNull(next, "Next page URL must not be null");
+
+        return executeRequest(buildPageRequest(next, PATH + "/"), BatchScrapeStatusResponse.class);
+    }
+
+    /**
+     * Fetches the page of results a {@link BatchScrapeStatusResponse#getNext()} cursor points to
+     * without blocking the calling thread.
+     *
+     * @param next the next page URL
+     * @return a future completed with the batch scrape status page
+     */
+    CompletableFuture<BatchScrapeStatusResponse> getBatchScrapeStatusPageAsync(String next) {
+        Objects.requireNonNull(next, "Next page URL must not be null");
+        try {
+            return executeRequestAsync(buildPageRequest(next, PATH + "/"), BatchScrapeStatusResponse.class);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Scrapes the specified URLs as one batch job and collects the documents of every result page,
+     * without blocking the calling thread. Invalid URLs are skipped and have no document.
+     *
+     * @param urls the URLs to scrape
+     * @param options the scrape options applied to every URL
+     * @param pollInterval the polling interval
+     * @return a future completed with the scraped documents
+     */
+    CompletableFuture<List<FirecrawlDocument>> scrapeAllAsync(List<String> urls, ScrapeParams options, Duration pollInterval) {
+        BatchScrapeParams params = new BatchScrapeParams().setScrapeOptions(options).setIgnoreInvalidURLs(true);
+        String key = java.util.UUID.randomUUID().toString();
+        Polling<List<FirecrawlDocument>> polling = new Polling<>();
+        polling.run(() -> startBatchScrapeAsync(urls, params, key), response -> {
+            if (!response.isSuccess()) {
+                polling.fail(new FirecrawlException("Batch scrape failed: " + response.getWarning()));
+                return;
+            }
+            monitorJobStatusAsync(polling, response.getId(), pollInterval.toMillis(),
+                    status -> collectAsync(polling, status, new ArrayList<>()));
+        });
+        return polling.result();
+    }
+
+    /**
+     * Returns the pages of a batch scrape's results, starting from {@code first} and fetching
+     * each further page only when it is reached.
+     *
+     * @param first the first page, as returned by a status request
+     * @return the pages
+     */
+    Iterable<BatchScrapeStatusResponse> pages(BatchScrapeStatusResponse first) {
+        Objects.requireNonNull(first, "First page must not be null");
+        if (pagePrefetcher != null) {
+            return pagePrefetcher.pages(first, BatchScrapeStatusResponse::getNext, this::getBatchScrapeStatusPageAsync);
+        }
+        return new CursorPages<>(first, BatchScrapeStatusResponse::getNext, this::getBatchScrapeStatusPage);
+    }
+
+    /**
+     * Cancels the specified batch scrape job.
+     *
+     * @param id the batch scrape job ID
+     * @return the cancel response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    CancelCrawlJobResponse cancelBatchScrape(String id) throws IOException, FirecrawlException {
+        Objects.requireNonNull(id, "Batch scrape job ID must not be null");
+
+        Request request = buildRequest(PATH + "/" + id, null, null, "DELETE");
+        return executeRequest(request, CancelCrawlJobResponse.class);
+    }
+
+    private void validate(List<String> urls, BatchScrapeParams params) throws FirecrawlException {
+        Objects.requireNonNull(urls, "URLs must not be null");
+        if (urls.isEmpty()) {
+            throw new FirecrawlException("Invalid batch scrape parameters: URLs must not be empty");
+        }
+        for (String url : urls) {
+            Objects.requireNonNull(url, "URL must not be null");
+        }
+        if (params != null) {
+            try {
+                params.validate();
+            } catch (ValidationException e) {
+                throw new FirecrawlException("Invalid batch scrape parameters: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private JsonRequestBody buildBody(List<String> urls, BatchScrapeParams params) {
+        return jsonBody(writer -> {
+            writer.beginObject();
+            writer.name("urls").beginArray();
+            for (String url : urls) {
+                writer.value(url);
+            }
+            writer.endArray();
+
+            if (params != null) {
+                writeScrapeOptions(writer, params.getScrapeOptions(), true);
+                if (params.getMaxConcurrency() != null) writer.name("maxConcurrency").value(params.getMaxConcurrency());
+                if (params.getIgnoreInvalidURLs() != null) writer.name("ignoreInvalidURLs").value(params.getIgnoreInvalidURLs());
+            }
+            writer.endObject();
+        });
+    }
+
+    private static int pollInterval(int... pollInterval) {
+        return pollInterval != null && pollInterval.length > 0 ? pollInterval[0] : 2;
+    }
+
+    /**
+     * Polls the batch scrape job until it stops scraping.
+     *
+     * @param jobId the batch scrape job ID
+     * @param intervalSeconds the polling interval in seconds
+     * @return the final batch scrape status response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    private BatchScrapeStatusResponse monitorJobStatus(String jobId, int intervalSeconds) throws IOException, FirecrawlException {
+        while (true) {
+            BatchScrapeStatusResponse status = getBatchScrapeStatus(jobId);
+            if (!status.isScraping()) {
+                return status;
+            }
+
+            try {
+                Thread.sleep(intervalSeconds * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while monitoring batch scrape status", e);
+            }
+        }
+    }
+
+    /**
+     * Polls the batch scrape job until it stops scraping without blocking a thread between polls.
+     *
+     * @param polling the polling loop
+     * @param jobId the batch scrape job ID
+     * @param intervalMillis the polling interval in milliseconds
+     * @param then continues the loop with the final batch scrape status response
+     */
+    private void monitorJobStatusAsync(Polling<?> polling, String jobId, long intervalMillis,
+                                       Consumer<BatchScrapeStatusResponse> then) {
+        polling.run(() -> getBatchScrapeStatusAsync(jobId), status -> {
+            if (!status.isScraping()) {
+                then.accept(status);
+                return;
+            }
+
+            polling.after(intervalMillis, TimeUnit.MILLISECONDS, () -> monitorJobStatusAsync(polling, jobId, intervalMillis, then));
+        });
+    }
+
+    /**
+     * Appends the documents of {@code page} and of every page after it to {@code documents}, and
+     * completes {@code polling} with them.
+     */
+    private void collectAsync(Polling<List<FirecrawlDocument>> polling, BatchScrapeStatusResponse page,
+                              List<FirecrawlDocument> documents) {
+        if (page.getData() != null) {
+            documents.addAll(Arrays.asList(page.getData()));
+        }
+        if (page.getNext() == null || page.getNext().isEmpty()) {
+            polling.complete(documents);
+            return;
+        }
+        polling.run(() -> getBatchScrapeStatusPageAsync(page.getNext()), next -> collectAsync(polling, next, documents));
+    }
+}
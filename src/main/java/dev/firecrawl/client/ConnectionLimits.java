@@ -0,0 +1,154 @@
+package dev.firecrawl.client;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Effective connection pool, dispatcher, and timeout settings of a {@link FirecrawlClient}.
+ * <p>
+ * Compare {@link #getMaxRequestsPerHost()} against the concurrency allowed by your Firecrawl plan:
+ * every call targets the same API host, so it caps the number of in-flight requests.
+ */
+public final class ConnectionLimits {
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final int maxIdleConnections;
+    private final Duration keepAlive;
+    private final Duration callTimeout;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final HttpTransport transport;
+
+    ConnectionLimits(int maxRequests, int maxRequestsPerHost, int maxIdleConnections, Duration keepAlive,
+                     Duration callTimeout, Duration connectTimeout, Duration readTimeout, Duration writeTimeout,
+                     HttpTransport transport) {
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = keepAlive;
+        this.callTimeout = callTimeout;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        this.transport = transport;
+    }
+
+    /**
+     * Returns the maximum number of concurrently executing requests across all hosts.
+     *
+     * @return the maximum number of concurrent requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Returns the maximum number of concurrently executing requests per host.
+     *
+     * @return the maximum number of concurrent requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Returns the maximum number of idle connections kept in the pool.
+     *
+     * @return the maximum number of idle connections
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Returns how long an idle pooled connection is kept alive.
+     *
+     * @return the keep-alive duration
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Returns the timeout for a complete call.
+     *
+     * @return the call timeout
+     */
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Returns the connect timeout.
+     *
+     * @return the connect timeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Returns the read timeout.
+     *
+     * @return the read timeout
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Returns the write timeout.
+     *
+     * @return the write timeout
+     */
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Returns the HTTP protocol negotiation mode.
+     *
+     * @return the transport mode
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConnectionLimits that = (ConnectionLimits) o;
+        return maxRequests == that.maxRequests &&
+                maxRequestsPerHost == that.maxRequestsPerHost &&
+                maxIdleConnections == that.maxIdleConnections &&
+                Objects.equals(keepAlive, that.keepAlive) &&
+                Objects.equals(callTimeout, that.callTimeout) &&
+                Objects.equals(connectTimeout, that.connectTimeout) &&
+                Objects.equals(readTimeout, that.readTimeout) &&
+                Objects.equals(writeTimeout, that.writeTimeout) &&
+                transport == that.transport;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxRequests, maxRequestsPerHost, maxIdleConnections, keepAlive,
+                callTimeout, connectTimeout, readTimeout, writeTimeout, transport);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionLimits{" +
+                "maxRequests=" + maxRequests +
+                ", maxRequestsPerHost=" + maxRequestsPerHost +
+                ", maxIdleConnections=" + maxIdleConnections +
+                ", keepAlive=" + keepAlive +
+                ", callTimeout=" + callTimeout +
+                ", connectTimeout=" + connectTimeout +
+                ", readTimeout=" + readTimeout +
+                ", writeTimeout=" + writeTimeout +
+                ", transport=" + transport +
+                '}';
+    }
+}
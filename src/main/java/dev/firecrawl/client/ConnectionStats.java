@@ -0,0 +1,98 @@
+package dev.firecrawl.client;
+
+import java.util.Objects;
+
+/**
+ * Point-in-time statistics for one pooled connection of a {@link FirecrawlClient}.
+ * <p>
+ * With HTTP/2 several calls share a connection, so {@link #getActiveStreams()} above one confirms
+ * that requests are being multiplexed. Over HTTP/1.1 it is at most one.
+ */
+public final class ConnectionStats {
+    private final String route;
+    private final String protocol;
+    private final int activeStreams;
+    private final int peakStreams;
+    private final long totalStreams;
+
+    ConnectionStats(String route, String protocol, int activeStreams, int peakStreams, long totalStreams) {
+        this.route = route;
+        this.protocol = protocol;
+        this.activeStreams = activeStreams;
+        this.peakStreams = peakStreams;
+        this.totalStreams = totalStreams;
+    }
+
+    /**
+     * Returns the remote address of the connection as {@code host:port}.
+     *
+     * @return the route
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Returns the negotiated protocol (e.g. {@code h2}, {@code h2_prior_knowledge}, {@code http/1.1}).
+     *
+     * @return the protocol
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Returns the number of calls currently using the connection.
+     *
+     * @return the active stream count
+     */
+    public int getActiveStreams() {
+        return activeStreams;
+    }
+
+    /**
+     * Returns the highest number of calls that used the connection at the same time.
+     *
+     * @return the peak stream count
+     */
+    public int getPeakStreams() {
+        return peakStreams;
+    }
+
+    /**
+     * Returns the number of calls that have used the connection since it was opened.
+     *
+     * @return the total stream count
+     */
+    public long getTotalStreams() {
+        return totalStreams;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConnectionStats that = (ConnectionStats) o;
+        return activeStreams == that.activeStreams &&
+                peakStreams == that.peakStreams &&
+                totalStreams == that.totalStreams &&
+                Objects.equals(route, that.route) &&
+                Objects.equals(protocol, that.protocol);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(route, protocol, activeStreams, peakStreams, totalStreams);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionStats{" +
+                "route='" + route + '\'' +
+                ", protocol='" + protocol + '\'' +
+                ", activeStreams=" + activeStreams +
+                ", peakStreams=" + peakStreams +
+                ", totalStreams=" + totalStreams +
+                '}';
+    }
+}
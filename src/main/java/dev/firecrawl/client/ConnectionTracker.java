@@ -0,0 +1,82 @@
+package dev.firecrawl.client;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event listener that counts how many calls share each pooled connection. A connection is dropped
+ * when it is released with its socket closed; connections the pool evicts while idle are weakly
+ * held, so they are dropped once collected.
+ */
+class ConnectionTracker extends EventListener {
+    private final Map<Connection, Counters> connections = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        connections.computeIfAbsent(connection, c -> new Counters()).acquire();
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        synchronized (connections) {
+            Counters counters = connections.get(connection);
+            if (counters != null && counters.active.decrementAndGet() <= 0 && connection.socket().isClosed()) {
+                connections.remove(connection);
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of every live connection, dropping connections whose socket has closed.
+     *
+     * @return the connection statistics
+     */
+    List<ConnectionStats> snapshot() {
+        synchronized (connections) {
+            List<ConnectionStats> out = new ArrayList<>(connections.size());
+            Iterator<Map.Entry<Connection, Counters>> it = connections.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Connection, Counters> entry = it.next();
+                Connection connection = entry.getKey();
+                Counters counters = entry.getValue();
+                Socket socket = connection.socket();
+                if (socket.isClosed() && counters.active.get() <= 0) {
+                    it.remove();
+                    continue;
+                }
+                InetSocketAddress address = connection.route().socketAddress();
+                out.add(new ConnectionStats(
+                        address.getHostString() + ":" + address.getPort(),
+                        connection.protocol().toString(),
+                        Math.max(0, counters.active.get()),
+                        counters.peak.get(),
+                        counters.total.get()));
+            }
+            return out;
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final AtomicLong total = new AtomicLong();
+
+        void acquire() {
+            int now = active.incrementAndGet();
+            total.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package dev.firecrawl.client;
+
+import dev.firecrawl.model.CrawlStatusResponse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Polls any number of crawl jobs until they finish, without a thread per job.
+ * <p>
+ * All polls are timed by one scheduler thread and sent as asynchronous requests, which run on the
+ * client's HTTP dispatcher. At most {@link Builder#maxConcurrentPolls(int)} polls are in flight
+ * at a time; polls that fall due beyond that wait their turn. Each job's polls are spread by a
+ * random jitter, and the first poll of a job falls anywhere within the first interval, so jobs
+ * added together do not poll together.
+ * <p>
+ * {@link #add(String)} returns a future completed with the job's status once it stops running,
+ * or failed if a poll fails. Jobs can be added and removed at any time; removing a job or
+ * cancelling its future stops its polls. The client's
+ * {@link FirecrawlClient.Builder#statusOnlyPolling(boolean) status-only polling} setting applies.
+ * <pre>{@code
+ * try (CrawlJobMonitor monitor = CrawlJobMonitor.builder(client)
+ *         .pollInterval(Duration.ofSeconds(5))
+ *         .build()) {
+ *     CompletableFuture<CrawlStatusResponse> done = monitor.add(jobId);
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class CrawlJobMonitor implements AutoCloseable {
+    private final CrawlService crawlService;
+    private final boolean statusOnlyPolling;
+    private final long intervalNanos;
+    private final double jitter;
+    private final int maxConcurrentPolls;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ConcurrentHashMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private final ArrayDeque<Job> due = new ArrayDeque<>();
+    private int inFlight;
+    private boolean closed;
+
+    private final LongAdder polls = new LongAdder();
+
+    private CrawlJobMonitor(Builder builder) {
+        this.crawlService = new CrawlService(builder.client);
+        this.statusOnlyPolling = builder.client.isStatusOnlyPolling();
+        this.intervalNanos = builder.pollInterval.toNanos();
+        this.jitter = builder.jitter;
+        this.maxConcurrentPolls = builder.maxConcurrentPolls;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "firecrawl-crawl-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns a new builder for a monitor polling through the given client: poll every 2 seconds
+     * with 20% jitter, at most 8 polls at a time.
+     *
+     * @param client the client to poll with
+     * @return a new builder
+     */
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Starts tracking a crawl job. Adding a job that is already tracked returns its existing
+     * future.
+     *
+     * @param jobId the crawl job ID
+     * @return a future completed with the job's final status response
+     * @throws IllegalStateException if the monitor is closed
+     */
+    public CompletableFuture<CrawlStatusResponse> add(String jobId) {
+        Objects.requireNonNull(jobId, "Crawl job ID must not be null");
+        Job job = new Job(jobId);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Crawl job monitor is closed");
+            }
+            Job existing = jobs.putIfAbsent(jobId, job);
+            if (existing != null) {
+                return existing.result;
+            }
+        }
+        job.result.whenComplete((status, error) -> {
+            jobs.remove(jobId, job);
+            ScheduledFuture<?> timer = job.timer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        });
+        schedule(job, (long) (ThreadLocalRandom.current().nextDouble() * intervalNanos));
+        return job.result;
+    }
+
+    /**
+     * Stops tracking a crawl job and cancels its future. The job itself keeps running.
+     *
+     * @param jobId the crawl job ID
+     * @return true if the job was tracked
+     */
+    public boolean remove(String jobId) {
+        Job job = jobs.remove(jobId);
+        if (job == null) {
+            return false;
+        }
+        job.result.cancel(false);
+        return true;
+    }
+
+    /**
+     * Returns the IDs of the jobs being tracked.
+     *
+     * @return a snapshot of the tracked job IDs
+     */
+    public Set<String> getJobIds() {
+        return Set.copyOf(jobs.keySet());
+    }
+
+    /**
+     * Returns the number of jobs being tracked.
+     *
+     * @return the number of tracked jobs
+     */
+    public int getJobCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Returns how many polls have been sent.
+     *
+     * @return the number of polls
+     */
+    public long getPolls() {
+        return polls.sum();
+    }
+
+    /**
+     * Stops the scheduler and cancels the futures of all tracked jobs.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            due.clear();
+        }
+        scheduler.shutdownNow();
+        for (Job job : jobs.values()) {
+            job.result.cancel(false);
+        }
+        jobs.clear();
+    }
+
+    private void schedule(Job job, long delayNanos) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                job.timer = scheduler.schedule(() -> enqueue(job), delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently
+            }
+        }
+    }
+
+    private void enqueue(Job job) {
+        synchronized (this) {
+            if (closed || job.result.isDone()) {
+                return;
+            }
+            due.add(job);
+        }
+        dispatch();
+    }
+
+    /**
+     * Sends due polls while fewer than the maximum are in flight.
+     */
+    private void dispatch() {
+        while (true) {
+            Job job;
+            synchronized (this) {
+                if (closed || inFlight >= maxConcurrentPolls) {
+                    return;
+                }
+                job = due.poll();
+                if (job == null) {
+                    return;
+                }
+                if (job.result.isDone()) {
+                    continue;
+                }
+                inFlight++;
+            }
+            poll(job);
+        }
+    }
+
+    private void poll(Job job) {
+        polls.increment();
+        // Completed with null while the job is still running
+        CompletableFuture<CrawlStatusResponse> poll;
+        if (statusOnlyPolling) {
+            poll = crawlService.checkCrawlProgressAsync(job.id).thenCompose(progress -> isRunning(progress.getStatus())
+                    ? CompletableFuture.completedFuture(null)
+                    : crawlService.checkCrawlStatusAsync(job.id));
+        } else {
+            poll = crawlService.checkCrawlStatusAsync(job.id)
+                    .thenApply(status -> isRunning(status.getStatus()) ? null : status);
+        }
+        poll.whenComplete((status, error) -> {
+            synchronized (this) {
+                inFlight--;
+            }
+            if (error != null) {
+                job.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else if (status != null) {
+                job.result.complete(status);
+            } else if (!job.result.isDone()) {
+                schedule(job, nextDelay());
+            }
+            dispatch();
+        });
+    }
+
+    private long nextDelay() {
+        double spread = jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return (long) (intervalNanos * (1 + spread));
+    }
+
+    private static boolean isRunning(String status) {
+        return status != null && "running".equalsIgnoreCase(status);
+    }
+
+    /** A tracked job. */
+    private static final class Job {
+        final String id;
+        final CompletableFuture<CrawlStatusResponse> result = new CompletableFuture<>();
+        volatile ScheduledFuture<?> timer;
+
+        Job(String id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Builder for {@link CrawlJobMonitor}.
+     */
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private Duration pollInterval = Duration.ofSeconds(2);
+        private double jitter = 0.2;
+        private int maxConcurrentPolls = 8;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "client must not be null");
+        }
+
+        /**
+         * Sets the average time between two polls of a job.
+         *
+         * @param pollInterval the polling interval
+         * @return this builder
+         */
+        public Builder pollInterval(Duration pollInterval) {
+            Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+            if (pollInterval.isZero() || pollInterval.isNegative()) {
+                throw new IllegalArgumentException("pollInterval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets how far each interval may randomly deviate from the polling interval, as a
+         * fraction of it.
+         *
+         * @param jitter the jitter, from 0 (none) up to but excluding 1
+         * @return this builder
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter < 1)) {
+                throw new IllegalArgumentException("jitter must be at least 0 and less than 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets how many polls may be in flight at a time.
+         *
+         * @param maxConcurrentPolls the maximum number of concurrent polls, at least 1
+         * @return this builder
+         */
+        public Builder maxConcurrentPolls(int maxConcurrentPolls) {
+            if (maxConcurrentPolls < 1) {
+                throw new IllegalArgumentException("maxConcurrentPolls must be positive");
+            }
+            this.maxConcurrentPolls = maxConcurrentPolls;
+            return this;
+        }
+
+        /**
+         * Builds the monitor and starts its scheduler thread.
+         *
+         * @return a new CrawlJobMonitor
+         */
+        public CrawlJobMonitor build() {
+            return new CrawlJobMonitor(this);
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package dev.firecrawl.client;
 
-import com.google.gson.JsonObject;
 import dev.firecrawl.exception.FirecrawlException;
 import dev.firecrawl.exception.ValidationException;
 import dev.firecrawl.model.CancelCrawlJobResponse;
 import dev.firecrawl.model.CrawlParams;
+import dev.firecrawl.model.CrawlProgress;
 import dev.firecrawl.model.CrawlResponse;
 import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.util.JsonRequestBody;
+import dev.firecrawl.util.PagePrefetcher;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Service for crawl-related API endpoints.
@@ -20,6 +28,9 @@ import java.util.Objects;
 class CrawlService extends BaseService {
     private static final MediaType JSON = MediaType.parse("application/json");
 
+    private final boolean statusOnlyPolling;
+    private final PagePrefetcher pagePrefetcher;
+
     /**
      * Creates a new CrawlService with the specified client.
      *
@@ -27,6 +38,8 @@ class CrawlService extends BaseService {
      */
     CrawlService(FirecrawlClient client) {
         super(client);
+        this.statusOnlyPolling = client.isStatusOnlyPolling();
+        this.pagePrefetcher = client.getPagePrefetcher();
     }
 
     /**
@@ -42,22 +55,39 @@ class CrawlService extends BaseService {
      */
     CrawlStatusResponse crawlURL(String url, CrawlParams params, String idempotencyKey, int... pollInterval) throws IOException, FirecrawlException {
         Objects.requireNonNull(url, "URL must not be null");
-        
-        if (params != null) {
-            try {
-                params.validate();
-            } catch (ValidationException e) {
-                throw new FirecrawlException("Invalid crawl parameters: " + e.getMessage(), e);
-            }
-        }
+        validate(params);
         
         CrawlResponse response = asyncCrawlURL(url, params, idempotencyKey);
         if (!response.isSuccess()) {
             throw new FirecrawlException("Crawl failed: " + response.getWarning());
         }
         
-        int interval = pollInterval.length > 0 ? pollInterval[0] : 2;
-        return monitorJobStatus(response.getId(), interval);
+        return monitorJobStatus(response.getId(), pollInterval(pollInterval));
+    }
+
+    /**
+     * Crawls the specified URL with the specified parameters without blocking the calling thread.
+     * Polling waits on a delayed executor rather than a sleeping thread. Cancelling the returned
+     * future, or letting it time out, stops polling.
+     *
+     * @param url the URL to crawl
+     * @param params the crawl parameters
+     * @param idempotencyKey the idempotency key
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the final crawl status response
+     */
+    CompletableFuture<CrawlStatusResponse> crawlURLAsync(String url, CrawlParams params, String idempotencyKey, int... pollInterval) {
+        Objects.requireNonNull(url, "URL must not be null");
+        int interval = pollInterval(pollInterval);
+        Polling<CrawlStatusResponse> polling = new Polling<>();
+        polling.run(() -> asyncCrawlURLAsync(url, params, idempotencyKey), response -> {
+            if (!response.isSuccess()) {
+                polling.fail(new FirecrawlException("Crawl failed: " + response.getWarning()));
+                return;
+            }
+            monitorJobStatusAsync(polling, response.getId(), interval);
+        });
+        return polling.result();
     }
 
     /**
@@ -72,7 +102,33 @@ class CrawlService extends BaseService {
      */
     CrawlResponse asyncCrawlURL(String url, CrawlParams params, String idempotencyKey) throws IOException, FirecrawlException {
         Objects.requireNonNull(url, "URL must not be null");
+        validate(params);
         
+        Request request = buildRequest("/v2/crawl", buildBody(url, params), idempotencyKey);
+        return executeRequest(request, CrawlResponse.class);
+    }
+
+    /**
+     * Starts a crawl job without blocking the calling thread.
+     *
+     * @param url the URL to crawl
+     * @param params the crawl parameters
+     * @param idempotencyKey the idempotency key
+     * @return a future completed with the crawl response
+     */
+    CompletableFuture<CrawlResponse> asyncCrawlURLAsync(String url, CrawlParams params, String idempotencyKey) {
+        Objects.requireNonNull(url, "URL must not be null");
+        try {
+            validate(params);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Request request = buildRequest("/v2/crawl", buildBody(url, params), idempotencyKey);
+        return executeRequestAsync(request, CrawlResponse.class);
+    }
+
+    private void validate(CrawlParams params) throws FirecrawlException {
         if (params != null) {
             try {
                 params.validate();
@@ -80,20 +136,26 @@ class CrawlService extends BaseService {
                 throw new FirecrawlException("Invalid crawl parameters: " + e.getMessage(), e);
             }
         }
-        
-        JsonObject body = new JsonObject();
-        body.addProperty("url", url);
-        
-        if (params != null) {
-            if (params.getScrapeOptions() != null) body.add("scrapeOptions", gson.toJsonTree(params.getScrapeOptions()));
-            if (params.getPrompt() != null) body.addProperty("prompt", params.getPrompt());
-            if (params.getCrawlEntireDomain() != null) body.addProperty("crawlEntireDomain", params.getCrawlEntireDomain());
-            if (params.getMaxDiscoveryDepth() != null) body.addProperty("maxDiscoveryDepth", params.getMaxDiscoveryDepth());
-            if (params.getSitemap() != null) body.addProperty("sitemap", params.getSitemap());
-        }
-        
-        Request request = buildRequest("/v2/crawl", body, idempotencyKey);
-        return executeRequest(request, CrawlResponse.class);
+    }
+
+    private JsonRequestBody buildBody(String url, CrawlParams params) {
+        return jsonBody(writer -> {
+            writer.beginObject();
+            writer.name("url").value(url);
+
+            if (params != null) {
+                if (params.getScrapeOptions() != null) writeValue(writer, "scrapeOptions", params.getScrapeOptions());
+                if (params.getPrompt() != null) writer.name("prompt").value(params.getPrompt());
+                if (params.getCrawlEntireDomain() != null) writer.name("crawlEntireDomain").value(params.getCrawlEntireDomain());
+                if (params.getMaxDiscoveryDepth() != null) writer.name("maxDiscoveryDepth").value(params.getMaxDiscoveryDepth());
+                if (params.getSitemap() != null) writer.name("sitemap").value(params.getSitemap());
+            }
+            writer.endObject();
+        });
+    }
+
+    private static int pollInterval(int... pollInterval) {
+        return pollInterval != null && pollInterval.length > 0 ? pollInterval[0] : 2;
     }
 
     /**
@@ -108,7 +170,249 @@ class CrawlService extends BaseService {
         Objects.requireNonNull(id, "Crawl job ID must not be null");
         
         Request request = buildRequest("/v2/crawl/" + id, null, null, "GET");
-        return executeRequest(request, CrawlStatusResponse.class);
+        return executeShared(request, CrawlStatusResponse.class, false);
+    }
+
+    /**
+     * Checks the status of the specified crawl job without blocking the calling thread.
+     *
+     * @param id the crawl job ID
+     * @return a future completed with the crawl status response
+     */
+    CompletableFuture<CrawlStatusResponse> checkCrawlStatusAsync(String id) {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+
+        Request request = buildRequest("/v2/crawl/" + id, null, null, "GET");
+        return executeSharedAsync(request, CrawlStatusResponse.class, false);
+    }
+
+    /**
+     * Checks the status of the specified crawl job, asking only for the documents after the
+     * first {@code skip}.
+     *
+     * @param id the crawl job ID
+     * @param skip the number of documents to skip
+     * @return the crawl status response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    CrawlStatusResponse checkCrawlStatus(String id, long skip) throws IOException, FirecrawlException {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+
+        Request request = buildRequest(statusPath(id, skip), null, null, "GET");
+        return executeShared(request, CrawlStatusResponse.class, false);
+    }
+
+    /**
+     * Checks the status of the specified crawl job, asking only for the documents after the
+     * first {@code skip}, without blocking the calling thread.
+     *
+     * @param id the crawl job ID
+     * @param skip the number of documents to skip
+     * @return a future completed with the crawl status response
+     */
+    CompletableFuture<CrawlStatusResponse> checkCrawlStatusAsync(String id, long skip) {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+
+        Request request = buildRequest(statusPath(id, skip), null, null, "GET");
+        return executeSharedAsync(request, CrawlStatusResponse.class, false);
+    }
+
+    private static String statusPath(String id, long skip) {
+        return "/v2/crawl/" + id + (skip > 0 ? "?skip=" + skip : "");
+    }
+
+    /**
+     * Polls the specified crawl job until it stops running, handing the documents of each poll to
+     * {@code onDocuments} as soon as they arrive. Each poll asks only for the documents after those
+     * already delivered, so every document is delivered once and in crawl order. While documents
+     * remain to be read, the next poll is made at once instead of after the interval.
+     *
+     * @param id the crawl job ID
+     * @param onDocuments receives each poll's new documents
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return the last crawl status response, whose documents have already been delivered
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    CrawlStatusResponse watchCrawl(String id, Consumer<List<FirecrawlDocument>> onDocuments, int... pollInterval)
+            throws IOException, FirecrawlException {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+        Objects.requireNonNull(onDocuments, "Document consumer must not be null");
+        int intervalSeconds = pollInterval(pollInterval);
+
+        long delivered = 0;
+        while (true) {
+            CrawlStatusResponse status = checkCrawlStatus(id, delivered);
+            int received = deliver(status, onDocuments);
+            delivered += received;
+
+            if (received > 0 && hasMore(status)) {
+                continue;
+            }
+            String s = status.getStatus();
+            if (s == null || !"running".equalsIgnoreCase(s)) {
+                return status;
+            }
+
+            try {
+                Thread.sleep(intervalSeconds * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while monitoring crawl status", e);
+            }
+        }
+    }
+
+    /**
+     * Polls the specified crawl job until it stops running, handing the documents of each poll to
+     * {@code onDocuments} as soon as they arrive, without blocking a thread between polls. Polls
+     * are made one after another, so {@code onDocuments} is never called concurrently. Cancelling
+     * the returned future, or letting it time out, stops polling.
+     *
+     * @param id the crawl job ID
+     * @param onDocuments receives each poll's new documents
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the last crawl status response
+     * @see #watchCrawl(String, Consumer, int...)
+     */
+    CompletableFuture<CrawlStatusResponse> watchCrawlAsync(String id, Consumer<List<FirecrawlDocument>> onDocuments,
+                                                           int... pollInterval) {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+        Objects.requireNonNull(onDocuments, "Document consumer must not be null");
+        Polling<CrawlStatusResponse> polling = new Polling<>();
+        watchCrawlAsync(polling, id, 0, onDocuments, pollInterval(pollInterval));
+        return polling.result();
+    }
+
+    private void watchCrawlAsync(Polling<CrawlStatusResponse> polling, String id, long delivered,
+                                 Consumer<List<FirecrawlDocument>> onDocuments, int intervalSeconds) {
+        polling.run(() -> checkCrawlStatusAsync(id, delivered), status -> {
+            int received = deliver(status, onDocuments);
+
+            if (received > 0 && hasMore(status)) {
+                watchCrawlAsync(polling, id, delivered + received, onDocuments, intervalSeconds);
+                return;
+            }
+            String s = status.getStatus();
+            if (s == null || !"running".equalsIgnoreCase(s)) {
+                polling.complete(status);
+                return;
+            }
+
+            polling.after(intervalSeconds, TimeUnit.SECONDS,
+                    () -> watchCrawlAsync(polling, id, delivered + received, onDocuments, intervalSeconds));
+        });
+    }
+
+    /**
+     * Hands a status response's documents to the consumer.
+     *
+     * @return the number of documents delivered
+     */
+    private static int deliver(CrawlStatusResponse status, Consumer<List<FirecrawlDocument>> onDocuments) {
+        FirecrawlDocument[] data = status.getData();
+        if (data == null || data.length == 0) {
+            return 0;
+        }
+        onDocuments.accept(Arrays.asList(data));
+        return data.length;
+    }
+
+    private static boolean hasMore(CrawlStatusResponse status) {
+        return status.getNext() != null && !status.getNext().isEmpty();
+    }
+
+    /**
+     * Fetches the page of crawl results a {@link CrawlStatusResponse#getNext()} cursor points to.
+     *
+     * @param next the next page URL
+     * @return the crawl status page
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error or the cursor is not a crawl page
+     */
+    CrawlStatusResponse checkCrawlStatusPage(String next) throws IOException, FirecrawlException {
+        Objects.requireNonNull(next, "Next page URL must not be null");
+
+        return executeRequest(buildPageRequest(next, "/v2/crawl/"), CrawlStatusResponse.class);
+    }
+
+    /**
+     * Fetches the page of crawl results a {@link CrawlStatusResponse#getNext()} cursor points to
+     * without blocking the calling thread.
+     *
+     * @param next the next page URL
+     * @return a future completed with the crawl status page
+     */
+    CompletableFuture<CrawlStatusResponse> checkCrawlStatusPageAsync(String next) {
+        Objects.requireNonNull(next, "Next page URL must not be null");
+        try {
+            return executeRequestAsync(buildPageRequest(next, "/v2/crawl/"), CrawlStatusResponse.class);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Returns the pages of a crawl's results, starting from {@code first} and fetching each
+     * further page only when it is reached.
+     *
+     * @param first the first page, as returned by a status request
+     * @return the pages
+     */
+    Iterable<CrawlStatusResponse> pages(CrawlStatusResponse first) {
+        Objects.requireNonNull(first, "First page must not be null");
+        if (pagePrefetcher != null) {
+            return pagePrefetcher.pages(first, CrawlStatusResponse::getNext, this::checkCrawlStatusPageAsync);
+        }
+        return new CursorPages<>(first, CrawlStatusResponse::getNext, this::checkCrawlStatusPage);
+    }
+
+    /**
+     * Returns the pages of the specified crawl job's results. The first page is requested when
+     * iteration starts and each further page only when it is reached.
+     *
+     * @param id the crawl job ID
+     * @return the pages
+     */
+    Iterable<CrawlStatusResponse> pages(String id) {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+        if (pagePrefetcher != null) {
+            return pagePrefetcher.pagesFrom(() -> checkCrawlStatusAsync(id), CrawlStatusResponse::getNext,
+                    this::checkCrawlStatusPageAsync);
+        }
+        return CursorPages.fetchingFirst(() -> checkCrawlStatus(id), CrawlStatusResponse::getNext, this::checkCrawlStatusPage);
+    }
+
+    /**
+     * Checks the status and progress of the specified crawl job, skipping its documents. Progress
+     * checks are only coalesced with other progress checks, never with full status checks of the
+     * same job.
+     *
+     * @param id the crawl job ID
+     * @return the crawl progress
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    CrawlProgress checkCrawlProgress(String id) throws IOException, FirecrawlException {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+
+        Request request = buildRequest("/v2/crawl/" + id, null, null, "GET");
+        return executeShared(request, CrawlProgress.class, false);
+    }
+
+    /**
+     * Checks the status and progress of the specified crawl job, skipping its documents, without
+     * blocking the calling thread.
+     *
+     * @param id the crawl job ID
+     * @return a future completed with the crawl progress
+     */
+    CompletableFuture<CrawlProgress> checkCrawlProgressAsync(String id) {
+        Objects.requireNonNull(id, "Crawl job ID must not be null");
+
+        Request request = buildRequest("/v2/crawl/" + id, null, null, "GET");
+        return executeSharedAsync(request, CrawlProgress.class, false);
     }
 
     /**
@@ -142,9 +446,10 @@ class CrawlService extends BaseService {
     com.google.gson.JsonObject crawlParamsPreview(String url, String prompt) throws IOException, FirecrawlException {
         Objects.requireNonNull(url, "URL must not be null");
         Objects.requireNonNull(prompt, "Prompt must not be null");
-        com.google.gson.JsonObject body = new com.google.gson.JsonObject();
-        body.addProperty("url", url);
-        body.addProperty("prompt", prompt);
+        JsonRequestBody body = jsonBody(writer -> writer.beginObject()
+                .name("url").value(url)
+                .name("prompt").value(prompt)
+                .endObject());
         Request request = buildRequest("/v2/crawl/params-preview", body);
         return executeRequest(request, com.google.gson.JsonObject.class);
     }
@@ -159,6 +464,9 @@ class CrawlService extends BaseService {
      * @throws FirecrawlException if the API returns an error
      */
     private CrawlStatusResponse monitorJobStatus(String jobId, int intervalSeconds) throws IOException, FirecrawlException {
+        if (statusOnlyPolling) {
+            awaitCompletion(jobId, intervalSeconds);
+        }
         while (true) {
             CrawlStatusResponse status = checkCrawlStatus(jobId);
             String s = status.getStatus();
@@ -175,4 +483,81 @@ class CrawlService extends BaseService {
             }
         }
     }
+
+    /**
+     * Polls the crawl job until completion or failure without blocking a thread between polls,
+     * completing {@code polling} with the final crawl status response.
+     *
+     * @param polling the polling loop
+     * @param jobId the crawl job ID
+     * @param intervalSeconds the polling interval in seconds
+     */
+    private void monitorJobStatusAsync(Polling<CrawlStatusResponse> polling, String jobId, int intervalSeconds) {
+        if (statusOnlyPolling) {
+            awaitCompletionAsync(polling, jobId, intervalSeconds, () -> pollJobStatusAsync(polling, jobId, intervalSeconds));
+        } else {
+            pollJobStatusAsync(polling, jobId, intervalSeconds);
+        }
+    }
+
+    private void pollJobStatusAsync(Polling<CrawlStatusResponse> polling, String jobId, int intervalSeconds) {
+        polling.run(() -> checkCrawlStatusAsync(jobId), status -> {
+            String s = status.getStatus();
+
+            if (s == null || !"running".equalsIgnoreCase(s)) {
+                polling.complete(status);
+                return;
+            }
+
+            polling.after(intervalSeconds, TimeUnit.SECONDS, () -> pollJobStatusAsync(polling, jobId, intervalSeconds));
+        });
+    }
+
+    /**
+     * Polls the crawl job's progress, without its documents, until it stops running.
+     *
+     * @param jobId the crawl job ID
+     * @param intervalSeconds the polling interval in seconds
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    private void awaitCompletion(String jobId, int intervalSeconds) throws IOException, FirecrawlException {
+        while (true) {
+            CrawlProgress progress = checkCrawlProgress(jobId);
+            String s = progress.getStatus();
+
+            if (s == null || !"running".equalsIgnoreCase(s)) {
+                return;
+            }
+
+            try {
+                Thread.sleep(intervalSeconds * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while monitoring crawl status", e);
+            }
+        }
+    }
+
+    /**
+     * Polls the crawl job's progress, without its documents, until it stops running, without
+     * blocking a thread between polls.
+     *
+     * @param polling the polling loop
+     * @param jobId the crawl job ID
+     * @param intervalSeconds the polling interval in seconds
+     * @param then continues the loop once the job has stopped running
+     */
+    private void awaitCompletionAsync(Polling<?> polling, String jobId, int intervalSeconds, Runnable then) {
+        polling.run(() -> checkCrawlProgressAsync(jobId), progress -> {
+            String s = progress.getStatus();
+
+            if (s == null || !"running".equalsIgnoreCase(s)) {
+                then.run();
+                return;
+            }
+
+            polling.after(intervalSeconds, TimeUnit.SECONDS, () -> awaitCompletionAsync(polling, jobId, intervalSeconds, then));
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package dev.firecrawl.client;
+
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.UncheckedFirecrawlException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Pages of a paged result, starting from its first page and following each page's
+ * {@code next} cursor. A page is requested only when the iterator reaches it, and an iterator
+ * keeps nothing but the page it last returned, so any number of pages can be read in constant
+ * memory. Each call to {@link #iterator()} starts again from the first page.
+ * <p>
+ * I/O errors are thrown as {@link UncheckedIOException} and API errors as
+ * {@link UncheckedFirecrawlException}.
+ *
+ * @param <P> the page type
+ */
+final class CursorPages<P> implements Iterable<P> {
+    private final P first;
+    private final FirstPageFetcher<P> firstFetcher;
+    private final Function<P, String> nextCursor;
+    private final PageFetcher<P> fetcher;
+
+    /**
+     * Creates the pages of a result.
+     *
+     * @param first the first page
+     * @param nextCursor returns a page's next page URL, or null on the last page
+     * @param fetcher fetches the page a cursor points to
+     */
+    CursorPages(P first, Function<P, String> nextCursor, PageFetcher<P> fetcher) {
+        this(first, null, nextCursor, fetcher);
+    }
+
+    private CursorPages(P first, FirstPageFetcher<P> firstFetcher, Function<P, String> nextCursor, PageFetcher<P> fetcher) {
+        this.first = first;
+        this.firstFetcher = firstFetcher;
+        this.nextCursor = nextCursor;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Creates the pages of a result whose first page is fetched when iteration starts, so that
+     * no page is held between iterations.
+     *
+     * @param firstFetcher fetches the first page
+     * @param nextCursor returns a page's next page URL, or null on the last page
+     * @param fetcher fetches the page a cursor points to
+     * @param <P> the page type
+     * @return the pages
+     */
+    static <P> CursorPages<P> fetchingFirst(FirstPageFetcher<P> firstFetcher, Function<P, String> nextCursor,
+                                            PageFetcher<P> fetcher) {
+        return new CursorPages<>(null, firstFetcher, nextCursor, fetcher);
+    }
+
+    @Override
+    public Iterator<P> iterator() {
+        return new Iterator<P>() {
+            private P last;
+            private boolean started;
+
+            @Override
+            public boolean hasNext() {
+                return !started || cursor() != null;
+            }
+
+            @Override
+            public P next() {
+                String cursor = started ? cursor() : null;
+                if (started && cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    if (started) {
+                        last = fetcher.fetch(cursor);
+                    } else {
+                        last = firstFetcher != null ? firstFetcher.fetch() : first;
+                        started = true;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (FirecrawlException e) {
+                    throw new UncheckedFirecrawlException(e);
+                }
+                return last;
+            }
+
+            private String cursor() {
+                String cursor = last != null ? nextCursor.apply(last) : null;
+                return cursor == null || cursor.isEmpty() ? null : cursor;
+            }
+        };
+    }
+
+    /**
+     * Fetches the first page.
+     *
+     * @param <P> the page type
+     */
+    @FunctionalInterface
+    interface FirstPageFetcher<P> {
+        P fetch() throws IOException, FirecrawlException;
+    }
+
+    /**
+     * Fetches the page a cursor points to.
+     *
+     * @param <P> the page type
+     */
+    @FunctionalInterface
+    interface PageFetcher<P> {
+        P fetch(String cursor) throws IOException, FirecrawlException;
+    }
+}
@@ -6,13 +6,37 @@ import dev.firecrawl.exception.ApiException;
 import dev.firecrawl.exception.FirecrawlException;
 import dev.firecrawl.exception.ValidationException;
 import dev.firecrawl.model.*;
+import dev.firecrawl.util.CircuitBreaker;
+import dev.firecrawl.util.CompressionInterceptor;
+import dev.firecrawl.util.CompressionListener;
+import dev.firecrawl.util.ConcurrencyLimiter;
+import dev.firecrawl.util.ContentDecoder;
+import dev.firecrawl.util.DocumentCache;
+import dev.firecrawl.util.GsonJsonCodec;
 import dev.firecrawl.util.HttpUtils;
+import dev.firecrawl.util.JsonCodec;
+import dev.firecrawl.util.NegativeCache;
+import dev.firecrawl.util.PagePrefetcher;
+import dev.firecrawl.util.RateLimiter;
+import dev.firecrawl.util.RequestCoalescer;
+import dev.firecrawl.util.RequestHedger;
+import dev.firecrawl.util.RetryPolicy;
+import dev.firecrawl.util.ScrapeBatcher;
+import dev.firecrawl.util.SearchCache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Client for the Firecrawl API.
@@ -21,13 +45,31 @@ public class FirecrawlClient {
     private final String apiKey;
     private final String apiUrl;
     private final OkHttpClient httpClient;
-    private final Gson gson = new Gson();
+    private final ConnectionLimits connectionLimits;
+    private final ConnectionTracker connectionTracker = new ConnectionTracker();
+    private final Gson gson = ModelTypeAdapterFactory.newGsonBuilder().create();
+    private final JsonCodec jsonCodec;
+    private final RetryPolicy retryPolicy;
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RequestHedger requestHedger;
+    private final RequestCoalescer requestCoalescer;
+    private final DocumentCache documentCache;
+    private final SearchCache searchCache;
+    private final NegativeCache negativeCache;
+    private final ScrapeBatcher scrapeBatcher;
+    private final boolean statusOnlyPolling;
+    private final PagePrefetcher pagePrefetcher;
+
+    private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(120);
 
     // Service instances
     private final SearchService searchService;
     private final ScrapeService scrapeService;
     private final MapService mapService;
     private final CrawlService crawlService;
+    private final BatchScrapeService batchScrapeService;
 
     /**
      * Creates a new FirecrawlClient with the specified API key, API URL, and timeout.
@@ -37,25 +79,84 @@ public class FirecrawlClient {
      * @param timeout the request timeout
      */
     public FirecrawlClient(String apiKey, String apiUrl, Duration timeout) {
-        this.apiKey = apiKey != null && !apiKey.isEmpty()
-                ? apiKey
+        this(new Builder().apiKey(apiKey).apiUrl(apiUrl).callTimeout(timeout));
+    }
+
+    private FirecrawlClient(Builder builder) {
+        this.apiKey = builder.apiKey != null && !builder.apiKey.isEmpty()
+                ? builder.apiKey
                 : System.getenv("FIRECRAWL_API_KEY");
         if (this.apiKey == null || this.apiKey.isEmpty()) {
             throw new IllegalArgumentException("API key must be provided");
         }
-        this.apiUrl = (apiUrl != null && !apiUrl.isEmpty())
-                ? apiUrl
+        this.apiUrl = (builder.apiUrl != null && !builder.apiUrl.isEmpty())
+                ? builder.apiUrl
                 : System.getenv().getOrDefault("FIRECRAWL_API_URL", "https://api.firecrawl.dev");
-        Duration t = timeout != null ? timeout : Duration.ofSeconds(120);
-        this.httpClient = new OkHttpClient.Builder()
-                .callTimeout(t)
-                .build();
+        if (builder.transport == HttpTransport.H2C_PRIOR_KNOWLEDGE && !this.apiUrl.startsWith("http://")) {
+            throw new IllegalArgumentException("h2c prior knowledge requires an http:// API URL");
+        }
+
+        this.jsonCodec = builder.jsonCodec != null ? builder.jsonCodec : new GsonJsonCodec(gson);
+        this.retryPolicy = builder.retryPolicy;
+        this.rateLimiter = new RateLimiter(builder.rateLimitMode, builder.rateLimitMaxWait);
+        builder.rateLimits.getLimits().forEach((endpoint, limit) ->
+                rateLimiter.setLimit(endpoint, limit.getPermits(), limit.getPeriod(), limit.getBurst()));
+        this.concurrencyLimiter = builder.concurrencyLimiter;
+        this.circuitBreaker = builder.circuitBreaker;
+        this.requestHedger = builder.requestHedger;
+        this.requestCoalescer = builder.coalesceRequests ? new RequestCoalescer() : null;
+        this.documentCache = builder.documentCache;
+        this.searchCache = builder.searchCache;
+        this.negativeCache = builder.negativeCache;
+        this.scrapeBatcher = builder.scrapeBatcher;
+        this.statusOnlyPolling = builder.statusOnlyPolling;
+        this.pagePrefetcher = builder.pagePrefetcher;
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(builder.maxRequests);
+        dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost);
+        OkHttpClient.Builder httpBuilder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(builder.maxIdleConnections,
+                        builder.keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .callTimeout(builder.callTimeout)
+                .connectTimeout(builder.connectTimeout)
+                .readTimeout(builder.readTimeout)
+                .writeTimeout(builder.writeTimeout)
+                .protocols(builder.transport.protocols())
+                .addInterceptor(new CompressionInterceptor(builder.gzipRequestThreshold, builder.compressionListener,
+                        builder.contentDecoders.toArray(new ContentDecoder[0])))
+                .eventListener(connectionTracker);
+        if (concurrencyLimiter != null) {
+            httpBuilder.addInterceptor(concurrencyLimiter.interceptor());
+        }
+        this.httpClient = httpBuilder.build();
+        this.connectionLimits = new ConnectionLimits(
+                dispatcher.getMaxRequests(),
+                dispatcher.getMaxRequestsPerHost(),
+                builder.maxIdleConnections,
+                builder.keepAlive,
+                builder.callTimeout,
+                builder.connectTimeout,
+                builder.readTimeout,
+                builder.writeTimeout,
+                builder.transport);
 
         // Initialize services
         this.searchService = new SearchService(this);
         this.scrapeService = new ScrapeService(this);
         this.mapService = new MapService(this);
         this.crawlService = new CrawlService(this);
+        this.batchScrapeService = new BatchScrapeService(this);
+    }
+
+    /**
+     * Returns a new builder for configuring connection pooling, dispatcher limits, and timeouts.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -86,6 +187,24 @@ public class FirecrawlClient {
         return search(sp);
     }
 
+    /**
+     * v2: Searches for the specified query without blocking the calling thread.
+     *
+     * @param params the search parameters
+     * @return a future completed with the search response, or exceptionally with an
+     *         {@link IOException} or {@link FirecrawlException}
+     */
+    public CompletableFuture<SearchResponse> searchAsync(SearchParams params) {
+        return searchService.searchAsync(params);
+    }
+
+    /**
+     * v2: Searches for the specified query without blocking the calling thread.
+     */
+    public CompletableFuture<SearchResponse> searchAsync(String query) {
+        return searchAsync(new SearchParams(query));
+    }
+
     /**
      * Searches for the specified query with the specified legacy parameters.
      *
@@ -122,6 +241,18 @@ public class FirecrawlClient {
         return scrapeService.scrapeURL(url, params);
     }
 
+    /**
+     * v2: Scrapes the specified URL without blocking the calling thread.
+     *
+     * @param url the URL to scrape
+     * @param params the scrape parameters
+     * @return a future completed with the scraped document, or exceptionally with an
+     *         {@link IOException} or {@link FirecrawlException}
+     */
+    public CompletableFuture<FirecrawlDocument> scrapeAsync(String url, ScrapeParams params) {
+        return scrapeService.scrapeURLAsync(url, params);
+    }
+
     /**
      * Maps the specified URL with the specified parameters.
      *
@@ -143,6 +274,18 @@ public class FirecrawlClient {
         return mapService.mapURL(url, params);
     }
 
+    /**
+     * v2: Maps the specified URL without blocking the calling thread.
+     *
+     * @param url the URL to map
+     * @param params the map parameters
+     * @return a future completed with the map response, or exceptionally with an
+     *         {@link IOException} or {@link FirecrawlException}
+     */
+    public CompletableFuture<MapResponse> mapAsync(String url, MapParams params) {
+        return mapService.mapURLAsync(url, params);
+    }
+
     /**
      * Crawls the specified URL with the specified parameters.
      *
@@ -150,7 +293,8 @@ public class FirecrawlClient {
      * @param params the crawl parameters
      * @param idempotencyKey the idempotency key
      * @param pollInterval the polling interval in seconds (default: 2)
-     * @return the crawl status response
+     * @return the first page of the final crawl status; use
+     *         {@link #crawlDocuments(CrawlStatusResponse)} to read the documents of every page
      * @throws IOException if an I/O error occurs
      * @throws FirecrawlException if the API returns an error
      */
@@ -159,13 +303,28 @@ public class FirecrawlClient {
     }
 
     /**
-     * v2: Crawls the specified URL (waiter). Generates an idempotency key.
+     * v2: Crawls the specified URL (waiter). Generates an idempotency key. Returns the first page
+     * of results; use {@link #crawlDocuments(CrawlStatusResponse)} to read every page.
      */
     public CrawlStatusResponse crawl(String url, CrawlParams params, int... pollInterval) throws IOException, FirecrawlException {
         String key = java.util.UUID.randomUUID().toString();
         return crawlService.crawlURL(url, params, key, pollInterval);
     }
 
+    /**
+     * v2: Crawls the specified URL without blocking the calling thread. Generates an idempotency key.
+     * Status polls are scheduled on a delayed executor, so no thread is parked between polls.
+     *
+     * @param url the URL to crawl
+     * @param params the crawl parameters
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the final crawl status response
+     */
+    public CompletableFuture<CrawlStatusResponse> crawlAsync(String url, CrawlParams params, int... pollInterval) {
+        String key = java.util.UUID.randomUUID().toString();
+        return crawlService.crawlURLAsync(url, params, key, pollInterval);
+    }
+
     /**
      * v2: Starts a crawl job (async) without idempotency key.
      */
@@ -180,6 +339,20 @@ public class FirecrawlClient {
         return crawlService.asyncCrawlURL(url, params, idempotencyKey);
     }
 
+    /**
+     * v2: Starts a crawl job without blocking the calling thread.
+     */
+    public CompletableFuture<CrawlResponse> startCrawlAsync(String url, CrawlParams params) {
+        return crawlService.asyncCrawlURLAsync(url, params, null);
+    }
+
+    /**
+     * v2: Starts a crawl job with idempotency key without blocking the calling thread.
+     */
+    public CompletableFuture<CrawlResponse> startCrawlAsync(String url, CrawlParams params, String idempotencyKey) {
+        return crawlService.asyncCrawlURLAsync(url, params, idempotencyKey);
+    }
+
     /**
      * Asynchronously crawls the specified URL with the specified parameters.
      *
@@ -213,6 +386,30 @@ public class FirecrawlClient {
         return crawlService.checkCrawlStatus(id);
     }
 
+    /**
+     * v2: Gets the status and progress of a crawl job without its documents. The response's
+     * {@code data} page is skipped while it is read, so polling a large crawl stays cheap.
+     *
+     * @param id the crawl job ID
+     * @return the crawl progress
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public CrawlProgress getCrawlProgress(String id) throws IOException, FirecrawlException {
+        return crawlService.checkCrawlProgress(id);
+    }
+
+    /**
+     * v2: Gets the status and progress of a crawl job without its documents, without blocking the
+     * calling thread.
+     *
+     * @param id the crawl job ID
+     * @return a future completed with the crawl progress
+     */
+    public CompletableFuture<CrawlProgress> getCrawlProgressAsync(String id) {
+        return crawlService.checkCrawlProgressAsync(id);
+    }
+
     /**
      * Cancels the specified crawl job.
      *
@@ -232,6 +429,130 @@ public class FirecrawlClient {
         return crawlService.cancelCrawlJob(id);
     }
 
+    /**
+     * v2: Polls a crawl job until it stops running and hands the documents it has crawled since
+     * the previous poll to {@code onDocuments} as soon as they arrive, so they can be processed
+     * while the crawl runs. Each poll asks only for documents after those already delivered, so
+     * every document is delivered once and in order. An exception thrown by {@code onDocuments}
+     * stops polling and is rethrown.
+     *
+     * @param id the crawl job ID, as returned by {@link #startCrawl}
+     * @param onDocuments receives each poll's new documents
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return the last crawl status response, whose documents have already been delivered
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public CrawlStatusResponse watchCrawl(String id, Consumer<List<FirecrawlDocument>> onDocuments, int... pollInterval)
+            throws IOException, FirecrawlException {
+        return crawlService.watchCrawl(id, onDocuments, pollInterval);
+    }
+
+    /**
+     * v2: Polls a crawl job until it stops running and hands the documents it has crawled since
+     * the previous poll to {@code onDocuments}, without blocking the calling thread. Polls are made
+     * one after another, so {@code onDocuments} is never called concurrently; it runs on the
+     * thread that completed the poll and should hand slow work off.
+     *
+     * @param id the crawl job ID, as returned by {@link #startCrawl}
+     * @param onDocuments receives each poll's new documents
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the last crawl status response
+     * @see #watchCrawl(String, Consumer, int...)
+     */
+    public CompletableFuture<CrawlStatusResponse> watchCrawlAsync(String id, Consumer<List<FirecrawlDocument>> onDocuments,
+                                                                  int... pollInterval) {
+        return crawlService.watchCrawlAsync(id, onDocuments, pollInterval);
+    }
+
+    /**
+     * v2: Fetches the page of crawl results that a {@code next} cursor points to. Only the
+     * cursor's path and query are used; the request goes to this client's API URL.
+     *
+     * @param next the next page URL from {@link CrawlStatusResponse#getNext()}
+     * @return the crawl status page
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public CrawlStatusResponse getCrawlStatusPage(String next) throws IOException, FirecrawlException {
+        return crawlService.checkCrawlStatusPage(next);
+    }
+
+    /**
+     * v2: Fetches the page of crawl results that a {@code next} cursor points to without blocking
+     * the calling thread.
+     *
+     * @param next the next page URL from {@link CrawlStatusResponse#getNext()}
+     * @return a future completed with the crawl status page
+     */
+    public CompletableFuture<CrawlStatusResponse> getCrawlStatusPageAsync(String next) {
+        return crawlService.checkCrawlStatusPageAsync(next);
+    }
+
+    /**
+     * v2: Returns the pages of a crawl's results, starting with {@code first} and following each
+     * page's {@code next} cursor. A page is fetched only when iteration reaches it, or ahead of
+     * it with a {@link Builder#pagePrefetcher(PagePrefetcher) page prefetcher}, and earlier pages
+     * are not retained. Errors are thrown as {@link java.io.UncheckedIOException} or
+     * {@link dev.firecrawl.exception.UncheckedFirecrawlException}.
+     *
+     * @param first the first page, as returned by {@link #crawl} or {@link #getCrawlStatus}
+     * @return the pages
+     */
+    public Iterable<CrawlStatusResponse> crawlPages(CrawlStatusResponse first) {
+        return crawlService.pages(first);
+    }
+
+    /**
+     * v2: Returns the documents of every page of a crawl's results, starting with {@code first}.
+     * The next page is fetched only when the documents of the current one have been read, and
+     * earlier pages are not retained, so crawls of any size can be read in constant memory.
+     * Errors are thrown as {@link java.io.UncheckedIOException} or
+     * {@link dev.firecrawl.exception.UncheckedFirecrawlException}.
+     *
+     * @param first the first page, as returned by {@link #crawl} or {@link #getCrawlStatus}
+     * @return the documents
+     */
+    public Iterable<FirecrawlDocument> crawlDocuments(CrawlStatusResponse first) {
+        return new PagedDocuments<>(crawlService.pages(first), CrawlStatusResponse::getData);
+    }
+
+    /**
+     * v2: Returns the documents of every page of the specified crawl job's results. Nothing is
+     * fetched until iteration starts, and each iteration reads the pages again from the first.
+     *
+     * @param id the crawl job ID
+     * @return the documents
+     * @see #crawlDocuments(CrawlStatusResponse)
+     */
+    public Iterable<FirecrawlDocument> crawlDocuments(String id) {
+        return new PagedDocuments<>(crawlService.pages(id), CrawlStatusResponse::getData);
+    }
+
+    /**
+     * v2: Returns a sequential stream of the documents of every page of a crawl's results,
+     * starting with {@code first} and fetching pages as the stream is consumed.
+     *
+     * @param first the first page, as returned by {@link #crawl} or {@link #getCrawlStatus}
+     * @return the documents
+     * @see #crawlDocuments(CrawlStatusResponse)
+     */
+    public Stream<FirecrawlDocument> crawlDocumentStream(CrawlStatusResponse first) {
+        return new PagedDocuments<>(crawlService.pages(first), CrawlStatusResponse::getData).stream();
+    }
+
+    /**
+     * v2: Returns a sequential stream of the documents of every page of the specified crawl job's
+     * results, fetching pages as the stream is consumed.
+     *
+     * @param id the crawl job ID
+     * @return the documents
+     * @see #crawlDocuments(String)
+     */
+    public Stream<FirecrawlDocument> crawlDocumentStream(String id) {
+        return new PagedDocuments<>(crawlService.pages(id), CrawlStatusResponse::getData).stream();
+    }
+
     /**
      * v2: Preview crawl parameters derived from a URL and prompt.
      */
@@ -239,6 +560,138 @@ public class FirecrawlClient {
         return crawlService.crawlParamsPreview(url, prompt);
     }
 
+    /**
+     * v2: Scrapes the specified URLs as one batch job and waits for it to finish. Generates an
+     * idempotency key.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return the first page of the final batch scrape status; use
+     *         {@link #batchScrapePages(BatchScrapeStatusResponse)} to read the remaining pages
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public BatchScrapeStatusResponse batchScrape(List<String> urls, BatchScrapeParams params, int... pollInterval)
+            throws IOException, FirecrawlException {
+        String key = java.util.UUID.randomUUID().toString();
+        return batchScrapeService.batchScrape(urls, params, key, pollInterval);
+    }
+
+    /**
+     * v2: Scrapes the specified URLs as one batch job without blocking the calling thread.
+     * Generates an idempotency key.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param pollInterval the polling interval in seconds (default: 2)
+     * @return a future completed with the first page of the final batch scrape status
+     */
+    public CompletableFuture<BatchScrapeStatusResponse> batchScrapeAsync(List<String> urls, BatchScrapeParams params, int... pollInterval) {
+        String key = java.util.UUID.randomUUID().toString();
+        return batchScrapeService.batchScrapeAsync(urls, params, key, pollInterval);
+    }
+
+    /**
+     * v2: Starts a batch scrape job without waiting for it.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @return the batch scrape response holding the job ID
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public BatchScrapeResponse startBatchScrape(List<String> urls, BatchScrapeParams params) throws IOException, FirecrawlException {
+        return batchScrapeService.startBatchScrape(urls, params, null);
+    }
+
+    /**
+     * v2: Starts a batch scrape job with idempotency key without waiting for it.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @param idempotencyKey the idempotency key
+     * @return the batch scrape response holding the job ID
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public BatchScrapeResponse startBatchScrape(List<String> urls, BatchScrapeParams params, String idempotencyKey)
+            throws IOException, FirecrawlException {
+        return batchScrapeService.startBatchScrape(urls, params, idempotencyKey);
+    }
+
+    /**
+     * v2: Starts a batch scrape job without blocking the calling thread.
+     *
+     * @param urls the URLs to scrape
+     * @param params the batch scrape parameters
+     * @return a future completed with the batch scrape response
+     */
+    public CompletableFuture<BatchScrapeResponse> startBatchScrapeAsync(List<String> urls, BatchScrapeParams params) {
+        return batchScrapeService.startBatchScrapeAsync(urls, params, null);
+    }
+
+    /**
+     * v2: Gets the status and first page of results of a batch scrape job.
+     *
+     * @param id the batch scrape job ID
+     * @return the batch scrape status response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public BatchScrapeStatusResponse getBatchScrapeStatus(String id) throws IOException, FirecrawlException {
+        return batchScrapeService.getBatchScrapeStatus(id);
+    }
+
+    /**
+     * v2: Gets the status of a batch scrape job without blocking the calling thread.
+     *
+     * @param id the batch scrape job ID
+     * @return a future completed with the batch scrape status response
+     */
+    public CompletableFuture<BatchScrapeStatusResponse> getBatchScrapeStatusAsync(String id) {
+        return batchScrapeService.getBatchScrapeStatusAsync(id);
+    }
+
+    /**
+     * v2: Fetches the page of batch scrape results that a {@code next} cursor points to. Only the
+     * cursor's path and query are used; the request goes to this client's API URL.
+     *
+     * @param next the next page URL from {@link BatchScrapeStatusResponse#getNext()}
+     * @return the batch scrape status page
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public BatchScrapeStatusResponse getBatchScrapeStatusPage(String next) throws IOException, FirecrawlException {
+        return batchScrapeService.getBatchScrapeStatusPage(next);
+    }
+
+    /**
+     * v2: Returns the pages of a batch scrape's results, starting with {@code first} and following
+     * each page's {@code next} cursor. A page is fetched only when iteration reaches it and earlier
+     * pages are not retained, so results of any size can be read page by page. Errors are thrown
+     * as {@link java.io.UncheckedIOException} or
+     * {@link dev.firecrawl.exception.UncheckedFirecrawlException}.
+     *
+     * @param first the first page, as returned by {@link #batchScrape} or {@link #getBatchScrapeStatus}
+     * @return the pages
+     */
+    public Iterable<BatchScrapeStatusResponse> batchScrapePages(BatchScrapeStatusResponse first) {
+        return batchScrapeService.pages(first);
+    }
+
+    /**
+     * v2: Cancels a batch scrape job.
+     *
+     * @param id the batch scrape job ID
+     * @return the cancel response
+     * @throws IOException if an I/O error occurs
+     * @throws FirecrawlException if the API returns an error
+     */
+    public CancelCrawlJobResponse cancelBatchScrape(String id) throws IOException, FirecrawlException {
+        return batchScrapeService.cancelBatchScrape(id);
+    }
+
     /**
      * Returns the API key.
      *
@@ -274,4 +727,584 @@ public class FirecrawlClient {
     Gson getGson() {
         return gson;
     }
+
+    /**
+     * Returns the codec used to decode responses.
+     *
+     * @return the JSON codec
+     */
+    JsonCodec getJsonCodec() {
+        return jsonCodec;
+    }
+
+    /**
+     * Returns the policy deciding which failed calls are retried.
+     *
+     * @return the retry policy
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Returns the client-side rate limiter. Limits, mode and maximum wait can be changed at any time
+     * and apply to calls started afterwards.
+     *
+     * @return the rate limiter
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Returns the adaptive concurrency limiter, whose current limit, in-flight calls and rejections
+     * can be read at any time.
+     *
+     * @return the concurrency limiter, or null if none was configured
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Returns the per-endpoint circuit breakers, whose states can be read or reset at any time.
+     *
+     * @return the circuit breaker, or null if none was configured
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the hedger of scrape and search requests, whose hedge and win counts can be read at
+     * any time.
+     *
+     * @return the request hedger, or null if hedging is disabled
+     */
+    public RequestHedger getRequestHedger() {
+        return requestHedger;
+    }
+
+    /**
+     * Returns the coalescer shared by identical in-flight reads, whose call and coalesced counts can
+     * be read at any time.
+     *
+     * @return the request coalescer, or null if coalescing is disabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Returns the cache of scraped documents, whose statistics can be read at any time.
+     *
+     * @return the document cache, or null if none was configured
+     */
+    public DocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * Returns the cache of search responses, whose statistics can be read at any time.
+     *
+     * @return the search cache, or null if none was configured
+     */
+    public SearchCache getSearchCache() {
+        return searchCache;
+    }
+
+    /**
+     * Returns the cache of failed scrapes, whose statistics can be read at any time.
+     *
+     * @return the negative cache, or null if none was configured
+     */
+    public NegativeCache getNegativeCache() {
+        return negativeCache;
+    }
+
+    /**
+     * Returns the batcher that groups concurrent scrapes into batch jobs, whose statistics can be
+     * read at any time.
+     *
+     * @return the scrape batcher, or null if none was configured
+     */
+    public ScrapeBatcher getScrapeBatcher() {
+        return scrapeBatcher;
+    }
+
+    /**
+     * Returns whether crawl polling reads only the job status until the crawl finishes.
+     *
+     * @return true if status-only polling is enabled
+     */
+    public boolean isStatusOnlyPolling() {
+        return statusOnlyPolling;
+    }
+
+    /**
+     * Returns the prefetcher that reads crawl and batch scrape result pages ahead of the
+     * consumer, whose statistics can be read at any time.
+     *
+     * @return the page prefetcher, or null if none was configured
+     */
+    public PagePrefetcher getPagePrefetcher() {
+        return pagePrefetcher;
+    }
+
+    /**
+     * Returns the effective connection and concurrency limits of this client.
+     *
+     * @return the connection limits
+     */
+    public ConnectionLimits getConnectionLimits() {
+        return connectionLimits;
+    }
+
+    /**
+     * Returns per-connection statistics for the pooled connections of this client. Under HTTP/2,
+     * concurrent calls show up as several active streams on the same connection.
+     *
+     * @return the connection statistics
+     */
+    public List<ConnectionStats> getConnectionStats() {
+        return connectionTracker.snapshot();
+    }
+
+    /**
+     * Builder for {@link FirecrawlClient}.
+     * <p>
+     * Defaults match the {@link FirecrawlClient#FirecrawlClient(String, String, Duration)} constructor:
+     * a 120 second call timeout and OkHttp's standard pool and dispatcher settings (64 concurrent
+     * requests, 5 per host, 5 idle connections kept alive for 5 minutes). The per-host limit is
+     * usually the one to raise, since every call goes to the same API host. Dispatcher limits apply
+     * to the non-blocking {@code ...Async} methods; blocking calls run on the caller's thread.
+     */
+    public static final class Builder {
+        private String apiKey;
+        private String apiUrl;
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private Duration callTimeout = DEFAULT_CALL_TIMEOUT;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration writeTimeout = Duration.ofSeconds(10);
+        private HttpTransport transport = HttpTransport.HTTP_2;
+        private final List<ContentDecoder> contentDecoders = new ArrayList<>();
+        private long gzipRequestThreshold = -1L;
+        private CompressionListener compressionListener;
+        private JsonCodec jsonCodec;
+        private RetryPolicy retryPolicy = RetryPolicy.defaults();
+        private final RateLimiter rateLimits = new RateLimiter();
+        private RateLimiter.Mode rateLimitMode = RateLimiter.Mode.WAIT;
+        private Duration rateLimitMaxWait = Duration.ofMinutes(1);
+        private ConcurrencyLimiter concurrencyLimiter;
+        private CircuitBreaker circuitBreaker;
+        private RequestHedger requestHedger;
+        private boolean coalesceRequests;
+        private DocumentCache documentCache;
+        private SearchCache searchCache;
+        private NegativeCache negativeCache;
+        private ScrapeBatcher scrapeBatcher;
+        private boolean statusOnlyPolling;
+        private PagePrefetcher pagePrefetcher;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the API key (falls back to {@code FIRECRAWL_API_KEY} when null or empty).
+         *
+         * @param apiKey the API key
+         * @return this builder
+         */
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        /**
+         * Sets the API URL (falls back to {@code FIRECRAWL_API_URL}, then the public endpoint, when null or empty).
+         *
+         * @param apiUrl the API URL
+         * @return this builder
+         */
+        public Builder apiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests executing concurrently across all hosts.
+         *
+         * @param maxRequests the maximum number of concurrent requests
+         * @return this builder
+         */
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("maxRequests must be at least 1");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests executing concurrently against a single host.
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests per host
+         * @return this builder
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("maxRequestsPerHost must be at least 1");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool.
+         *
+         * @param maxIdleConnections the maximum number of idle connections
+         * @return this builder
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle pooled connection is kept alive.
+         *
+         * @param keepAlive the keep-alive duration
+         * @return this builder
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = requirePositive(keepAlive, "keepAlive");
+            return this;
+        }
+
+        /**
+         * Sets the timeout for a complete call (null for the 120 second default).
+         *
+         * @param callTimeout the call timeout
+         * @return this builder
+         */
+        public Builder callTimeout(Duration callTimeout) {
+            this.callTimeout = callTimeout != null ? callTimeout : DEFAULT_CALL_TIMEOUT;
+            return this;
+        }
+
+        /**
+         * Sets the connect timeout.
+         *
+         * @param connectTimeout the connect timeout
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the read timeout. Scrapes can keep a connection silent for a long time, so raise this
+         * together with the call timeout.
+         *
+         * @param readTimeout the read timeout
+         * @return this builder
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = Objects.requireNonNull(readTimeout, "readTimeout must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the write timeout.
+         *
+         * @param writeTimeout the write timeout
+         * @return this builder
+         */
+        public Builder writeTimeout(Duration writeTimeout) {
+            this.writeTimeout = Objects.requireNonNull(writeTimeout, "writeTimeout must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the HTTP protocol negotiation mode. {@link HttpTransport#H2C_PRIOR_KNOWLEDGE} requires an
+         * {@code http://} API URL.
+         *
+         * @param transport the transport mode
+         * @return this builder
+         */
+        public Builder transport(HttpTransport transport) {
+            this.transport = Objects.requireNonNull(transport, "transport must not be null");
+            return this;
+        }
+
+        /**
+         * Registers a response decoder (e.g. brotli) in addition to the built-in gzip support. Encodings
+         * are advertised in {@code Accept-Encoding} in registration order, ahead of gzip.
+         *
+         * @param decoder the content decoder
+         * @return this builder
+         */
+        public Builder contentDecoder(ContentDecoder decoder) {
+            this.contentDecoders.add(Objects.requireNonNull(decoder, "decoder must not be null"));
+            return this;
+        }
+
+        /**
+         * Sends request bodies gzip-compressed once they reach the given size. Useful for large
+         * {@code actions}/{@code headers} payloads and bulk URL lists. Disabled by default; the
+         * server must accept {@code Content-Encoding: gzip}.
+         *
+         * @param thresholdBytes the minimum body size to compress
+         * @return this builder
+         */
+        public Builder gzipRequestsAbove(long thresholdBytes) {
+            if (thresholdBytes < 0) {
+                throw new IllegalArgumentException("thresholdBytes must not be negative");
+            }
+            this.gzipRequestThreshold = thresholdBytes;
+            return this;
+        }
+
+        /**
+         * Sets a listener that receives per-call bytes-on-wire statistics.
+         *
+         * @param listener the compression listener
+         * @return this builder
+         */
+        public Builder compressionListener(CompressionListener listener) {
+            this.compressionListener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the codec used to decode responses. Defaults to a {@link GsonJsonCodec} with the SDK's
+         * model adapters; {@code dev.firecrawl.util.jackson.JacksonJsonCodec} is available when
+         * jackson-databind is on the classpath.
+         *
+         * @param codec the JSON codec, or null for the default
+         * @return this builder
+         */
+        public Builder jsonCodec(JsonCodec codec) {
+            this.jsonCodec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the policy deciding which failed calls are retried and how long to wait between
+         * attempts. Defaults to {@link RetryPolicy#defaults()}; use {@link RetryPolicy#none()} to
+         * disable retries.
+         *
+         * @param retryPolicy the retry policy
+         * @return this builder
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+            return this;
+        }
+
+        /**
+         * Limits calls to an endpoint and everything below it (e.g. {@code /v2/scrape}) to
+         * {@code permits} per {@code period}, allowing bursts of up to {@code permits} calls.
+         *
+         * @param endpoint the endpoint path prefix
+         * @param permits the calls allowed per period
+         * @param period the period
+         * @return this builder
+         */
+        public Builder rateLimit(String endpoint, int permits, Duration period) {
+            return rateLimit(endpoint, permits, period, permits);
+        }
+
+        /**
+         * Limits calls to an endpoint and everything below it to {@code permits} per
+         * {@code period}, allowing bursts of up to {@code burst} calls.
+         *
+         * @param endpoint the endpoint path prefix
+         * @param permits the calls allowed per period
+         * @param period the period
+         * @param burst the most calls allowed back to back
+         * @return this builder
+         */
+        public Builder rateLimit(String endpoint, int permits, Duration period, int burst) {
+            this.rateLimits.setLimit(endpoint, permits, period, burst);
+            return this;
+        }
+
+        /**
+         * Sets whether rate-limited calls wait for a permit (the default) or fail fast with a
+         * {@link dev.firecrawl.exception.RateLimitExceededException}.
+         *
+         * @param mode the rate limit mode
+         * @return this builder
+         */
+        public Builder rateLimitMode(RateLimiter.Mode mode) {
+            this.rateLimitMode = Objects.requireNonNull(mode, "mode must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the longest a call waits for a rate limit permit before failing (default 1 minute).
+         *
+         * @param maxWait the maximum wait
+         * @return this builder
+         */
+        public Builder rateLimitMaxWait(Duration maxWait) {
+            Objects.requireNonNull(maxWait, "maxWait must not be null");
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+            this.rateLimitMaxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Caps the calls in flight with an adaptive limit that grows while latency stays flat and
+         * backs off on overload responses and rising latency. Disabled by default.
+         *
+         * @param concurrencyLimiter the concurrency limiter, or null to disable
+         * @return this builder
+         */
+        public Builder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
+        /**
+         * Fails calls fast with a {@link dev.firecrawl.exception.CircuitBreakerOpenException} while
+         * their endpoint's error rate or slow-call rate is too high. Disabled by default.
+         *
+         * @param circuitBreaker the circuit breaker, or null to disable
+         * @return this builder
+         */
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Hedges scrape and search requests: one still unanswered after a high percentile of recent
+         * latency is sent again, and the first response wins. Disabled by default.
+         *
+         * @param requestHedger the request hedger, or null to disable
+         * @return this builder
+         */
+        public Builder hedging(RequestHedger requestHedger) {
+            this.requestHedger = requestHedger;
+            return this;
+        }
+
+        /**
+         * Lets identical scrape, search, map and crawl status calls made while one is in flight
+         * share its response instead of sending their own. Callers then receive the same response
+         * object, which must not be modified. Disabled by default.
+         *
+         * @param coalesceRequests whether to coalesce identical reads
+         * @return this builder
+         */
+        public Builder coalesceRequests(boolean coalesceRequests) {
+            this.coalesceRequests = coalesceRequests;
+            return this;
+        }
+
+        /**
+         * Serves repeated scrapes from a local cache for as long as their {@code maxAge} allows.
+         * Disabled by default.
+         *
+         * @param documentCache the document cache, or null to disable
+         * @return this builder
+         */
+        public Builder documentCache(DocumentCache documentCache) {
+            this.documentCache = documentCache;
+            return this;
+        }
+
+        /**
+         * Answers repeated searches from a local cache until they expire, refreshing frequently
+         * repeated ones in the background. Disabled by default.
+         *
+         * @param searchCache the search cache, or null to disable
+         * @return this builder
+         */
+        public Builder searchCache(SearchCache searchCache) {
+            this.searchCache = searchCache;
+            return this;
+        }
+
+        /**
+         * Refuses scrapes of URLs that recently failed deterministically, with a
+         * {@link dev.firecrawl.exception.CachedFailureException}, instead of sending them again.
+         * Disabled by default.
+         *
+         * @param negativeCache the negative cache, or null to disable
+         * @return this builder
+         */
+        public Builder negativeCache(NegativeCache negativeCache) {
+            this.negativeCache = negativeCache;
+            return this;
+        }
+
+        /**
+         * Sends concurrent scrapes with equal parameters as batch scrape jobs, completing each
+         * scrape with its own document. Disabled by default.
+         *
+         * @param scrapeBatcher the scrape batcher, or null to disable
+         * @return this builder
+         */
+        public Builder scrapeBatcher(ScrapeBatcher scrapeBatcher) {
+            this.scrapeBatcher = scrapeBatcher;
+            return this;
+        }
+
+        /**
+         * Makes {@code crawl} and {@code crawlAsync} poll with {@link FirecrawlClient#getCrawlProgress}
+         * while the crawl runs, skipping the documents of every poll. The full status with its
+         * documents is fetched once, after the crawl has finished, which costs one more request.
+         * Disabled by default.
+         *
+         * @param statusOnlyPolling whether to poll for status only
+         * @return this builder
+         */
+        public Builder statusOnlyPolling(boolean statusOnlyPolling) {
+            this.statusOnlyPolling = statusOnlyPolling;
+            return this;
+        }
+
+        /**
+         * Reads the pages of crawl and batch scrape results ahead of the consumer when they are
+         * iterated with {@code crawlPages}, {@code crawlDocuments} or {@code batchScrapePages}.
+         * Disabled by default, in which case each page is requested when it is reached.
+         *
+         * @param pagePrefetcher the page prefetcher, or null to disable
+         * @return this builder
+         */
+        public Builder pagePrefetcher(PagePrefetcher pagePrefetcher) {
+            this.pagePrefetcher = pagePrefetcher;
+            return this;
+        }
+
+        /**
+         * Builds the client.
+         *
+         * @return a new FirecrawlClient
+         */
+        public FirecrawlClient build() {
+            return new FirecrawlClient(this);
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            Objects.requireNonNull(value, name + " must not be null");
+            if (value.isZero() || value.isNegative()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package dev.firecrawl.client;
+
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * HTTP protocol negotiation mode used by a {@link FirecrawlClient}.
+ */
+public enum HttpTransport {
+    /**
+     * HTTP/1.1 only: one TCP connection per in-flight request.
+     */
+    HTTP_1_1(Protocol.HTTP_1_1),
+
+    /**
+     * HTTP/2 negotiated over TLS with ALPN, falling back to HTTP/1.1 when the server or a
+     * cleartext {@code http://} endpoint does not offer it. Concurrent calls share multiplexed
+     * connections. This is the default.
+     */
+    HTTP_2(Protocol.HTTP_2, Protocol.HTTP_1_1),
+
+    /**
+     * Cleartext HTTP/2 (h2c) with prior knowledge, for in-cluster {@code http://} endpoints that are
+     * known to speak HTTP/2. There is no fallback: the server must accept HTTP/2 without an upgrade.
+     */
+    H2C_PRIOR_KNOWLEDGE(Protocol.H2_PRIOR_KNOWLEDGE);
+
+    private final List<Protocol> protocols;
+
+    HttpTransport(Protocol... protocols) {
+        this.protocols = Collections.unmodifiableList(Arrays.asList(protocols));
+    }
+
+    /**
+     * Returns the OkHttp protocols offered in this mode.
+     *
+     * @return the protocols
+     */
+    List<Protocol> protocols() {
+        return protocols;
+    }
+}
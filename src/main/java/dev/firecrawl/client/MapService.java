@@ -1,14 +1,15 @@
 package dev.firecrawl.client;
 
-import com.google.gson.JsonObject;
 import dev.firecrawl.exception.FirecrawlException;
 import dev.firecrawl.exception.ValidationException;
 import dev.firecrawl.model.MapParams;
 import dev.firecrawl.model.MapResponse;
+import dev.firecrawl.util.JsonRequestBody;
 import okhttp3.Request;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for map-related API endpoints.
@@ -34,7 +35,39 @@ class MapService extends BaseService {
      */
     MapResponse mapURL(String url, MapParams params) throws IOException, FirecrawlException {
         Objects.requireNonNull(url, "URL must not be null");
-        
+        validate(params);
+
+        Request request = buildRequest("/v2/map", buildBody(url, params));
+        return unwrap(executeShared(request, MapResponse.class, false));
+    }
+
+    /**
+     * Maps the specified URL with the specified parameters without blocking the calling thread.
+     *
+     * @param url the URL to map
+     * @param params the map parameters
+     * @return a future completed with the map response
+     */
+    CompletableFuture<MapResponse> mapURLAsync(String url, MapParams params) {
+        Objects.requireNonNull(url, "URL must not be null");
+        try {
+            validate(params);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Request request = buildRequest("/v2/map", buildBody(url, params));
+        CompletableFuture<MapResponse> call = executeSharedAsync(request, MapResponse.class, false);
+        return detachOnCompletion(call.thenCompose(response -> {
+            try {
+                return CompletableFuture.completedFuture(unwrap(response));
+            } catch (FirecrawlException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }), call);
+    }
+
+    private void validate(MapParams params) throws FirecrawlException {
         if (params != null) {
             try {
                 params.validate();
@@ -42,20 +75,24 @@ class MapService extends BaseService {
                 throw new FirecrawlException("Invalid map parameters: " + e.getMessage(), e);
             }
         }
-        
-        JsonObject body = new JsonObject();
-        body.addProperty("url", url);
-        
-        if (params != null) {
-            if (params.getIncludeSubdomains() != null) body.addProperty("includeSubdomains", params.getIncludeSubdomains());
-            if (params.getSearch() != null) body.addProperty("search", params.getSearch());
-            if (params.getIgnoreSitemap() != null) body.addProperty("ignoreSitemap", params.getIgnoreSitemap());
-            if (params.getLimit() != null) body.addProperty("limit", params.getLimit());
-        }
-        
-        Request request = buildRequest("/v2/map", body);
-        MapResponse response = executeRequest(request, MapResponse.class);
-        
+    }
+
+    private JsonRequestBody buildBody(String url, MapParams params) {
+        return jsonBody(writer -> {
+            writer.beginObject();
+            writer.name("url").value(url);
+
+            if (params != null) {
+                if (params.getIncludeSubdomains() != null) writer.name("includeSubdomains").value(params.getIncludeSubdomains());
+                if (params.getSearch() != null) writer.name("search").value(params.getSearch());
+                if (params.getIgnoreSitemap() != null) writer.name("ignoreSitemap").value(params.getIgnoreSitemap());
+                if (params.getLimit() != null) writer.name("limit").value(params.getLimit());
+            }
+            writer.endObject();
+        });
+    }
+
+    private MapResponse unwrap(MapResponse response) throws FirecrawlException {
         if (!response.isSuccess()) {
             throw new FirecrawlException("Map failed: " + response.getWarning());
         }
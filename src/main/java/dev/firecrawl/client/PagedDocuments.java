@@ -0,0 +1,75 @@
+package dev.firecrawl.client;
+
+import dev.firecrawl.model.FirecrawlDocument;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The documents of a paged result, read one page at a time. An iterator holds only the page
+ * it is reading, and the next page is fetched when the last document of the current one has been
+ * returned. Each call to {@link #iterator()} starts again from the first page.
+ *
+ * @param <P> the page type
+ */
+final class PagedDocuments<P> implements Iterable<FirecrawlDocument> {
+    private final Iterable<P> pages;
+    private final Function<P, FirecrawlDocument[]> documents;
+
+    /**
+     * Creates the documents of a paged result.
+     *
+     * @param pages the pages
+     * @param documents returns a page's documents, or null if it has none
+     */
+    PagedDocuments(Iterable<P> pages, Function<P, FirecrawlDocument[]> documents) {
+        this.pages = pages;
+        this.documents = documents;
+    }
+
+    @Override
+    public Spliterator<FirecrawlDocument> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<FirecrawlDocument> iterator() {
+        Iterator<P> pageIterator = pages.iterator();
+        return new Iterator<FirecrawlDocument>() {
+            private FirecrawlDocument[] page;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                // Pages may be empty, so keep fetching until a document or the last page is reached
+                while ((page == null || index >= page.length) && pageIterator.hasNext()) {
+                    page = documents.apply(pageIterator.next());
+                    index = 0;
+                }
+                return page != null && index < page.length;
+            }
+
+            @Override
+            public FirecrawlDocument next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page[index++];
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the documents, fetching pages as the stream is consumed.
+     *
+     * @return the documents
+     */
+    Stream<FirecrawlDocument> stream() {
+        return StreamSupport.stream(this::spliterator, Spliterator.ORDERED, false);
+    }
+}
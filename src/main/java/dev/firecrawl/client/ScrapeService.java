@@ -1,20 +1,33 @@
 package dev.firecrawl.client;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import dev.firecrawl.exception.CachedFailureException;
 import dev.firecrawl.exception.FirecrawlException;
 import dev.firecrawl.exception.ValidationException;
 import dev.firecrawl.model.FirecrawlDocument;
 import dev.firecrawl.model.ScrapeParams;
 import dev.firecrawl.model.ScrapeResponse;
+import dev.firecrawl.util.DocumentCache;
+import dev.firecrawl.util.JsonRequestBody;
+import dev.firecrawl.util.NegativeCache;
+import dev.firecrawl.util.ScrapeBatcher;
 import okhttp3.Request;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Service for scrape-related API endpoints.
  */
 class ScrapeService extends BaseService {
+    private final DocumentCache documentCache;
+    private final NegativeCache negativeCache;
+    private final ScrapeBatcher scrapeBatcher;
+    private final ScrapeBatcher.Sender batchSender;
+
     /**
      * Creates a new ScrapeService with the specified client.
      *
@@ -22,6 +35,10 @@ class ScrapeService extends BaseService {
      */
     ScrapeService(FirecrawlClient client) {
         super(client);
+        this.documentCache = client.getDocumentCache();
+        this.negativeCache = client.getNegativeCache();
+        this.scrapeBatcher = client.getScrapeBatcher();
+        this.batchSender = scrapeBatcher != null ? new BatchSender(new BatchScrapeService(client)) : null;
     }
 
     /**
@@ -35,7 +52,129 @@ class ScrapeService extends BaseService {
      */
     FirecrawlDocument scrapeURL(String url, ScrapeParams params) throws IOException, FirecrawlException {
         Objects.requireNonNull(url, "URL must not be null");
-        
+        validate(params);
+        if (negativeCache != null) {
+            CachedFailureException failure = negativeCache.getFailure(url);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        Request request = buildRequest("/v2/scrape", buildBody(url, params));
+        String key = cacheKey(url, params);
+        if (key != null) {
+            FirecrawlDocument cached = documentCache.get(key, params, () -> fetchAsync(request, url, null, params));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (scrapeBatcher != null) {
+            return await(fetchAsync(request, url, key, params));
+        }
+        FirecrawlDocument document;
+        try {
+            document = unwrap(executeShared(request, ScrapeResponse.class, true));
+        } catch (FirecrawlException e) {
+            if (negativeCache != null) {
+                negativeCache.recordFailure(url, e);
+            }
+            throw e;
+        }
+        if (negativeCache != null) {
+            negativeCache.recordSuccess(url);
+        }
+        if (key != null) {
+            documentCache.put(key, params, document);
+        }
+        return document;
+    }
+
+    /**
+     * Scrapes the specified URL with the specified parameters without blocking the calling thread.
+     *
+     * @param url the URL to scrape
+     * @param params the scrape parameters
+     * @return a future completed with the scraped document
+     */
+    CompletableFuture<FirecrawlDocument> scrapeURLAsync(String url, ScrapeParams params) {
+        Objects.requireNonNull(url, "URL must not be null");
+        try {
+            validate(params);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (negativeCache != null) {
+            CachedFailureException failure = negativeCache.getFailure(url);
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+
+        Request request = buildRequest("/v2/scrape", buildBody(url, params));
+        String key = cacheKey(url, params);
+        if (key != null) {
+            FirecrawlDocument cached = documentCache.get(key, params, () -> fetchAsync(request, url, null, params));
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        return fetchAsync(request, url, key, params);
+    }
+
+    /**
+     * Sends a scrape, or hands it to the batcher, storing the document under {@code key} unless it
+     * is null and recording the outcome in the negative cache.
+     */
+    private CompletableFuture<FirecrawlDocument> fetchAsync(Request request, String url, String key, ScrapeParams params) {
+        CompletableFuture<FirecrawlDocument> call = scrapeBatcher != null
+                ? scrapeBatcher.submit(url, params, batchSender)
+                : sendAsync(request);
+        return detachOnCompletion(call.thenApply(document -> {
+            if (negativeCache != null) {
+                negativeCache.recordSuccess(url);
+            }
+            if (key != null) {
+                documentCache.put(key, params, document);
+            }
+            return document;
+        }).whenComplete((document, error) -> {
+            if (error != null && negativeCache != null) {
+                negativeCache.recordFailure(url, unwrapCompletion(error));
+            }
+        }), call);
+    }
+
+    private CompletableFuture<FirecrawlDocument> sendAsync(Request request) {
+        CompletableFuture<ScrapeResponse> call = executeSharedAsync(request, ScrapeResponse.class, true);
+        return detachOnCompletion(call.thenCompose(response -> {
+            try {
+                return CompletableFuture.completedFuture(unwrap(response));
+            } catch (FirecrawlException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }), call);
+    }
+
+    /**
+     * Returns the document cache key of a scrape: a digest of its body without the cache-control
+     * fields. Returns null if there is no cache or the scrape must not be cached.
+     */
+    private String cacheKey(String url, ScrapeParams params) {
+        if (documentCache == null || !DocumentCache.isCacheable(params)) {
+            return null;
+        }
+        try {
+            return jsonBody(writer -> writeBody(writer, url, params, false)).bytes().sha256().hex();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private void validate(ScrapeParams params) throws FirecrawlException {
         if (params != null) {
             try {
                 params.validate();
@@ -43,42 +182,47 @@ class ScrapeService extends BaseService {
                 throw new FirecrawlException("Invalid scrape parameters: " + e.getMessage(), e);
             }
         }
-        
-        JsonObject body = new JsonObject();
-        body.addProperty("url", url);
-        
-        if (params != null) {
-            if (params.getFormatsAny() != null) body.add("formats", gson.toJsonTree(params.getFormatsAny()));
-            else if (params.getFormats() != null) body.add("formats", gson.toJsonTree(params.getFormats()));
-            if (params.getHeaders() != null) body.add("headers", gson.toJsonTree(params.getHeaders()));
-            if (params.getIncludeTags() != null) body.add("includeTags", gson.toJsonTree(params.getIncludeTags()));
-            if (params.getExcludeTags() != null) body.add("excludeTags", gson.toJsonTree(params.getExcludeTags()));
-            if (params.getOnlyMainContent() != null) body.addProperty("onlyMainContent", params.getOnlyMainContent());
-            if (params.getWaitFor() != null) body.addProperty("waitFor", params.getWaitFor());
-            // v2 parsers preferred over parsePDF
-            if (params.getParsers() != null) body.add("parsers", gson.toJsonTree(params.getParsers()));
-            if (params.getParsePDF() != null) body.addProperty("parsePDF", params.getParsePDF());
-            if (params.getTimeout() != null) body.addProperty("timeout", params.getTimeout());
-            // v2 additions
-            if (params.getMaxAge() != null) body.addProperty("maxAge", params.getMaxAge());
-            if (params.getMobile() != null) body.addProperty("mobile", params.getMobile());
-            if (params.getSkipTlsVerification() != null) body.addProperty("skipTlsVerification", params.getSkipTlsVerification());
-            if (params.getActions() != null) body.add("actions", gson.toJsonTree(params.getActions()));
-            if (params.getLocation() != null) body.add("location", gson.toJsonTree(params.getLocation()));
-            if (params.getRemoveBase64Images() != null) body.addProperty("removeBase64Images", params.getRemoveBase64Images());
-            if (params.getBlockAds() != null) body.addProperty("blockAds", params.getBlockAds());
-            if (params.getProxy() != null) body.addProperty("proxy", params.getProxy());
-            if (params.getStoreInCache() != null) body.addProperty("storeInCache", params.getStoreInCache());
-            if (params.getZeroDataRetention() != null) body.addProperty("zeroDataRetention", params.getZeroDataRetention());
-        }
-        
-        Request request = buildRequest("/v2/scrape", body);
-        ScrapeResponse response = executeRequest(request, ScrapeResponse.class);
-        
+    }
+
+    private JsonRequestBody buildBody(String url, ScrapeParams params) {
+        return jsonBody(writer -> writeBody(writer, url, params, true));
+    }
+
+    private void writeBody(JsonWriter writer, String url, ScrapeParams params, boolean cacheControl) throws IOException {
+        writer.beginObject();
+        writer.name("url").value(url);
+
+        writeScrapeOptions(writer, params, cacheControl);
+        writer.endObject();
+    }
+
+    private FirecrawlDocument unwrap(ScrapeResponse response) throws FirecrawlException {
         if (!response.isSuccess()) {
             throw new FirecrawlException("Scrape failed: " + response.getWarning());
         }
         
         return response.getData();
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends the groups of a {@link ScrapeBatcher}: single URLs as ordinary scrapes, larger groups
+     * as batch scrape jobs.
+     */
+    private final class BatchSender implements ScrapeBatcher.Sender {
+        private final BatchScrapeService batchScrapeService;
+
+        BatchSender(BatchScrapeService batchScrapeService) {
+            this.batchScrapeService = batchScrapeService;
+        }
+
+        @Override
+        public CompletableFuture<FirecrawlDocument> scrape(String url, ScrapeParams params) {
+            return sendAsync(buildRequest("/v2/scrape", buildBody(url, params)));
+        }
+
+        @Override
+        public CompletableFuture<List<FirecrawlDocument>> scrapeBatch(List<String> urls, ScrapeParams params) {
+            return batchScrapeService.scrapeAllAsync(urls, params, scrapeBatcher.getPollInterval());
+        }
+    }
+}
@@ -5,15 +5,24 @@ import dev.firecrawl.exception.FirecrawlException;
 import dev.firecrawl.exception.ValidationException;
 import dev.firecrawl.model.SearchParams;
 import dev.firecrawl.model.SearchResponse;
+import dev.firecrawl.util.JsonRequestBody;
+import dev.firecrawl.util.SearchCache;
 import okhttp3.Request;
 
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 /**
  * Service for search-related API endpoints.
  */
 class SearchService extends BaseService {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SearchCache searchCache;
+
     /**
      * Creates a new SearchService with the specified client.
      *
@@ -21,6 +30,7 @@ class SearchService extends BaseService {
      */
     SearchService(FirecrawlClient client) {
         super(client);
+        this.searchCache = client.getSearchCache();
     }
 
     /**
@@ -33,40 +43,106 @@ class SearchService extends BaseService {
      */
     SearchResponse search(SearchParams params) throws IOException, FirecrawlException {
         Objects.requireNonNull(params, "SearchParams must not be null");
-        
+        validate(params);
+
+        Request request = buildRequest("/v2/search", buildBody(params));
+        String key = cacheKey(params);
+        if (key != null) {
+            SearchResponse cached = searchCache.get(key, () -> executeSharedAsync(request, SearchResponse.class, true));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        SearchResponse response = executeShared(request, SearchResponse.class, true);
+        if (key != null) {
+            searchCache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Searches for the specified query with the specified parameters without blocking the calling thread.
+     *
+     * @param params the search parameters
+     * @return a future completed with the search response
+     */
+    CompletableFuture<SearchResponse> searchAsync(SearchParams params) {
+        Objects.requireNonNull(params, "SearchParams must not be null");
+        try {
+            validate(params);
+        } catch (FirecrawlException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Request request = buildRequest("/v2/search", buildBody(params));
+        String key = cacheKey(params);
+        if (key == null) {
+            return executeSharedAsync(request, SearchResponse.class, true);
+        }
+        SearchResponse cached = searchCache.get(key, () -> executeSharedAsync(request, SearchResponse.class, true));
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SearchResponse> call = executeSharedAsync(request, SearchResponse.class, true);
+        return detachOnCompletion(call.thenApply(response -> {
+            searchCache.put(key, response);
+            return response;
+        }), call);
+    }
+
+    /**
+     * Returns the search cache key: a digest of the parameters that affect results, with the
+     * query's whitespace collapsed and codes in lower case. Returns null if there is no cache.
+     */
+    private String cacheKey(SearchParams params) {
+        if (searchCache == null) {
+            return null;
+        }
+        try {
+            return jsonBody(writer -> {
+                writer.beginObject();
+                writer.name("query").value(WHITESPACE.matcher(params.getQuery().trim()).replaceAll(" "));
+                if (params.getLimit() != null) writer.name("limit").value(params.getLimit());
+                if (params.getTbs() != null) writer.name("tbs").value(params.getTbs().toLowerCase(Locale.ROOT));
+                if (params.getLang() != null) writer.name("lang").value(params.getLang().toLowerCase(Locale.ROOT));
+                if (params.getCountry() != null) writer.name("country").value(params.getCountry().toLowerCase(Locale.ROOT));
+                if (params.getLocation() != null) writer.name("location").value(params.getLocation());
+                if (params.getIgnoreInvalidURLs() != null) writer.name("ignoreInvalidURLs").value(params.getIgnoreInvalidURLs());
+                if (params.getScrapeOptions() != null) writeValue(writer, "scrapeOptions", params.getScrapeOptions());
+                writer.endObject();
+            }).bytes().sha256().hex();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void validate(SearchParams params) throws FirecrawlException {
         try {
             params.validate();
         } catch (ValidationException e) {
             throw new FirecrawlException("Invalid search parameters: " + e.getMessage(), e);
         }
-        
-        JsonObject body = new JsonObject();
-        body.addProperty("query", params.getQuery());
-        if (params.getLimit() != null) body.addProperty("limit", params.getLimit());
-        if (params.getTbs() != null) body.addProperty("tbs", params.getTbs());
-        if (params.getLang() != null) body.addProperty("lang", params.getLang());
-        if (params.getCountry() != null) body.addProperty("country", params.getCountry());
-        if (params.getLocation() != null) body.addProperty("location", params.getLocation());
-        if (params.getTimeout() != null) body.addProperty("timeout", params.getTimeout());
-        if (params.getIgnoreInvalidURLs() != null) body.addProperty("ignoreInvalidURLs", params.getIgnoreInvalidURLs());
-        if (params.getScrapeOptions() != null) body.add("scrapeOptions", gson.toJsonTree(params.getScrapeOptions()));
-        // Enforce current constraint: sources can only be "web"
-        if (params.getSources() != null) {
-            com.google.gson.JsonArray arr = new com.google.gson.JsonArray();
-            boolean hasWeb = false;
-            for (String s : params.getSources()) {
-                if (s != null && s.equalsIgnoreCase("web")) {
-                    hasWeb = true;
-                    break;
-                }
-            }
-            // Regardless of input, only send "web" (default to web if not provided)
-            arr.add("web");
-            body.add("sources", arr);
-        }
+    }
 
-        Request request = buildRequest("/v2/search", body);
-        return executeRequest(request, SearchResponse.class);
+    private JsonRequestBody buildBody(SearchParams params) {
+        return jsonBody(writer -> {
+            writer.beginObject();
+            writer.name("query").value(params.getQuery());
+            if (params.getLimit() != null) writer.name("limit").value(params.getLimit());
+            if (params.getTbs() != null) writer.name("tbs").value(params.getTbs());
+            if (params.getLang() != null) writer.name("lang").value(params.getLang());
+            if (params.getCountry() != null) writer.name("country").value(params.getCountry());
+            if (params.getLocation() != null) writer.name("location").value(params.getLocation());
+            if (params.getTimeout() != null) writer.name("timeout").value(params.getTimeout());
+            if (params.getIgnoreInvalidURLs() != null) writer.name("ignoreInvalidURLs").value(params.getIgnoreInvalidURLs());
+            if (params.getScrapeOptions() != null) writeValue(writer, "scrapeOptions", params.getScrapeOptions());
+            // Enforce current constraint: sources can only be "web"
+            if (params.getSources() != null) {
+                // Regardless of input, only send "web" (default to web if not provided)
+                writer.name("sources").beginArray().value("web").endArray();
+            }
+            writer.endObject();
+        });
     }
 
     /**
@@ -44,7 +44,7 @@ public class ApiException extends FirecrawlException {
     }
 
     /**
-     * Returns the response body.
+     * Returns the response body. Bodies returned by the SDK are truncated to their first 64 KiB.
      *
      * @return the response body
      */
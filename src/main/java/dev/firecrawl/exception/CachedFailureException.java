@@ -0,0 +1,56 @@
+package dev.firecrawl.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a scrape is refused without being sent because the same URL recently failed in a way
+ * that is expected to repeat. The cause is the failure that was cached.
+ */
+public class CachedFailureException extends FirecrawlException {
+    private final String url;
+    private final int failures;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new CachedFailureException.
+     *
+     * @param url the canonical URL that failed
+     * @param failures how many times in a row the URL has failed
+     * @param retryAfter how long until the URL may be scraped again
+     * @param cause the cached failure
+     */
+    public CachedFailureException(String url, int failures, Duration retryAfter, Throwable cause) {
+        super("Skipping " + url + " after " + failures + (failures == 1 ? " failure" : " failures")
+                + "; retrying in " + retryAfter.toMillis() + " ms: " + cause.getMessage(), cause);
+        this.url = url;
+        this.failures = failures;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the canonical URL that failed.
+     *
+     * @return the URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns how many times in a row the URL has failed.
+     *
+     * @return the consecutive failures
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns how long until the URL may be scraped again.
+     *
+     * @return the time until the cached failure expires
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,44 @@
+package dev.firecrawl.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a call is refused without being sent because the circuit breaker of its endpoint is
+ * open, or is half-open and already has as many probe calls in flight as it allows.
+ */
+public class CircuitBreakerOpenException extends FirecrawlException {
+    private final String endpoint;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new CircuitBreakerOpenException.
+     *
+     * @param endpoint the endpoint whose circuit is open (e.g. {@code /v2/scrape})
+     * @param retryAfter how long until the circuit lets probe calls through, zero while probing
+     */
+    public CircuitBreakerOpenException(String endpoint, Duration retryAfter) {
+        super(retryAfter.isZero()
+                ? "Circuit breaker for " + endpoint + " is half-open and probing"
+                : "Circuit breaker open for " + endpoint + "; probing again in " + retryAfter.toMillis() + " ms");
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the endpoint whose circuit is open.
+     *
+     * @return the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns how long until the circuit lets probe calls through.
+     *
+     * @return the time until probing, zero if the circuit is already probing
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
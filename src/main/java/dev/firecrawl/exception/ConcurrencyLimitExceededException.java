@@ -0,0 +1,43 @@
+package dev.firecrawl.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the adaptive concurrency limiter cannot give a call a slot within its maximum wait,
+ * because as many calls as the current limit allows are already in flight.
+ */
+public class ConcurrencyLimitExceededException extends FirecrawlException {
+    private final int limit;
+    private final Duration waited;
+
+    /**
+     * Constructs a new ConcurrencyLimitExceededException.
+     *
+     * @param limit the concurrency limit when the call was refused
+     * @param waited how long the call waited for a slot
+     */
+    public ConcurrencyLimitExceededException(int limit, Duration waited) {
+        super("Concurrency limit of " + limit + " in-flight calls reached; no slot freed within "
+                + waited.toMillis() + " ms");
+        this.limit = limit;
+        this.waited = waited;
+    }
+
+    /**
+     * Returns the concurrency limit when the call was refused.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns how long the call waited for a slot.
+     *
+     * @return the wait
+     */
+    public Duration getWaited() {
+        return waited;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.firecrawl.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the client-side rate limiter denies a call before it is sent, either because the
+ * limiter is in fail-fast mode or because the wait for a permit would exceed its maximum wait.
+ */
+public class RateLimitExceededException extends FirecrawlException {
+    private final String endpoint;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new RateLimitExceededException.
+     *
+     * @param endpoint the rate-limited endpoint (e.g. {@code /v2/scrape})
+     * @param retryAfter how long until a permit would be available
+     */
+    public RateLimitExceededException(String endpoint, Duration retryAfter) {
+        super("Client rate limit exceeded for " + endpoint + "; next permit in " + retryAfter.toMillis() + " ms");
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the rate-limited endpoint.
+     *
+     * @return the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns how long until a permit would be available.
+     *
+     * @return the time until the next permit
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.firecrawl.exception;
+
+/**
+ * Wraps a {@link FirecrawlException} where a checked exception cannot be thrown, such as from an
+ * {@link java.util.Iterator} that fetches pages lazily. It is to API errors what
+ * {@link java.io.UncheckedIOException} is to I/O errors.
+ */
+public class UncheckedFirecrawlException extends RuntimeException {
+    /**
+     * Constructs a new UncheckedFirecrawlException.
+     *
+     * @param cause the API error
+     */
+    public UncheckedFirecrawlException(FirecrawlException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Returns the wrapped API error.
+     *
+     * @return the API error
+     */
+    @Override
+    public synchronized FirecrawlException getCause() {
+        return (FirecrawlException) super.getCause();
+    }
+}
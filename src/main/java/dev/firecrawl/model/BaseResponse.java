@@ -1,5 +1,9 @@
 package dev.firecrawl.model;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -27,6 +31,41 @@ public abstract class BaseResponse {
         return warning;
     }
 
+    /**
+     * Reads a member declared on this class, for the streaming model adapters.
+     *
+     * @param name the member name
+     * @param in the reader positioned at the member value
+     * @return true if the member belongs to this class and was consumed
+     * @throws IOException if reading fails
+     */
+    final boolean readBaseField(String name, JsonReader in) throws IOException {
+        switch (name) {
+            case "success":
+                Boolean value = JsonFields.readBoolean(in);
+                if (value != null) {
+                    success = value;
+                }
+                return true;
+            case "warning":
+                warning = JsonFields.readString(in);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes the members declared on this class, for the streaming model adapters.
+     *
+     * @param out the writer
+     * @throws IOException if writing fails
+     */
+    final void writeBaseFields(JsonWriter out) throws IOException {
+        out.name("success").value(success);
+        JsonFields.write(out, "warning", warning);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,118 @@
+package dev.firecrawl.model;
+
+import dev.firecrawl.exception.ValidationException;
+
+import java.util.Objects;
+
+/**
+ * Parameters for batch scrape requests.
+ */
+public class BatchScrapeParams extends BaseParams<BatchScrapeParams> {
+    private ScrapeParams scrapeOptions;
+    private Integer maxConcurrency;
+    private Boolean ignoreInvalidURLs;
+
+    /**
+     * Creates a new BatchScrapeParams instance.
+     */
+    public BatchScrapeParams() {
+        // Default constructor
+    }
+
+    @Override
+    public void validate() throws ValidationException {
+        super.validate();
+        if (maxConcurrency != null && maxConcurrency < 1) {
+            throw new ValidationException("maxConcurrency must be positive", "maxConcurrency");
+        }
+        if (scrapeOptions != null) {
+            scrapeOptions.validate();
+        }
+    }
+
+    /**
+     * Returns the scrape options applied to every URL.
+     *
+     * @return the scrape options
+     */
+    public ScrapeParams getScrapeOptions() {
+        return scrapeOptions;
+    }
+
+    /**
+     * Sets the scrape options applied to every URL.
+     *
+     * @param scrapeOptions the scrape options
+     * @return this instance for method chaining
+     */
+    public BatchScrapeParams setScrapeOptions(ScrapeParams scrapeOptions) {
+        this.scrapeOptions = scrapeOptions;
+        return self();
+    }
+
+    /**
+     * Returns the maximum number of URLs scraped at the same time.
+     *
+     * @return the maximum concurrency
+     */
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of URLs scraped at the same time. Defaults to the team's limit.
+     *
+     * @param maxConcurrency the maximum concurrency
+     * @return this instance for method chaining
+     */
+    public BatchScrapeParams setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return self();
+    }
+
+    /**
+     * Returns whether invalid URLs are skipped instead of failing the batch.
+     *
+     * @return whether invalid URLs are ignored
+     */
+    public Boolean getIgnoreInvalidURLs() {
+        return ignoreInvalidURLs;
+    }
+
+    /**
+     * Sets whether invalid URLs are skipped instead of failing the batch. Skipped URLs are
+     * reported by {@link BatchScrapeResponse#getInvalidURLs()}.
+     *
+     * @param ignoreInvalidURLs whether to ignore invalid URLs
+     * @return this instance for method chaining
+     */
+    public BatchScrapeParams setIgnoreInvalidURLs(Boolean ignoreInvalidURLs) {
+        this.ignoreInvalidURLs = ignoreInvalidURLs;
+        return self();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BatchScrapeParams that = (BatchScrapeParams) o;
+        return Objects.equals(scrapeOptions, that.scrapeOptions) &&
+                Objects.equals(maxConcurrency, that.maxConcurrency) &&
+                Objects.equals(ignoreInvalidURLs, that.ignoreInvalidURLs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), scrapeOptions, maxConcurrency, ignoreInvalidURLs);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchScrapeParams{" +
+                "scrapeOptions=" + scrapeOptions +
+                ", maxConcurrency=" + maxConcurrency +
+                ", ignoreInvalidURLs=" + ignoreInvalidURLs +
+                '}';
+    }
+}
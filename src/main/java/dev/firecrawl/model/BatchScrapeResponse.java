@@ -0,0 +1,117 @@
+package dev.firecrawl.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Response from a request starting a batch scrape.
+ */
+public class BatchScrapeResponse extends BaseResponse {
+    private String id;
+    private String url;
+    private String[] invalidURLs;
+
+    /**
+     * Returns the ID of the batch scrape job.
+     *
+     * @return the batch scrape job ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the URL of the job's status endpoint.
+     *
+     * @return the status URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the URLs that were skipped because they are invalid, if
+     * {@link BatchScrapeParams#setIgnoreInvalidURLs(Boolean)} was set.
+     *
+     * @return the invalid URLs
+     */
+    public String[] getInvalidURLs() {
+        return invalidURLs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BatchScrapeResponse that = (BatchScrapeResponse) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(url, that.url) &&
+                Arrays.equals(invalidURLs, that.invalidURLs);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(super.hashCode(), id, url);
+        result = 31 * result + Arrays.hashCode(invalidURLs);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchScrapeResponse{" +
+                "success=" + isSuccess() +
+                ", warning='" + getWarning() + '\'' +
+                ", id='" + id + '\'' +
+                ", url='" + url + '\'' +
+                ", invalidURLs=" + Arrays.toString(invalidURLs) +
+                '}';
+    }
+
+    /**
+     * Streaming adapter for {@link BatchScrapeResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<BatchScrapeResponse> {
+        @Override
+        public void write(JsonWriter out, BatchScrapeResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "id", response.id);
+            JsonFields.write(out, "url", response.url);
+            JsonFields.write(out, "invalidURLs", response.invalidURLs);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public BatchScrapeResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            BatchScrapeResponse response = new BatchScrapeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                switch (name) {
+                    case "id": response.id = JsonFields.readString(in); break;
+                    case "url": response.url = JsonFields.readString(in); break;
+                    case "invalidURLs": response.invalidURLs = JsonFields.readStringArray(in); break;
+                    default:
+                        if (!response.readBaseField(name, in)) {
+                            in.skipValue();
+                        }
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package dev.firecrawl.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * One page of a batch scrape's status and results. Large result sets are split into pages linked
+ * by {@link #getNext()}.
+ */
+public class BatchScrapeStatusResponse extends BaseResponse {
+    private String status;
+    private Integer total;
+    private Integer completed;
+    private Integer creditsUsed;
+    private String expiresAt;
+    private String next;
+    private FirecrawlDocument[] data;
+
+    /**
+     * Returns the status of the batch scrape job: "scraping", "completed", "failed" or
+     * "cancelled".
+     *
+     * @return the batch scrape job status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of URLs in the batch.
+     *
+     * @return the total number of URLs
+     */
+    public Integer getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of URLs scraped so far.
+     *
+     * @return the number of completed URLs
+     */
+    public Integer getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns the credits used by the batch so far.
+     *
+     * @return the credits used
+     */
+    public Integer getCreditsUsed() {
+        return creditsUsed;
+    }
+
+    /**
+     * Returns when the results expire, as an ISO-8601 timestamp.
+     *
+     * @return the expiry time
+     */
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Returns the URL of the next page of results, or null on the last page.
+     *
+     * @return the next page URL
+     */
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * Returns the scraped documents of this page.
+     *
+     * @return the scraped documents
+     */
+    public FirecrawlDocument[] getData() {
+        return data;
+    }
+
+    /**
+     * Checks if the batch scrape job is completed.
+     *
+     * @return true if the job is completed, false otherwise
+     */
+    public boolean isCompleted() {
+        return "completed".equalsIgnoreCase(status);
+    }
+
+    /**
+     * Checks if the batch scrape job is still scraping.
+     *
+     * @return true if the job is scraping, false otherwise
+     */
+    public boolean isScraping() {
+        return "scraping".equalsIgnoreCase(status);
+    }
+
+    /**
+     * Checks if the batch scrape job has failed.
+     *
+     * @return true if the job has failed, false otherwise
+     */
+    public boolean isFailed() {
+        return "failed".equalsIgnoreCase(status);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BatchScrapeStatusResponse that = (BatchScrapeStatusResponse) o;
+        return Objects.equals(status, that.status) &&
+                Objects.equals(total, that.total) &&
+                Objects.equals(completed, that.completed) &&
+                Objects.equals(creditsUsed, that.creditsUsed) &&
+                Objects.equals(expiresAt, that.expiresAt) &&
+                Objects.equals(next, that.next) &&
+                Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(super.hashCode(), status, total, completed, creditsUsed, expiresAt, next);
+        result = 31 * result + Arrays.hashCode(data);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchScrapeStatusResponse{" +
+                "success=" + isSuccess() +
+                ", warning='" + getWarning() + '\'' +
+                ", status='" + status + '\'' +
+                ", total=" + total +
+                ", completed=" + completed +
+                ", creditsUsed=" + creditsUsed +
+                ", expiresAt='" + expiresAt + '\'' +
+                ", next='" + next + '\'' +
+                ", data=" + Arrays.toString(data) +
+                '}';
+    }
+
+    /**
+     * Streaming adapter for {@link BatchScrapeStatusResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<BatchScrapeStatusResponse> {
+        private final TypeAdapter<FirecrawlDocument> documentAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.documentAdapter = gson.getAdapter(FirecrawlDocument.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BatchScrapeStatusResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "status", response.status);
+            JsonFields.write(out, "total", response.total);
+            JsonFields.write(out, "completed", response.completed);
+            JsonFields.write(out, "creditsUsed", response.creditsUsed);
+            JsonFields.write(out, "expiresAt", response.expiresAt);
+            JsonFields.write(out, "next", response.next);
+            JsonFields.writeArray(out, "data", response.data, documentAdapter);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public BatchScrapeStatusResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            BatchScrapeStatusResponse response = new BatchScrapeStatusResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                switch (name) {
+                    case "status": response.status = JsonFields.readString(in); break;
+                    case "total": response.total = JsonFields.readInteger(in); break;
+                    case "completed": response.completed = JsonFields.readInteger(in); break;
+                    case "creditsUsed": response.creditsUsed = JsonFields.readInteger(in); break;
+                    case "expiresAt": response.expiresAt = JsonFields.readString(in); break;
+                    case "next": response.next = JsonFields.readString(in); break;
+                    case "data": response.data = JsonFields.readArray(in, documentAdapter::read, FirecrawlDocument[]::new); break;
+                    default:
+                        if (!response.readBaseField(name, in)) {
+                            in.skipValue();
+                        }
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
+}
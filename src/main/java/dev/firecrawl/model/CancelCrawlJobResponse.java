@@ -1,5 +1,10 @@
 package dev.firecrawl.model;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -39,4 +44,40 @@ public class CancelCrawlJobResponse extends BaseResponse {
                 ", status='" + status + '\'' +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link CancelCrawlJobResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<CancelCrawlJobResponse> {
+        @Override
+        public void write(JsonWriter out, CancelCrawlJobResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "status", response.status);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public CancelCrawlJobResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            CancelCrawlJobResponse response = new CancelCrawlJobResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("status".equals(name)) {
+                    response.status = JsonFields.readString(in);
+                } else if (!response.readBaseField(name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package dev.firecrawl.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Status and progress of a crawl job, read from a crawl status response without its documents.
+ * The {@code data} page is skipped while the response is parsed, so no documents are built.
+ */
+public class CrawlProgress extends BaseResponse {
+    private String status;
+    private Integer total;
+    private Integer completed;
+    private Integer creditsUsed;
+    private String expiresAt;
+
+    /**
+     * Returns the status of the crawl job.
+     *
+     * @return the crawl job status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of pages found so far.
+     *
+     * @return the total number of pages
+     */
+    public Integer getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of pages crawled so far.
+     *
+     * @return the number of completed pages
+     */
+    public Integer getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns the credits used by the crawl so far.
+     *
+     * @return the credits used
+     */
+    public Integer getCreditsUsed() {
+        return creditsUsed;
+    }
+
+    /**
+     * Returns when the results expire, as an ISO-8601 timestamp.
+     *
+     * @return the expiry time
+     */
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks if the crawl job is completed.
+     *
+     * @return true if the crawl job is completed, false otherwise
+     */
+    public boolean isCompleted() {
+        return "completed".equalsIgnoreCase(status);
+    }
+
+    /**
+     * Checks if the crawl job is running.
+     *
+     * @return true if the crawl job is running, false otherwise
+     */
+    public boolean isRunning() {
+        return "running".equalsIgnoreCase(status);
+    }
+
+    /**
+     * Checks if the crawl job has failed.
+     *
+     * @return true if the crawl job has failed, false otherwise
+     */
+    public boolean isFailed() {
+        return "failed".equalsIgnoreCase(status);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        CrawlProgress that = (CrawlProgress) o;
+        return Objects.equals(status, that.status) &&
+                Objects.equals(total, that.total) &&
+                Objects.equals(completed, that.completed) &&
+                Objects.equals(creditsUsed, that.creditsUsed) &&
+                Objects.equals(expiresAt, that.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), status, total, completed, creditsUsed, expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "CrawlProgress{" +
+                "success=" + isSuccess() +
+                ", warning='" + getWarning() + '\'' +
+                ", status='" + status + '\'' +
+                ", total=" + total +
+                ", completed=" + completed +
+                ", creditsUsed=" + creditsUsed +
+                ", expiresAt='" + expiresAt + '\'' +
+                '}';
+    }
+
+    /**
+     * Streaming adapter for {@link CrawlProgress}, registered by {@link ModelTypeAdapterFactory}.
+     * Every other member, {@code data} included, is skipped token by token.
+     */
+    static final class GsonAdapter extends TypeAdapter<CrawlProgress> {
+        @Override
+        public void write(JsonWriter out, CrawlProgress progress) throws IOException {
+            if (progress == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "status", progress.status);
+            JsonFields.write(out, "total", progress.total);
+            JsonFields.write(out, "completed", progress.completed);
+            JsonFields.write(out, "creditsUsed", progress.creditsUsed);
+            JsonFields.write(out, "expiresAt", progress.expiresAt);
+            progress.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public CrawlProgress read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            CrawlProgress progress = new CrawlProgress();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                switch (name) {
+                    case "status": progress.status = JsonFields.readString(in); break;
+                    case "total": progress.total = JsonFields.readInteger(in); break;
+                    case "completed": progress.completed = JsonFields.readInteger(in); break;
+                    case "creditsUsed": progress.creditsUsed = JsonFields.readInteger(in); break;
+                    case "expiresAt": progress.expiresAt = JsonFields.readString(in); break;
+                    default:
+                        if (!progress.readBaseField(name, in)) {
+                            in.skipValue();
+                        }
+                }
+            }
+            in.endObject();
+            return progress;
+        }
+    }
+}
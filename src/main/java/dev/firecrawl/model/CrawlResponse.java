@@ -1,5 +1,10 @@
 package dev.firecrawl.model;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -39,4 +44,40 @@ public class CrawlResponse extends BaseResponse {
                 ", id='" + id + '\'' +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link CrawlResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<CrawlResponse> {
+        @Override
+        public void write(JsonWriter out, CrawlResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "id", response.id);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public CrawlResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            CrawlResponse response = new CrawlResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("id".equals(name)) {
+                    response.id = JsonFields.readString(in);
+                } else if (!response.readBaseField(name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
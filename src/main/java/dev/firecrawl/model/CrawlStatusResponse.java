@@ -1,5 +1,11 @@
 package dev.firecrawl.model;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -29,8 +35,9 @@ public class CrawlStatusResponse extends BaseResponse {
     }
 
     /**
-     * Returns the URL of the next page to crawl.
-     * @return
+     * Returns the URL of the next page of crawl results, or null on the last page.
+     *
+     * @return the next page URL
      */
     public String getNext() { return next;}
     /**
@@ -87,4 +94,52 @@ public class CrawlStatusResponse extends BaseResponse {
                 ", data=" + Arrays.toString(data) +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link CrawlStatusResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<CrawlStatusResponse> {
+        private final TypeAdapter<FirecrawlDocument> documentAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.documentAdapter = gson.getAdapter(FirecrawlDocument.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CrawlStatusResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "status", response.status);
+            JsonFields.writeArray(out, "data", response.data, documentAdapter);
+            JsonFields.write(out, "next", response.next);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public CrawlStatusResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            CrawlStatusResponse response = new CrawlStatusResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                switch (name) {
+                    case "status": response.status = JsonFields.readString(in); break;
+                    case "data": response.data = JsonFields.readArray(in, documentAdapter::read, FirecrawlDocument[]::new); break;
+                    case "next": response.next = JsonFields.readString(in); break;
+                    default:
+                        if (!response.readBaseField(name, in)) {
+                            in.skipValue();
+                        }
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,12 @@
 package dev.firecrawl.model;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -186,4 +193,200 @@ public class FirecrawlDocument {
                 ", metadata=" + metadata +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link FirecrawlDocument} and its nested types, registered by
+     * {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<FirecrawlDocument> {
+        private final TypeAdapter<Map<String, Object>> mapAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.mapAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() { });
+            this.objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FirecrawlDocument doc) throws IOException {
+            if (doc == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "markdown", doc.markdown);
+            JsonFields.write(out, "summary", doc.summary);
+            JsonFields.write(out, "html", doc.html);
+            JsonFields.write(out, "rawHtml", doc.rawHtml);
+            JsonFields.write(out, "screenshot", doc.screenshot);
+            JsonFields.write(out, "links", doc.links);
+            out.name("actions");
+            writeActions(out, doc.actions);
+            out.name("changeTracking");
+            writeChangeTracking(out, doc.changeTracking);
+            JsonFields.write(out, "metadata", doc.metadata, mapAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public FirecrawlDocument read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            FirecrawlDocument doc = new FirecrawlDocument();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "markdown": doc.markdown = JsonFields.readString(in); break;
+                    case "summary": doc.summary = JsonFields.readString(in); break;
+                    case "html": doc.html = JsonFields.readString(in); break;
+                    case "rawHtml": doc.rawHtml = JsonFields.readString(in); break;
+                    case "screenshot": doc.screenshot = JsonFields.readString(in); break;
+                    case "links": doc.links = JsonFields.readStringArray(in); break;
+                    case "actions": doc.actions = readActions(in); break;
+                    case "changeTracking": doc.changeTracking = readChangeTracking(in); break;
+                    case "metadata": doc.metadata = mapAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return doc;
+        }
+
+        private void writeActions(JsonWriter out, Actions actions) throws IOException {
+            if (actions == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "screenshots", actions.screenshots);
+            out.name("scrapes");
+            if (actions.scrapes == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (Actions.ScrapeItem item : actions.scrapes) {
+                    if (item == null) {
+                        out.nullValue();
+                        continue;
+                    }
+                    out.beginObject();
+                    JsonFields.write(out, "url", item.url);
+                    JsonFields.write(out, "html", item.html);
+                    out.endObject();
+                }
+                out.endArray();
+            }
+            out.name("javascriptReturns");
+            if (actions.javascriptReturns == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (Actions.JavascriptReturn item : actions.javascriptReturns) {
+                    if (item == null) {
+                        out.nullValue();
+                        continue;
+                    }
+                    out.beginObject();
+                    JsonFields.write(out, "type", item.type);
+                    JsonFields.write(out, "value", item.value, objectAdapter);
+                    out.endObject();
+                }
+                out.endArray();
+            }
+            JsonFields.write(out, "pdfs", actions.pdfs);
+            out.endObject();
+        }
+
+        private Actions readActions(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            Actions actions = new Actions();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "screenshots": actions.screenshots = JsonFields.readStringArray(in); break;
+                    case "scrapes":
+                        actions.scrapes = JsonFields.readArray(in, this::readScrapeItem, Actions.ScrapeItem[]::new);
+                        break;
+                    case "javascriptReturns":
+                        actions.javascriptReturns = JsonFields.readArray(in, this::readJavascriptReturn, Actions.JavascriptReturn[]::new);
+                        break;
+                    case "pdfs": actions.pdfs = JsonFields.readStringArray(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return actions;
+        }
+
+        private void writeChangeTracking(JsonWriter out, ChangeTracking tracking) throws IOException {
+            if (tracking == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "previousScrapeAt", tracking.previousScrapeAt);
+            JsonFields.write(out, "changeStatus", tracking.changeStatus);
+            JsonFields.write(out, "visibility", tracking.visibility);
+            JsonFields.write(out, "diff", tracking.diff);
+            JsonFields.write(out, "json", tracking.json, mapAdapter);
+            out.endObject();
+        }
+
+        private ChangeTracking readChangeTracking(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            ChangeTracking tracking = new ChangeTracking();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "previousScrapeAt": tracking.previousScrapeAt = JsonFields.readString(in); break;
+                    case "changeStatus": tracking.changeStatus = JsonFields.readString(in); break;
+                    case "visibility": tracking.visibility = JsonFields.readString(in); break;
+                    case "diff": tracking.diff = JsonFields.readString(in); break;
+                    case "json": tracking.json = mapAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return tracking;
+        }
+
+        private Actions.ScrapeItem readScrapeItem(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            Actions.ScrapeItem item = new Actions.ScrapeItem();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "url": item.url = JsonFields.readString(in); break;
+                    case "html": item.html = JsonFields.readString(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return item;
+        }
+
+        private Actions.JavascriptReturn readJavascriptReturn(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            Actions.JavascriptReturn item = new Actions.JavascriptReturn();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type": item.type = JsonFields.readString(in); break;
+                    case "value": item.value = objectAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
 }
\ No newline at end of file
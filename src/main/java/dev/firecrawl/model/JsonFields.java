@@ -0,0 +1,162 @@
+package dev.firecrawl.model;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Read and write helpers for the hand-written model adapters. Each reader accepts exactly what
+ * Gson's built-in adapter for the same Java type accepts, so switching away from reflection does
+ * not change which payloads parse.
+ */
+final class JsonFields {
+    private static final String[] EMPTY_STRINGS = new String[0];
+
+    private JsonFields() {
+    }
+
+    static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    static String[] readStringArray(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values.toArray(EMPTY_STRINGS);
+    }
+
+    static <T> T[] readArray(JsonReader in, ValueReader<T> reader, IntFunction<T[]> factory) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(reader.read(in));
+        }
+        in.endArray();
+        return values.toArray(factory.apply(values.size()));
+    }
+
+    static boolean isNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    static void write(JsonWriter out, String name, String value) throws IOException {
+        out.name(name);
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value);
+        }
+    }
+
+    static void write(JsonWriter out, String name, Boolean value) throws IOException {
+        out.name(name).value(value);
+    }
+
+    static void write(JsonWriter out, String name, Number value) throws IOException {
+        out.name(name).value(value);
+    }
+
+    static void write(JsonWriter out, String name, String[] values) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String value : values) {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value);
+            }
+        }
+        out.endArray();
+    }
+
+    static <T> void write(JsonWriter out, String name, T value, TypeAdapter<T> adapter) throws IOException {
+        out.name(name);
+        if (value == null) {
+            out.nullValue();
+        } else {
+            adapter.write(out, value);
+        }
+    }
+
+    static <T> void writeArray(JsonWriter out, String name, T[] values, TypeAdapter<T> adapter) throws IOException {
+        out.name(name);
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T value : values) {
+            adapter.write(out, value);
+        }
+        out.endArray();
+    }
+
+    /**
+     * Reads one value from a JSON stream.
+     *
+     * @param <T> the value type
+     */
+    @FunctionalInterface
+    interface ValueReader<T> {
+        T read(JsonReader in) throws IOException;
+    }
+}
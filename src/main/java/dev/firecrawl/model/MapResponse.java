@@ -4,7 +4,11 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -13,8 +17,6 @@ import java.util.List;
  * Response from a map request.
  */
 public class MapResponse extends BaseResponse {
-    private static final Gson GSON = new Gson();
-
     // Accept either an array of strings or an array of objects for `links`
     private JsonElement links;
 
@@ -91,4 +93,47 @@ public class MapResponse extends BaseResponse {
                 ", links=" + Arrays.toString(getLinks()) +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link MapResponse}, registered by {@link ModelTypeAdapterFactory}.
+     * The raw {@code links} element is kept as a tree and normalized lazily, as before.
+     */
+    static final class GsonAdapter extends TypeAdapter<MapResponse> {
+        private final TypeAdapter<JsonElement> elementAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.elementAdapter = gson.getAdapter(JsonElement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MapResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "links", response.links, elementAdapter);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public MapResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            MapResponse response = new MapResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("links".equals(name)) {
+                    response.links = elementAdapter.read(in);
+                } else if (!response.readBaseField(name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
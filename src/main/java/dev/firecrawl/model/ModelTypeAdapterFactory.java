@@ -0,0 +1,75 @@
+package dev.firecrawl.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Registers hand-written streaming adapters for the request and response models exchanged on the
+ * hot paths, so Gson reads and writes them field by field instead of through reflection.
+ * <p>
+ * The adapters produce the same JSON as Gson's reflective adapters: fields are written in the
+ * same order, nulls are left to the writer's {@code serializeNulls} setting and unknown fields are
+ * skipped. Types not listed here fall through to Gson's defaults.
+ */
+public final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    private static final ModelTypeAdapterFactory INSTANCE = new ModelTypeAdapterFactory();
+
+    private ModelTypeAdapterFactory() {
+    }
+
+    /**
+     * Returns the shared factory instance.
+     *
+     * @return the factory
+     */
+    public static ModelTypeAdapterFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a {@link GsonBuilder} with this factory registered.
+     *
+     * @return a new builder
+     */
+    public static GsonBuilder newGsonBuilder() {
+        return new GsonBuilder().registerTypeAdapterFactory(INSTANCE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<?> adapter;
+        if (raw == FirecrawlDocument.class) {
+            adapter = new FirecrawlDocument.GsonAdapter(gson);
+        } else if (raw == ScrapeResponse.class) {
+            adapter = new ScrapeResponse.GsonAdapter(gson);
+        } else if (raw == CrawlStatusResponse.class) {
+            adapter = new CrawlStatusResponse.GsonAdapter(gson);
+        } else if (raw == CrawlProgress.class) {
+            adapter = new CrawlProgress.GsonAdapter();
+        } else if (raw == CrawlResponse.class) {
+            adapter = new CrawlResponse.GsonAdapter();
+        } else if (raw == BatchScrapeStatusResponse.class) {
+            adapter = new BatchScrapeStatusResponse.GsonAdapter(gson);
+        } else if (raw == BatchScrapeResponse.class) {
+            adapter = new BatchScrapeResponse.GsonAdapter();
+        } else if (raw == CancelCrawlJobResponse.class) {
+            adapter = new CancelCrawlJobResponse.GsonAdapter();
+        } else if (raw == SearchResponse.class) {
+            adapter = new SearchResponse.GsonAdapter(gson);
+        } else if (raw == SearchResult.class) {
+            adapter = new SearchResult.GsonAdapter();
+        } else if (raw == MapResponse.class) {
+            adapter = new MapResponse.GsonAdapter(gson);
+        } else if (raw == ScrapeParams.class) {
+            adapter = new ScrapeParams.GsonAdapter(gson);
+        } else {
+            return null;
+        }
+        return (TypeAdapter<T>) adapter.nullSafe();
+    }
+}
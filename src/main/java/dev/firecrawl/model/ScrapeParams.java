@@ -1,5 +1,12 @@
 package dev.firecrawl.model;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -337,4 +344,86 @@ public class ScrapeParams extends BaseParams<ScrapeParams> {
                 ", zeroDataRetention=" + zeroDataRetention +
                 '}';
     }
-}
\ No newline at end of file
+
+    /**
+     * Streaming adapter for {@link ScrapeParams}, registered by {@link ModelTypeAdapterFactory}.
+     * Fields are written in declaration order so the output matches reflective serialization.
+     */
+    static final class GsonAdapter extends TypeAdapter<ScrapeParams> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Map<String, String>> headersAdapter;
+        private final TypeAdapter<Map<String, Object>> locationAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.objectAdapter = gson.getAdapter(Object.class);
+            this.headersAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() { });
+            this.locationAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() { });
+        }
+
+        @Override
+        public void write(JsonWriter out, ScrapeParams params) throws IOException {
+            if (params == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "formats", params.formats);
+            JsonFields.writeArray(out, "formatsAny", params.formatsAny, objectAdapter);
+            JsonFields.write(out, "headers", params.headers, headersAdapter);
+            JsonFields.write(out, "includeTags", params.includeTags);
+            JsonFields.write(out, "excludeTags", params.excludeTags);
+            JsonFields.write(out, "onlyMainContent", params.onlyMainContent);
+            JsonFields.write(out, "waitFor", params.waitFor);
+            JsonFields.write(out, "parsePDF", params.parsePDF);
+            JsonFields.writeArray(out, "parsers", params.parsers, objectAdapter);
+            JsonFields.write(out, "timeout", params.timeout);
+            JsonFields.write(out, "maxAge", params.maxAge);
+            JsonFields.write(out, "mobile", params.mobile);
+            JsonFields.write(out, "skipTlsVerification", params.skipTlsVerification);
+            JsonFields.writeArray(out, "actions", params.actions, objectAdapter);
+            JsonFields.write(out, "location", params.location, locationAdapter);
+            JsonFields.write(out, "removeBase64Images", params.removeBase64Images);
+            JsonFields.write(out, "blockAds", params.blockAds);
+            JsonFields.write(out, "proxy", params.proxy);
+            JsonFields.write(out, "storeInCache", params.storeInCache);
+            JsonFields.write(out, "zeroDataRetention", params.zeroDataRetention);
+            out.endObject();
+        }
+
+        @Override
+        public ScrapeParams read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            ScrapeParams params = new ScrapeParams();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "formats": params.formats = JsonFields.readStringArray(in); break;
+                    case "formatsAny": params.formatsAny = JsonFields.readArray(in, objectAdapter::read, Object[]::new); break;
+                    case "headers": params.headers = headersAdapter.read(in); break;
+                    case "includeTags": params.includeTags = JsonFields.readStringArray(in); break;
+                    case "excludeTags": params.excludeTags = JsonFields.readStringArray(in); break;
+                    case "onlyMainContent": params.onlyMainContent = JsonFields.readBoolean(in); break;
+                    case "waitFor": params.waitFor = JsonFields.readInteger(in); break;
+                    case "parsePDF": params.parsePDF = JsonFields.readBoolean(in); break;
+                    case "parsers": params.parsers = JsonFields.readArray(in, objectAdapter::read, Object[]::new); break;
+                    case "timeout": params.timeout = JsonFields.readInteger(in); break;
+                    case "maxAge": params.maxAge = JsonFields.readInteger(in); break;
+                    case "mobile": params.mobile = JsonFields.readBoolean(in); break;
+                    case "skipTlsVerification": params.skipTlsVerification = JsonFields.readBoolean(in); break;
+                    case "actions": params.actions = JsonFields.readArray(in, objectAdapter::read, Object[]::new); break;
+                    case "location": params.location = locationAdapter.read(in); break;
+                    case "removeBase64Images": params.removeBase64Images = JsonFields.readBoolean(in); break;
+                    case "blockAds": params.blockAds = JsonFields.readBoolean(in); break;
+                    case "proxy": params.proxy = JsonFields.readString(in); break;
+                    case "storeInCache": params.storeInCache = JsonFields.readBoolean(in); break;
+                    case "zeroDataRetention": params.zeroDataRetention = JsonFields.readBoolean(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return params;
+        }
+    }
+}
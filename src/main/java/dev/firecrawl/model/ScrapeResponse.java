@@ -1,5 +1,11 @@
 package dev.firecrawl.model;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -39,4 +45,46 @@ public class ScrapeResponse extends BaseResponse {
                 ", data=" + data +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link ScrapeResponse}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<ScrapeResponse> {
+        private final TypeAdapter<FirecrawlDocument> documentAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.documentAdapter = gson.getAdapter(FirecrawlDocument.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ScrapeResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "data", response.data, documentAdapter);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public ScrapeResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            ScrapeResponse response = new ScrapeResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("data".equals(name)) {
+                    response.data = documentAdapter.read(in);
+                } else if (!response.readBaseField(name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
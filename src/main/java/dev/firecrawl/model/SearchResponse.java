@@ -4,7 +4,11 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -13,7 +17,7 @@ import java.util.List;
  * Response from a search request.
  */
 public class SearchResponse extends BaseResponse {
-    private static final Gson GSON = new Gson();
+    private static final TypeAdapter<SearchResult> RESULT_ADAPTER = new SearchResult.GsonAdapter().nullSafe();
 
     // Accept either an array or an object for the `data` field from the API
     private JsonElement data;
@@ -139,7 +143,7 @@ public class SearchResponse extends BaseResponse {
             // Fallback: try to treat the object itself as a single SearchResult (normalized)
             try {
                 JsonObject normalized = normalizeObject(obj);
-                SearchResult single = GSON.fromJson(normalized, SearchResult.class);
+                SearchResult single = RESULT_ADAPTER.fromJsonTree(normalized);
                 return single != null ? new SearchResult[]{ single } : new SearchResult[0];
             } catch (Exception ignored) {
                 return new SearchResult[0];
@@ -154,7 +158,7 @@ public class SearchResponse extends BaseResponse {
             if (el != null && el.isJsonObject()) {
                 JsonObject normalized = normalizeObject(el.getAsJsonObject());
                 try {
-                    SearchResult sr = GSON.fromJson(normalized, SearchResult.class);
+                    SearchResult sr = RESULT_ADAPTER.fromJsonTree(normalized);
                     if (sr != null) list.add(sr);
                 } catch (Exception ignored) { }
             }
@@ -326,4 +330,47 @@ public class SearchResponse extends BaseResponse {
                 ", results=" + Arrays.toString(getData()) +
                 '}';
     }
+
+    /**
+     * Streaming adapter for {@link SearchResponse}, registered by {@link ModelTypeAdapterFactory}.
+     * The raw {@code data} element is kept as a tree and normalized lazily, as before.
+     */
+    static final class GsonAdapter extends TypeAdapter<SearchResponse> {
+        private final TypeAdapter<JsonElement> elementAdapter;
+
+        GsonAdapter(Gson gson) {
+            this.elementAdapter = gson.getAdapter(JsonElement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SearchResponse response) throws IOException {
+            if (response == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "data", response.data, elementAdapter);
+            response.writeBaseFields(out);
+            out.endObject();
+        }
+
+        @Override
+        public SearchResponse read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            SearchResponse response = new SearchResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if ("data".equals(name)) {
+                    response.data = elementAdapter.read(in);
+                } else if (!response.readBaseField(name, in)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package dev.firecrawl.model;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -283,4 +288,91 @@ public class SearchResult {
                     '}';
         }
     }
+
+    /**
+     * Streaming adapter for {@link SearchResult}, registered by {@link ModelTypeAdapterFactory}.
+     */
+    static final class GsonAdapter extends TypeAdapter<SearchResult> {
+        @Override
+        public void write(JsonWriter out, SearchResult result) throws IOException {
+            if (result == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            JsonFields.write(out, "title", result.title);
+            JsonFields.write(out, "description", result.description);
+            JsonFields.write(out, "url", result.url);
+            JsonFields.write(out, "markdown", result.markdown);
+            JsonFields.write(out, "html", result.html);
+            JsonFields.write(out, "rawHtml", result.rawHtml);
+            JsonFields.write(out, "links", result.links);
+            JsonFields.write(out, "screenshot", result.screenshot);
+            out.name("metadata");
+            Metadata metadata = result.metadata;
+            if (metadata == null) {
+                out.nullValue();
+            } else {
+                out.beginObject();
+                JsonFields.write(out, "title", metadata.title);
+                JsonFields.write(out, "description", metadata.description);
+                JsonFields.write(out, "sourceURL", metadata.sourceURL);
+                out.name("statusCode").value(metadata.statusCode);
+                JsonFields.write(out, "error", metadata.error);
+                out.endObject();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public SearchResult read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            SearchResult result = new SearchResult();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "title": result.title = JsonFields.readString(in); break;
+                    case "description": result.description = JsonFields.readString(in); break;
+                    case "url": result.url = JsonFields.readString(in); break;
+                    case "markdown": result.markdown = JsonFields.readString(in); break;
+                    case "html": result.html = JsonFields.readString(in); break;
+                    case "rawHtml": result.rawHtml = JsonFields.readString(in); break;
+                    case "links": result.links = JsonFields.readStringArray(in); break;
+                    case "screenshot": result.screenshot = JsonFields.readString(in); break;
+                    case "metadata": result.metadata = readMetadata(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        private Metadata readMetadata(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) {
+                return null;
+            }
+            Metadata metadata = new Metadata();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "title": metadata.title = JsonFields.readString(in); break;
+                    case "description": metadata.description = JsonFields.readString(in); break;
+                    case "sourceURL": metadata.sourceURL = JsonFields.readString(in); break;
+                    case "statusCode": {
+                        Integer statusCode = JsonFields.readInteger(in);
+                        if (statusCode != null) {
+                            metadata.statusCode = statusCode;
+                        }
+                        break;
+                    }
+                    case "error": metadata.error = JsonFields.readString(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return metadata;
+        }
+    }
 }
\ No newline at end of file
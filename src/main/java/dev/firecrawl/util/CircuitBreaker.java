@@ -0,0 +1,486 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.CircuitBreakerOpenException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Circuit breakers keyed by endpoint, failing calls fast while an endpoint is unhealthy.
+ * <p>
+ * A call's endpoint is the first two segments of its path, so {@code /v2/scrape} has one circuit and
+ * {@code /v2/crawl} covers both starting crawls and polling {@code /v2/crawl/{id}}. Each circuit
+ * tracks the outcome of its last {@link Builder#windowSize(int)} calls. A call fails when it ends
+ * with an I/O error or a 5xx response after any retries; other API errors show the endpoint is
+ * answering and count as successes. A call is slow when it takes longer than
+ * {@link Builder#slowCallDuration(Duration)}, whatever its outcome. Once at least
+ * {@link Builder#minimumCalls(int)} calls are recorded and either rate reaches its threshold, the
+ * circuit opens and calls fail immediately with {@link CircuitBreakerOpenException}.
+ * <p>
+ * After {@link Builder#openDuration(Duration)} the circuit goes half-open and lets probe calls
+ * through, one at first and one more in parallel for every probe that succeeds. When
+ * {@link Builder#halfOpenProbes(int)} probes have succeeded the circuit closes. A failed or slow
+ * probe opens it again. Calls refused by the rate or concurrency limiter and cancelled calls are
+ * not recorded.
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder()
+ *         .failureRateThreshold(0.5)
+ *         .slowCallDuration(Duration.ofSeconds(30))
+ *         .openDuration(Duration.ofSeconds(15))
+ *         .build();
+ * }</pre>
+ */
+public final class CircuitBreaker {
+    /**
+     * State of an endpoint's circuit.
+     */
+    public enum State {
+        /** Calls flow normally and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are refused until the open duration has passed. */
+        OPEN,
+        /** A limited number of probe calls decide whether the circuit closes or opens again. */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallNanos = builder.slowCallDuration.toNanos();
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenProbes = builder.halfOpenProbes;
+    }
+
+    /**
+     * Returns a new builder: circuits open when half of the last 20 calls (at least 10) failed or
+     * took over a minute, stay open for 30 seconds, and close after 5 successful probes.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the endpoint a request path belongs to.
+     *
+     * @param path the request path
+     * @return the first two segments of the path (e.g. {@code /v2/crawl} for {@code /v2/crawl/abc})
+     */
+    public static String endpointOf(String path) {
+        int first = path.indexOf('/', 1);
+        if (first < 0) {
+            return path;
+        }
+        int second = path.indexOf('/', first + 1);
+        return second < 0 ? path : path.substring(0, second);
+    }
+
+    /**
+     * Returns the state of an endpoint's circuit.
+     *
+     * @param endpoint the endpoint (e.g. {@code /v2/scrape})
+     * @return the state, {@link State#CLOSED} for endpoints without calls yet
+     */
+    public State getState(String endpoint) {
+        Circuit circuit = circuits.get(endpointOf(endpoint));
+        return circuit != null ? circuit.state(System.nanoTime()) : State.CLOSED;
+    }
+
+    /**
+     * Returns the state of every endpoint that has seen calls.
+     *
+     * @return an unmodifiable snapshot of states by endpoint
+     */
+    public Map<String, State> getStates() {
+        long now = System.nanoTime();
+        Map<String, State> states = new TreeMap<>();
+        circuits.forEach((endpoint, circuit) -> states.put(endpoint, circuit.state(now)));
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Closes an endpoint's circuit and forgets its recorded calls.
+     *
+     * @param endpoint the endpoint
+     */
+    public void reset(String endpoint) {
+        Circuit circuit = circuits.get(endpointOf(endpoint));
+        if (circuit != null) {
+            circuit.reset();
+        }
+    }
+
+    /**
+     * Lets a call to a path through, or refuses it if the endpoint's circuit is open.
+     *
+     * @param path the request path
+     * @return the permit through which the call's outcome is recorded
+     * @throws CircuitBreakerOpenException if the circuit refuses the call
+     */
+    public Permit acquire(String path) throws CircuitBreakerOpenException {
+        String endpoint = endpointOf(path);
+        return circuits.computeIfAbsent(endpoint, Circuit::new).acquire(System.nanoTime());
+    }
+
+    /**
+     * A call let through by the circuit breaker. Exactly one outcome is recorded per permit;
+     * later calls to {@link #record(Throwable)} or {@link #release()} are ignored.
+     */
+    public static final class Permit {
+        private final Circuit circuit;
+        private final long generation;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile long startNanos;
+
+        private Permit(Circuit circuit, long generation, long startNanos) {
+            this.circuit = circuit;
+            this.generation = generation;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Marks the moment the call is sent, so time spent waiting on limiters is not counted
+         * towards a slow call.
+         */
+        public void sent() {
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the outcome of the call.
+         *
+         * @param error the failure, or null if the call succeeded
+         */
+        public void record(Throwable error) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            Boolean failed = classify(error);
+            if (failed == null) {
+                circuit.ignore(generation);
+            } else {
+                circuit.record(generation, failed, elapsed);
+            }
+        }
+
+        /**
+         * Gives the permit back without recording an outcome.
+         */
+        public void release() {
+            if (done.compareAndSet(false, true)) {
+                circuit.ignore(generation);
+            }
+        }
+
+        /**
+         * Returns whether an error counts as a failure, or null if it says nothing about the
+         * endpoint's health.
+         */
+        private static Boolean classify(Throwable error) {
+            while ((error instanceof CompletionException || error instanceof ExecutionException)
+                    && error.getCause() != null) {
+                error = error.getCause();
+            }
+            if (error == null) {
+                return Boolean.FALSE;
+            }
+            if (error.getCause() instanceof ApiException) {
+                // FirecrawlException wrapping the HTTP error
+                error = error.getCause();
+            }
+            if (error instanceof ApiException) {
+                return ((ApiException) error).getStatusCode() >= 500;
+            }
+            if (error instanceof InterruptedIOException && !(error instanceof SocketTimeoutException)
+                    && Thread.currentThread().isInterrupted()) {
+                // The caller gave up, the endpoint did not fail
+                return null;
+            }
+            if (error instanceof IOException) {
+                return Boolean.TRUE;
+            }
+            // Cancellation, limiter refusals and decoding errors
+            return null;
+        }
+    }
+
+    /**
+     * Circuit of one endpoint. Outcomes are counted in a ring buffer of the last window of calls;
+     * the generation changes on every state transition, so calls admitted under an earlier state
+     * cannot affect the current one.
+     */
+    private final class Circuit {
+        private final String endpoint;
+        private final byte[] outcomes = new byte[windowSize];
+        private State state = State.CLOSED;
+        private long generation;
+        private long openedAt;
+        private int next;
+        private int count;
+        private int failures;
+        private int slow;
+        private int probesAdmitted;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        Circuit(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized State state(long now) {
+            return state == State.OPEN && now - openedAt >= openNanos ? State.HALF_OPEN : state;
+        }
+
+        synchronized Permit acquire(long now) throws CircuitBreakerOpenException {
+            if (state == State.OPEN) {
+                long remaining = openNanos - (now - openedAt);
+                if (remaining > 0) {
+                    throw new CircuitBreakerOpenException(endpoint, Duration.ofNanos(remaining));
+                }
+                transition(State.HALF_OPEN, now);
+            }
+            if (state == State.HALF_OPEN) {
+                // One probe at first, then one more in parallel for every probe that succeeded
+                if (probesAdmitted >= halfOpenProbes || probesInFlight > probeSuccesses) {
+                    throw new CircuitBreakerOpenException(endpoint, Duration.ZERO);
+                }
+                probesAdmitted++;
+                probesInFlight++;
+            }
+            return new Permit(this, generation, now);
+        }
+
+        synchronized void record(long callGeneration, boolean failed, long elapsedNanos) {
+            if (callGeneration != generation) {
+                return;
+            }
+            boolean slowCall = elapsedNanos >= slowCallNanos;
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                if (failed || slowCall) {
+                    transition(State.OPEN, System.nanoTime());
+                } else if (++probeSuccesses >= halfOpenProbes) {
+                    transition(State.CLOSED, System.nanoTime());
+                }
+                return;
+            }
+            if (count == outcomes.length) {
+                byte evicted = outcomes[next];
+                failures -= evicted & FAILED;
+                slow -= (evicted & SLOW) >> 1;
+            } else {
+                count++;
+            }
+            byte outcome = (byte) ((failed ? FAILED : 0) | (slowCall ? SLOW : 0));
+            outcomes[next] = outcome;
+            next = (next + 1) % outcomes.length;
+            failures += outcome & FAILED;
+            slow += (outcome & SLOW) >> 1;
+            if (count >= minimumCalls
+                    && (failures >= failureRateThreshold * count || slow >= slowCallRateThreshold * count)) {
+                transition(State.OPEN, System.nanoTime());
+            }
+        }
+
+        synchronized void ignore(long callGeneration) {
+            if (callGeneration == generation && state == State.HALF_OPEN) {
+                // Let another probe take the place of one that never reached the endpoint
+                probesInFlight--;
+                probesAdmitted--;
+            }
+        }
+
+        synchronized void reset() {
+            transition(State.CLOSED, System.nanoTime());
+        }
+
+        private void transition(State target, long now) {
+            state = target;
+            generation++;
+            if (target == State.OPEN) {
+                openedAt = now;
+            } else if (target == State.HALF_OPEN) {
+                probesAdmitted = 0;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            } else {
+                next = 0;
+                count = 0;
+                failures = 0;
+                slow = 0;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "failureRateThreshold=" + failureRateThreshold +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", slowCallDuration=" + Duration.ofNanos(slowCallNanos) +
+                ", windowSize=" + windowSize +
+                ", minimumCalls=" + minimumCalls +
+                ", openDuration=" + Duration.ofNanos(openNanos) +
+                ", halfOpenProbes=" + halfOpenProbes +
+                ", states=" + getStates() +
+                '}';
+    }
+
+    /**
+     * Builder for {@link CircuitBreaker}.
+     */
+    public static final class Builder {
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 0.5;
+        private Duration slowCallDuration = Duration.ofMinutes(1);
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 5;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the share of failed calls in the window at which the circuit opens.
+         *
+         * @param threshold the failure rate, greater than 0 and at most 1
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double threshold) {
+            this.failureRateThreshold = requireRate(threshold, "failureRateThreshold");
+            return this;
+        }
+
+        /**
+         * Sets the share of slow calls in the window at which the circuit opens.
+         *
+         * @param threshold the slow call rate, greater than 0 and at most 1
+         * @return this builder
+         */
+        public Builder slowCallRateThreshold(double threshold) {
+            this.slowCallRateThreshold = requireRate(threshold, "slowCallRateThreshold");
+            return this;
+        }
+
+        /**
+         * Sets how long a call may take, from sending to its final outcome, before it counts as slow.
+         * Keep this well below the client's call timeout so a hanging endpoint opens the circuit
+         * before every caller has waited out the timeout.
+         *
+         * @param slowCallDuration the slow call duration
+         * @return this builder
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = requirePositive(slowCallDuration, "slowCallDuration");
+            return this;
+        }
+
+        /**
+         * Sets how many of the most recent calls are used to compute the rates.
+         *
+         * @param windowSize the window size
+         * @return this builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be at least 1");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets how many calls must be recorded before the rates can open the circuit.
+         *
+         * @param minimumCalls the minimum number of calls
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be at least 1");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how long an open circuit refuses calls before probing.
+         *
+         * @param openDuration the open duration
+         * @return this builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = requirePositive(openDuration, "openDuration");
+            return this;
+        }
+
+        /**
+         * Sets how many probe calls must succeed before a half-open circuit closes.
+         *
+         * @param halfOpenProbes the number of probes
+         * @return this builder
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            if (halfOpenProbes < 1) {
+                throw new IllegalArgumentException("halfOpenProbes must be at least 1");
+            }
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        /**
+         * Builds the circuit breaker.
+         *
+         * @return a new CircuitBreaker
+         */
+        public CircuitBreaker build() {
+            if (minimumCalls > windowSize) {
+                throw new IllegalArgumentException("minimumCalls must not exceed windowSize");
+            }
+            return new CircuitBreaker(this);
+        }
+
+        private static double requireRate(double rate, String name) {
+            if (!(rate > 0.0 && rate <= 1.0)) {
+                throw new IllegalArgumentException(name + " must be greater than 0 and at most 1");
+            }
+            return rate;
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            Objects.requireNonNull(value, name + " must not be null");
+            if (value.isZero() || value.isNegative()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+    }
+}
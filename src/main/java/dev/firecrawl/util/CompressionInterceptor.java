@@ -0,0 +1,227 @@
+package dev.firecrawl.util;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.ForwardingSource;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application interceptor that negotiates compressed responses, optionally gzips large request
+ * bodies, and reports bytes-on-wire per call.
+ * <p>
+ * Setting {@code Accept-Encoding} explicitly turns off OkHttp's built-in transparent gzip, so this
+ * interceptor decodes responses itself: gzip natively, anything else through a registered
+ * {@link ContentDecoder}. Requests that already carry an {@code Accept-Encoding} header are passed
+ * through undecoded.
+ */
+public class CompressionInterceptor implements Interceptor {
+    private static final String GZIP = "gzip";
+
+    private final Map<String, ContentDecoder> decoders = new LinkedHashMap<>();
+    private final String acceptEncoding;
+    private final long gzipRequestThreshold;
+    private final CompressionListener listener;
+
+    /**
+     * Creates a new CompressionInterceptor.
+     *
+     * @param gzipRequestThreshold minimum request body size in bytes to send gzipped, or a negative value to never compress requests
+     * @param listener the per-call statistics listener (can be null)
+     * @param decoders additional response decoders, preferred over gzip in the order given
+     */
+    public CompressionInterceptor(long gzipRequestThreshold, CompressionListener listener, ContentDecoder... decoders) {
+        this.gzipRequestThreshold = gzipRequestThreshold;
+        this.listener = listener;
+        StringBuilder accept = new StringBuilder();
+        for (ContentDecoder decoder : decoders) {
+            String encoding = decoder.encoding().toLowerCase(Locale.ROOT);
+            if (!GZIP.equals(encoding) && this.decoders.putIfAbsent(encoding, decoder) == null) {
+                accept.append(encoding).append(", ");
+            }
+        }
+        this.acceptEncoding = accept.append(GZIP).toString();
+    }
+
+    /**
+     * Returns the {@code Accept-Encoding} value sent with requests.
+     *
+     * @return the accepted encodings
+     */
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Request.Builder builder = request.newBuilder();
+
+        CountingRequestBody countingBody = null;
+        String requestEncoding = null;
+        long requestBytes = 0;
+        RequestBody body = request.body();
+        if (body != null) {
+            if (gzipRequestThreshold >= 0 && request.header("Content-Encoding") == null) {
+                Buffer raw = new Buffer();
+                body.writeTo(raw);
+                requestBytes = raw.size();
+                if (requestBytes >= gzipRequestThreshold) {
+                    Buffer gzipped = new Buffer();
+                    try (BufferedSink sink = Okio.buffer(new GzipSink(gzipped))) {
+                        sink.writeAll(raw);
+                    }
+                    requestEncoding = GZIP;
+                    builder.header("Content-Encoding", GZIP);
+                    raw = gzipped;
+                }
+                body = RequestBody.create(raw.readByteString(), body.contentType());
+            }
+            countingBody = new CountingRequestBody(body);
+            builder.method(request.method(), countingBody);
+        }
+
+        boolean negotiated = request.header("Accept-Encoding") == null;
+        if (negotiated) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+
+        Response response = chain.proceed(builder.build());
+
+        long requestWireBytes = countingBody != null ? countingBody.written : 0;
+        if (requestEncoding == null) {
+            requestBytes = requestWireBytes;
+        }
+        ResponseBody raw = response.body();
+        String encoding = response.header("Content-Encoding");
+        String normalized = encoding != null ? encoding.trim().toLowerCase(Locale.ROOT) : null;
+        boolean decode = negotiated && normalized != null && raw != null && raw.contentLength() != 0
+                && (GZIP.equals(normalized) || decoders.containsKey(normalized));
+        if (raw == null) {
+            report(request, requestEncoding, requestBytes, requestWireBytes, null, 0, 0);
+            return response;
+        }
+
+        CountingSource wire = new CountingSource(raw.source());
+        Source decoded = wire;
+        if (decode) {
+            decoded = GZIP.equals(normalized)
+                    ? new GzipSource(wire)
+                    : Okio.source(decoders.get(normalized).decode(Okio.buffer(wire).inputStream()));
+        }
+        String responseEncoding = decode ? normalized : null;
+        String finalRequestEncoding = requestEncoding;
+        long finalRequestBytes = requestBytes;
+        Source reporting = new CountingSource(decoded) {
+            private final AtomicBoolean reported = new AtomicBoolean();
+
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read == -1) {
+                    done();
+                }
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    done();
+                }
+            }
+
+            private void done() {
+                if (reported.compareAndSet(false, true)) {
+                    report(request, finalRequestEncoding, finalRequestBytes, requestWireBytes,
+                            responseEncoding, count, wire.count);
+                }
+            }
+        };
+
+        Response.Builder out = response.newBuilder();
+        long contentLength = raw.contentLength();
+        if (decode) {
+            out.removeHeader("Content-Encoding").removeHeader("Content-Length");
+            contentLength = -1L;
+        }
+        MediaType contentType = raw.contentType();
+        return out.body(ResponseBody.create(Okio.buffer(reporting), contentType, contentLength)).build();
+    }
+
+    private void report(Request request, String requestEncoding, long requestBytes, long requestWireBytes,
+                        String responseEncoding, long responseBytes, long responseWireBytes) {
+        if (listener != null) {
+            listener.onCall(new CompressionStats(request.url().encodedPath(), requestEncoding, requestBytes,
+                    requestWireBytes, responseEncoding, responseBytes, responseWireBytes));
+        }
+    }
+
+    private static class CountingSource extends ForwardingSource {
+        long count;
+
+        CountingSource(Source delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    private static final class CountingRequestBody extends RequestBody {
+        private final RequestBody delegate;
+        private volatile long written;
+
+        CountingRequestBody(RequestBody delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            long[] count = new long[1];
+            BufferedSink counting = Okio.buffer(new ForwardingSink(sink) {
+                @Override
+                public void write(Buffer source, long byteCount) throws IOException {
+                    super.write(source, byteCount);
+                    count[0] += byteCount;
+                }
+            });
+            delegate.writeTo(counting);
+            counting.emit();
+            written = count[0];
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.firecrawl.util;
+
+/**
+ * Receives bytes-on-wire accounting for every call once its response body has been consumed.
+ */
+@FunctionalInterface
+public interface CompressionListener {
+    /**
+     * Called once per call when the response body is exhausted or closed. Invoked on the thread
+     * that consumed the body, so implementations should be fast and thread-safe.
+     *
+     * @param stats the call's compression statistics
+     */
+    void onCall(CompressionStats stats);
+}
@@ -0,0 +1,132 @@
+package dev.firecrawl.util;
+
+import java.util.Objects;
+
+/**
+ * Bytes-on-wire accounting for a single call, reported through a {@link CompressionListener}.
+ */
+public final class CompressionStats {
+    private final String path;
+    private final String requestEncoding;
+    private final long requestBytes;
+    private final long requestWireBytes;
+    private final String responseEncoding;
+    private final long responseBytes;
+    private final long responseWireBytes;
+
+    CompressionStats(String path, String requestEncoding, long requestBytes, long requestWireBytes,
+                     String responseEncoding, long responseBytes, long responseWireBytes) {
+        this.path = path;
+        this.requestEncoding = requestEncoding;
+        this.requestBytes = requestBytes;
+        this.requestWireBytes = requestWireBytes;
+        this.responseEncoding = responseEncoding;
+        this.responseBytes = responseBytes;
+        this.responseWireBytes = responseWireBytes;
+    }
+
+    /**
+     * Returns the request path (e.g. {@code /v2/scrape}).
+     *
+     * @return the request path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the request {@code Content-Encoding}, or null if the body was sent uncompressed.
+     *
+     * @return the request encoding
+     */
+    public String getRequestEncoding() {
+        return requestEncoding;
+    }
+
+    /**
+     * Returns the uncompressed request body size.
+     *
+     * @return the request size in bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Returns the request body size as sent.
+     *
+     * @return the request size on the wire in bytes
+     */
+    public long getRequestWireBytes() {
+        return requestWireBytes;
+    }
+
+    /**
+     * Returns the response {@code Content-Encoding}, or null if the body was not compressed.
+     *
+     * @return the response encoding
+     */
+    public String getResponseEncoding() {
+        return responseEncoding;
+    }
+
+    /**
+     * Returns the decoded size of the response body that was read.
+     *
+     * @return the decoded response size in bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Returns the size of the response body as received.
+     *
+     * @return the response size on the wire in bytes
+     */
+    public long getResponseWireBytes() {
+        return responseWireBytes;
+    }
+
+    /**
+     * Returns the bytes saved on the wire by compression in both directions.
+     *
+     * @return the saved bytes (negative if compression grew the payload)
+     */
+    public long getBytesSaved() {
+        return (requestBytes - requestWireBytes) + (responseBytes - responseWireBytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompressionStats that = (CompressionStats) o;
+        return requestBytes == that.requestBytes &&
+                requestWireBytes == that.requestWireBytes &&
+                responseBytes == that.responseBytes &&
+                responseWireBytes == that.responseWireBytes &&
+                Objects.equals(path, that.path) &&
+                Objects.equals(requestEncoding, that.requestEncoding) &&
+                Objects.equals(responseEncoding, that.responseEncoding);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, requestEncoding, requestBytes, requestWireBytes,
+                responseEncoding, responseBytes, responseWireBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats{" +
+                "path='" + path + '\'' +
+                ", requestEncoding='" + requestEncoding + '\'' +
+                ", requestBytes=" + requestBytes +
+                ", requestWireBytes=" + requestWireBytes +
+                ", responseEncoding='" + responseEncoding + '\'' +
+                ", responseBytes=" + responseBytes +
+                ", responseWireBytes=" + responseWireBytes +
+                '}';
+    }
+}
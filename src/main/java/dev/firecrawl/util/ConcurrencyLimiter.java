@@ -0,0 +1,467 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.ConcurrencyLimitExceededException;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive limit on the number of calls in flight at once, adjusted from the latency and status of
+ * every HTTP attempt.
+ * <p>
+ * The limit follows AIMD with a latency gradient. A successful attempt made while at least half the
+ * limit is in use raises the limit by one. An attempt answered with an overload status (429 or 503
+ * by default) or timing out cuts it by {@link Builder#backoffRatio(double)}. When the recent
+ * latency average rises above {@link Builder#latencyTolerance(double)} times the long-term baseline,
+ * calls are queueing on the server and the limit is trimmed by 10%. At most one cut is made per
+ * recent round trip, so a burst of 429s from calls that were sent together counts once. Other
+ * error statuses, such as a fast 404 or 500, neither move the limit nor feed the latency averages.
+ * <p>
+ * Each call holds one slot from before its first attempt until its last, including retries. A call
+ * without a free slot queues in arrival order. Blocking calls wait on their thread and
+ * {@code ...Async} calls wait without one. A call still queued after {@link Builder#maxWait(Duration)}
+ * is rejected with {@link ConcurrencyLimitExceededException}. The current limit, in-flight and queued
+ * calls, rejections and latency averages can be read at any time, e.g. as metrics gauges.
+ * <pre>{@code
+ * ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+ *         .initialLimit(16)
+ *         .maxLimit(256)
+ *         .build();
+ * }</pre>
+ */
+public final class ConcurrencyLimiter {
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+    private static final double RECENT_WEIGHT = 0.2;
+    private static final double BASELINE_WEIGHT = 0.01;
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long maxWaitNanos;
+    private final Set<Integer> overloadStatus;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private double recentRttNanos;
+    private double baselineRttNanos;
+    private long samples;
+    private long lastDecreaseNanos;
+
+    private final AtomicLong rejections = new AtomicLong();
+
+    private ConcurrencyLimiter(Builder builder) {
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.overloadStatus = Collections.unmodifiableSet(new LinkedHashSet<>(builder.overloadStatus));
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns a new builder: an initial limit of 20 calls, between 1 and 200, halved on 429 and 503,
+     * trimmed when latency doubles, with calls waiting up to 1 minute for a slot.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the current limit on calls in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of calls currently holding a slot.
+     *
+     * @return the in-flight calls
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of calls waiting for a slot.
+     *
+     * @return the queued calls
+     */
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * Returns how many calls were rejected because no slot freed within the maximum wait.
+     *
+     * @return the total rejections
+     */
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    /**
+     * Returns the short-term average latency of successful attempts, up to the response headers.
+     *
+     * @return the recent latency, or zero before the first sample
+     */
+    public synchronized Duration getRecentLatency() {
+        return Duration.ofNanos((long) recentRttNanos);
+    }
+
+    /**
+     * Returns the long-term latency baseline the recent average is compared against.
+     *
+     * @return the baseline latency, or zero before the first sample
+     */
+    public synchronized Duration getBaselineLatency() {
+        return Duration.ofNanos((long) baselineRttNanos);
+    }
+
+    /**
+     * Takes a slot, blocking while the limit is reached.
+     *
+     * @throws ConcurrencyLimitExceededException if no slot frees within the maximum wait
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void acquire() throws ConcurrencyLimitExceededException, InterruptedIOException {
+        CompletableFuture<Void> slot = acquireAsync();
+        try {
+            slot.get();
+        } catch (InterruptedException e) {
+            // A slot granted while we were being interrupted must not leak
+            if (!slot.cancel(false) && !slot.isCompletedExceptionally()) {
+                release();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a concurrency slot");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ConcurrencyLimitExceededException) {
+                throw (ConcurrencyLimitExceededException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Takes a slot without blocking. Cancelling the returned future gives up the place in the queue.
+     *
+     * @return a future completed once the call holds a slot, or exceptionally with
+     *         {@link ConcurrencyLimitExceededException}
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (inFlight < (int) limit && waiters.isEmpty()) {
+                inFlight++;
+                return GRANTED;
+            }
+            if (maxWaitNanos == 0L) {
+                rejections.incrementAndGet();
+                return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException((int) limit, Duration.ZERO));
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        }
+        long queuedAt = System.nanoTime();
+        waiter.whenComplete((granted, error) -> {
+            if (error != null) {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            }
+        });
+        CompletableFuture.delayedExecutor(maxWaitNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (waiter.completeExceptionally(new ConcurrencyLimitExceededException(getLimit(),
+                    Duration.ofNanos(System.nanoTime() - queuedAt)))) {
+                rejections.incrementAndGet();
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Returns a slot taken with {@link #acquire()} or {@link #acquireAsync()}, handing it to the
+     * longest-waiting call if there is one.
+     */
+    public void release() {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = grantWaiters();
+        }
+        complete(granted);
+    }
+
+    /**
+     * Returns an interceptor that feeds the latency and status of every attempt to this limiter.
+     * {@code FirecrawlClient} installs it when the limiter is configured.
+     *
+     * @return the sampling interceptor
+     */
+    public Interceptor interceptor() {
+        return chain -> {
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = chain.proceed(chain.request());
+            } catch (SocketTimeoutException e) {
+                if (!chain.call().isCanceled()) {
+                    onSample(System.nanoTime() - start, true);
+                }
+                throw e;
+            }
+            if (overloadStatus.contains(response.code())) {
+                onSample(System.nanoTime() - start, true);
+            } else if (response.isSuccessful()) {
+                onSample(System.nanoTime() - start, false);
+            }
+            return response;
+        };
+    }
+
+    private void onSample(long rttNanos, boolean overloaded) {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (overloaded) {
+                decrease(now, backoffRatio);
+            } else {
+                // Overload responses are fast and would drag the latency averages down, so only
+                // successful attempts are sampled
+                if (samples++ == 0) {
+                    recentRttNanos = rttNanos;
+                    baselineRttNanos = rttNanos;
+                } else {
+                    recentRttNanos += RECENT_WEIGHT * (rttNanos - recentRttNanos);
+                    baselineRttNanos += BASELINE_WEIGHT * (rttNanos - baselineRttNanos);
+                    // Let the baseline recover quickly once latency drops back after a spike
+                    if (baselineRttNanos > 2 * recentRttNanos) {
+                        baselineRttNanos *= 0.95;
+                    }
+                }
+                if (samples >= WARMUP_SAMPLES && recentRttNanos > baselineRttNanos * latencyTolerance) {
+                    decrease(now, LATENCY_BACKOFF);
+                } else if (inFlight * 2 >= (int) limit) {
+                    // Only grow while the limit is actually in use
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+            }
+            granted = grantWaiters();
+        }
+        complete(granted);
+    }
+
+    private void decrease(long now, double ratio) {
+        // One cut per recent round trip; the calls sent alongside this one saw the same load
+        if (now - lastDecreaseNanos >= (long) recentRttNanos) {
+            limit = Math.max(minLimit, limit * ratio);
+            lastDecreaseNanos = now;
+        }
+    }
+
+    private List<CompletableFuture<Void>> grantWaiters() {
+        List<CompletableFuture<Void>> granted = null;
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter.isDone()) {
+                continue;
+            }
+            inFlight++;
+            if (granted == null) {
+                granted = new ArrayList<>();
+            }
+            granted.add(waiter);
+        }
+        return granted;
+    }
+
+    private void complete(List<CompletableFuture<Void>> granted) {
+        if (granted == null) {
+            return;
+        }
+        // Completed outside the lock, since the waiting calls continue on this thread
+        for (CompletableFuture<Void> waiter : granted) {
+            if (!waiter.complete(null)) {
+                // Timed out or cancelled after being picked
+                release();
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ConcurrencyLimiter{" +
+                "limit=" + (int) limit +
+                ", inFlight=" + inFlight +
+                ", queued=" + waiters.size() +
+                ", rejections=" + rejections.get() +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", initialLimit=" + initialLimit +
+                ", backoffRatio=" + backoffRatio +
+                ", latencyTolerance=" + latencyTolerance +
+                ", maxWait=" + Duration.ofNanos(maxWaitNanos) +
+                ", overloadStatus=" + overloadStatus +
+                '}';
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimiter}.
+     */
+    public static final class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.5;
+        private double latencyTolerance = 2.0;
+        private Duration maxWait = Duration.ofMinutes(1);
+        private final Set<Integer> overloadStatus = new LinkedHashSet<>(List.of(429, 503));
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the limit to start from.
+         *
+         * @param initialLimit the initial limit
+         * @return this builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lowest the limit can fall to.
+         *
+         * @param minLimit the minimum limit
+         * @return this builder
+         */
+        public Builder minLimit(int minLimit) {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("minLimit must be at least 1");
+            }
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Sets the highest the limit can grow to. Keep the client's {@code maxRequestsPerHost} at
+         * least this high, or the dispatcher becomes the effective limit for async calls.
+         *
+         * @param maxLimit the maximum limit
+         * @return this builder
+         */
+        public Builder maxLimit(int maxLimit) {
+            if (maxLimit < 1) {
+                throw new IllegalArgumentException("maxLimit must be at least 1");
+            }
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied by on an overload response or timeout.
+         *
+         * @param backoffRatio the backoff ratio, between 0 and 1 exclusive
+         * @return this builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0.0 && backoffRatio < 1.0)) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how far recent latency may rise above the baseline before the limit is trimmed.
+         *
+         * @param latencyTolerance the tolerated ratio of recent to baseline latency, above 1
+         * @return this builder
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (!(latencyTolerance > 1.0)) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets the longest a call waits for a slot before being rejected; zero rejects immediately.
+         *
+         * @param maxWait the maximum wait
+         * @return this builder
+         */
+        public Builder maxWait(Duration maxWait) {
+            Objects.requireNonNull(maxWait, "maxWait must not be null");
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Replaces the HTTP status codes treated as overload signals.
+         *
+         * @param statusCodes the overload status codes
+         * @return this builder
+         */
+        public Builder overloadStatus(int... statusCodes) {
+            this.overloadStatus.clear();
+            for (int code : statusCodes) {
+                if (code < 100 || code > 599) {
+                    throw new IllegalArgumentException("Invalid HTTP status code: " + code);
+                }
+                this.overloadStatus.add(code);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the limiter.
+         *
+         * @return a new ConcurrencyLimiter
+         */
+        public ConcurrencyLimiter build() {
+            if (minLimit > maxLimit) {
+                throw new IllegalArgumentException("minLimit must not exceed maxLimit");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+            }
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.firecrawl.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decoder for a response {@code Content-Encoding}.
+ * <p>
+ * gzip is always supported. Other codecs, such as brotli, are plugged in by registering a decoder
+ * backed by a library of your choice, for example:
+ * <pre>{@code
+ * ContentDecoder brotli = ContentDecoder.of("br", org.brotli.dec.BrotliInputStream::new);
+ * }</pre>
+ */
+public interface ContentDecoder {
+    /**
+     * Returns the {@code Content-Encoding} token handled by this decoder (e.g. {@code br}).
+     *
+     * @return the encoding token
+     */
+    String encoding();
+
+    /**
+     * Wraps an encoded stream with a decoding stream.
+     *
+     * @param encoded the encoded response body
+     * @return the decoded response body
+     * @throws IOException if the decoder cannot be initialized
+     */
+    InputStream decode(InputStream encoded) throws IOException;
+
+    /**
+     * Creates a decoder from an encoding token and a stream wrapping function.
+     *
+     * @param encoding the encoding token
+     * @param decoder the function wrapping an encoded stream
+     * @return the decoder
+     */
+    static ContentDecoder of(String encoding, StreamDecoder decoder) {
+        return new ContentDecoder() {
+            @Override
+            public String encoding() {
+                return encoding;
+            }
+
+            @Override
+            public InputStream decode(InputStream encoded) throws IOException {
+                return decoder.decode(encoded);
+            }
+        };
+    }
+
+    /**
+     * Function wrapping an encoded stream with a decoding stream.
+     */
+    @FunctionalInterface
+    interface StreamDecoder {
+        /**
+         * Wraps an encoded stream with a decoding stream.
+         *
+         * @param encoded the encoded stream
+         * @return the decoded stream
+         * @throws IOException if the decoder cannot be initialized
+         */
+        InputStream decode(InputStream encoded) throws IOException;
+    }
+}
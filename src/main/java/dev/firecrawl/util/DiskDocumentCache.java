@@ -0,0 +1,789 @@
+package dev.firecrawl.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent second tier of a {@link DocumentCache}, so that a restarted process still serves the
+ * pages it scraped before.
+ * <p>
+ * Documents are appended as JSON records to fixed-size segment files, which are memory-mapped for
+ * both writing and reading. An open-addressing hash index held in direct memory, outside the
+ * Java heap, maps each key to its latest record. A lookup reads only that record, and only a hit
+ * is decoded. On open, the index is rebuilt by scanning the segments; each record carries a
+ * checksum, so a record torn by a crash ends its segment instead of being served.
+ * <p>
+ * When the segments outgrow {@link Builder#maximumSize(long)}, the oldest is deleted with all of
+ * its records. A background task rewrites segments whose records are mostly overwritten or
+ * expired into the current segment and deletes them. The directory is locked while open and
+ * cannot be shared by two caches, including caches in other processes.
+ * <pre>{@code
+ * DiskDocumentCache disk = DiskDocumentCache.builder(Path.of("/var/cache/firecrawl"))
+ *         .maximumSize(4L * 1024 * 1024 * 1024)
+ *         .build();
+ * DocumentCache cache = DocumentCache.builder().diskCache(disk).build();
+ * }</pre>
+ */
+public final class DiskDocumentCache implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    // Record: length, CRC32 of the rest, stored-at and expires-at millis, key length, key,
+    // value length, value
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 2;
+    // Index slot: key hash (0 when empty), segment id (-1 when removed), record offset
+    private static final int SLOT_BYTES = 16;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maximumSize;
+    private final double compactionThreshold;
+    private final Gson gson = ModelTypeAdapterFactory.newGsonBuilder().create();
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+    private final ScheduledExecutorService compactor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private ByteBuffer index;
+    private int capacity;
+    private int usedSlots;
+    private int liveSlots;
+    private boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    private DiskDocumentCache(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.maximumSize = builder.maximumSize;
+        this.compactionThreshold = builder.compactionThreshold;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another cache in this process
+            acquired = null;
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("Cache directory is in use: " + directory);
+        }
+        this.fileLock = acquired;
+        try {
+            allocateIndex(1024);
+            recover();
+        } catch (IOException | RuntimeException e) {
+            closeSegments();
+            fileLock.release();
+            lockChannel.close();
+            throw e;
+        }
+        if (builder.compactionInterval.isZero()) {
+            this.compactor = null;
+        } else {
+            this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "firecrawl-cache-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = builder.compactionInterval.toMillis();
+            compactor.scheduleWithFixedDelay(this::compactQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns a new builder for a cache in the given directory: 64 MiB segments, at most 1 GiB,
+     * compacting every minute segments less than half live.
+     *
+     * @param directory the cache directory, created if missing
+     * @return a new builder
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Returns the number of lookups that found a live document.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no live document.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of segments rewritten by compaction.
+     *
+     * @return the compacted segments
+     */
+    public long getCompactions() {
+        return compactions.sum();
+    }
+
+    /**
+     * Returns the number of indexed documents, including expired ones not yet compacted away.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        lock.readLock().lock();
+        try {
+            return liveSlots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the live records of every segment, other than the current one, whose share of live
+     * bytes is below the compaction threshold, then deletes it. Runs in the background at the
+     * configured interval; call it to compact at once.
+     *
+     * @throws IOException if a segment cannot be created or deleted
+     */
+    public void compact() throws IOException {
+        long now = System.currentTimeMillis();
+        List<Segment> sparse = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (Segment segment : segments.values()) {
+                if (segment == active) {
+                    continue;
+                }
+                long live = liveBytes(segment, now);
+                if (live == 0 || live < compactionThreshold * segment.position) {
+                    sparse.add(segment);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (Segment segment : sparse) {
+            compact(segment, now);
+        }
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                enforceMaximumSize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes every stored document.
+     *
+     * @throws IOException if a segment cannot be deleted or created
+     */
+    public void invalidateAll() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (Segment segment : new ArrayList<>(segments.values())) {
+                drop(segment);
+            }
+            allocateIndex(1024);
+            active = openSegment(1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops compaction, flushes the segments and releases the directory.
+     *
+     * @throws IOException if a segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (compactor != null) {
+                compactor.shutdownNow();
+            }
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+            }
+            closeSegments();
+            fileLock.release();
+            lockChannel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DiskDocumentCache{" +
+                "directory=" + directory +
+                ", size=" + getSize() +
+                ", segments=" + getSegmentCount() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", compactions=" + getCompactions() +
+                '}';
+    }
+
+    /**
+     * Returns the live document stored under a key, or null.
+     */
+    Stored read(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long now = System.currentTimeMillis();
+        byte[] value;
+        long storedAt;
+        lock.readLock().lock();
+        try {
+            int slot = closed ? -1 : findSlot(keyBytes, hash(keyBytes));
+            if (slot < 0) {
+                misses.increment();
+                return null;
+            }
+            Segment segment = segments.get(slotSegment(slot));
+            int offset = slotOffset(slot);
+            storedAt = segment.buffer.getLong(offset + 8);
+            if (segment.buffer.getLong(offset + 16) <= now) {
+                misses.increment();
+                return null;
+            }
+            int valueAt = offset + HEADER_BYTES + keyBytes.length;
+            value = new byte[segment.buffer.getInt(valueAt)];
+            segment.buffer.get(valueAt + 4, value);
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            FirecrawlDocument document = gson.fromJson(new String(value, StandardCharsets.UTF_8), FirecrawlDocument.class);
+            hits.increment();
+            return new Stored(document, storedAt);
+        } catch (JsonParseException e) {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Appends a document, replacing any earlier one under the same key.
+     */
+    void write(String key, FirecrawlDocument document, long storedAt, long expiresAt) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > Short.MAX_VALUE) {
+            return;
+        }
+        byte[] value = gson.toJson(document, FirecrawlDocument.class).getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_BYTES + keyBytes.length + 4 + value.length;
+        if (length > segmentSize) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            Segment segment = reserve(length);
+            ByteBuffer buffer = segment.buffer;
+            int offset = segment.position;
+            buffer.putLong(offset + 8, storedAt);
+            buffer.putLong(offset + 16, expiresAt);
+            buffer.putShort(offset + 24, (short) keyBytes.length);
+            buffer.put(offset + HEADER_BYTES, keyBytes);
+            buffer.putInt(offset + HEADER_BYTES + keyBytes.length, value.length);
+            buffer.put(offset + HEADER_BYTES + keyBytes.length + 4, value);
+            buffer.putInt(offset + 4, checksum(buffer, offset, length));
+            // Written last: a record without its length is not there
+            buffer.putInt(offset, length);
+            segment.position += length;
+
+            long hash = hash(keyBytes);
+            int slot = findSlot(keyBytes, hash);
+            if (slot >= 0) {
+                setSlot(slot, hash, segment.id, offset);
+            } else {
+                insertSlot(hash, segment.id, offset);
+            }
+            enforceMaximumSize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            // Retried at the next interval
+        }
+    }
+
+    /**
+     * Moves the indexed records of a segment into the current one and deletes it. The records are
+     * copied out under the read lock, so lookups and writes go on meanwhile; the write lock is
+     * held only to append the copies, swap their slots and drop the segment.
+     */
+    private void compact(Segment segment, long now) throws IOException {
+        List<Integer> offsets = new ArrayList<>();
+        // Null for a record that has expired
+        List<byte[]> records = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (closed || segments.get(segment.id) != segment) {
+                return;
+            }
+            int offset = 0;
+            while (offset < segment.position) {
+                int length = segment.buffer.getInt(offset);
+                byte[] key = readKey(segment, offset);
+                int slot = findSlot(key, hash(key));
+                if (slot >= 0 && slotSegment(slot) == segment.id && slotOffset(slot) == offset) {
+                    byte[] record = null;
+                    if (segment.buffer.getLong(offset + 16) > now) {
+                        record = new byte[length];
+                        segment.buffer.get(offset, record);
+                    }
+                    offsets.add(offset);
+                    records.add(record);
+                }
+                offset += length;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Writes only go to the current segment, so no record here can have become indexed
+            if (closed || segments.get(segment.id) != segment) {
+                return;
+            }
+            for (int i = 0; i < offsets.size(); i++) {
+                int offset = offsets.get(i);
+                byte[] key = readKey(segment, offset);
+                long hash = hash(key);
+                int slot = findSlot(key, hash);
+                if (slot < 0 || slotSegment(slot) != segment.id || slotOffset(slot) != offset) {
+                    // Overwritten meanwhile
+                    continue;
+                }
+                byte[] record = records.get(i);
+                if (record == null) {
+                    removeSlot(slot);
+                } else {
+                    Segment target = reserve(record.length);
+                    target.buffer.put(target.position, record);
+                    setSlot(slot, hash, target.id, target.position);
+                    target.position += record.length;
+                }
+            }
+            drop(segment);
+            compactions.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a segment with room for a record, starting a new one if the current one is full.
+     */
+    private Segment reserve(int length) throws IOException {
+        if (active.position + length > segmentSize) {
+            active = openSegment(active.id + 1);
+        }
+        return active;
+    }
+
+    private void enforceMaximumSize() throws IOException {
+        while ((long) segments.size() * segmentSize > maximumSize && segments.size() > 1) {
+            Segment oldest = segments.firstEntry().getValue();
+            if (oldest == active) {
+                return;
+            }
+            for (int slot = 0; slot < capacity; slot++) {
+                if (index.getLong(slot * SLOT_BYTES) != 0 && slotSegment(slot) == oldest.id) {
+                    removeSlot(slot);
+                }
+            }
+            drop(oldest);
+        }
+    }
+
+    private long liveBytes(Segment segment, long now) {
+        long live = 0;
+        int offset = 0;
+        while (offset < segment.position) {
+            int length = segment.buffer.getInt(offset);
+            byte[] key = readKey(segment, offset);
+            int slot = findSlot(key, hash(key));
+            if (slot >= 0 && slotSegment(slot) == segment.id && slotOffset(slot) == offset
+                    && segment.buffer.getLong(offset + 16) > now) {
+                live += length;
+            }
+            offset += length;
+        }
+        return live;
+    }
+
+    /**
+     * Opens the existing segments in order and indexes the latest valid record of each key, unless
+     * that record has expired.
+     */
+    private void recover() throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    ids.add(Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // Not one of ours
+                }
+            }
+        }
+        ids.sort(null);
+        long now = System.currentTimeMillis();
+        for (int id : ids) {
+            Segment segment = openSegment(id);
+            ByteBuffer buffer = segment.buffer;
+            int offset = 0;
+            while (offset + HEADER_BYTES <= segmentSize) {
+                int length = buffer.getInt(offset);
+                if (length < HEADER_BYTES + 4 || length > segmentSize - offset
+                        || buffer.getInt(offset + 4) != checksum(buffer, offset, length)) {
+                    break;
+                }
+                byte[] key = readKey(segment, offset);
+                long hash = hash(key);
+                int slot = findSlot(key, hash);
+                if (buffer.getLong(offset + 16) <= now) {
+                    // The latest record is expired, so an earlier one for the key is no longer current
+                    if (slot >= 0) {
+                        removeSlot(slot);
+                    }
+                } else if (slot >= 0) {
+                    setSlot(slot, hash, id, offset);
+                } else {
+                    insertSlot(hash, id, offset);
+                }
+                offset += length;
+            }
+            // Anything after the last valid record is overwritten by the next write
+            if (offset + 4 <= segmentSize) {
+                buffer.putInt(offset, 0);
+            }
+            segment.position = offset;
+        }
+        if (active == null) {
+            active = openSegment(1);
+        }
+        enforceMaximumSize();
+    }
+
+    private Segment openSegment(int id) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        Segment segment = new Segment(id, path, channel, buffer);
+        segments.put(id, segment);
+        active = segment;
+        return segment;
+    }
+
+    private void drop(Segment segment) throws IOException {
+        segments.remove(segment.id);
+        segment.channel.close();
+        // The mapping itself is released when the buffer is garbage collected
+        Files.deleteIfExists(segment.path);
+    }
+
+    private void closeSegments() throws IOException {
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        ByteBuffer record = buffer.duplicate();
+        record.limit(offset + length).position(offset + 8);
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] readKey(Segment segment, int offset) {
+        byte[] key = new byte[segment.buffer.getShort(offset + 24)];
+        segment.buffer.get(offset + HEADER_BYTES, key);
+        return key;
+    }
+
+    /**
+     * 64-bit FNV-1a, never 0 since 0 marks an empty slot.
+     */
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    private void allocateIndex(int slots) {
+        index = ByteBuffer.allocateDirect(slots * SLOT_BYTES);
+        capacity = slots;
+        usedSlots = 0;
+        liveSlots = 0;
+    }
+
+    private int findSlot(byte[] key, long hash) {
+        int mask = capacity - 1;
+        for (int slot = (int) (hash ^ (hash >>> 32)) & mask; ; slot = (slot + 1) & mask) {
+            long slotHash = index.getLong(slot * SLOT_BYTES);
+            if (slotHash == 0) {
+                return -1;
+            }
+            if (slotHash == hash && slotSegment(slot) >= 0) {
+                Segment segment = segments.get(slotSegment(slot));
+                if (segment != null && Arrays.equals(readKey(segment, slotOffset(slot)), key)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void insertSlot(long hash, int segmentId, int offset) {
+        if (usedSlots + 1 > capacity * 0.7) {
+            resizeIndex(liveSlots + 1 > capacity * 0.35 ? capacity * 2 : capacity);
+        }
+        int mask = capacity - 1;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (index.getLong(slot * SLOT_BYTES) != 0 && slotSegment(slot) >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (index.getLong(slot * SLOT_BYTES) == 0) {
+            usedSlots++;
+        }
+        liveSlots++;
+        setSlot(slot, hash, segmentId, offset);
+    }
+
+    private void resizeIndex(int slots) {
+        ByteBuffer old = index;
+        int oldCapacity = capacity;
+        allocateIndex(slots);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long hash = old.getLong(slot * SLOT_BYTES);
+            int segmentId = old.getInt(slot * SLOT_BYTES + 8);
+            if (hash != 0 && segmentId >= 0) {
+                insertSlot(hash, segmentId, old.getInt(slot * SLOT_BYTES + 12));
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        // Keeps the hash so that probing continues past this slot
+        index.putInt(slot * SLOT_BYTES + 8, -1);
+        liveSlots--;
+    }
+
+    private void setSlot(int slot, long hash, int segmentId, int offset) {
+        index.putLong(slot * SLOT_BYTES, hash);
+        index.putInt(slot * SLOT_BYTES + 8, segmentId);
+        index.putInt(slot * SLOT_BYTES + 12, offset);
+    }
+
+    private int slotSegment(int slot) {
+        return index.getInt(slot * SLOT_BYTES + 8);
+    }
+
+    private int slotOffset(int slot) {
+        return index.getInt(slot * SLOT_BYTES + 12);
+    }
+
+    /**
+     * A document read back from disk, with the wall-clock time it was stored.
+     */
+    static final class Stored {
+        final FirecrawlDocument document;
+        final long storedAtMillis;
+
+        Stored(FirecrawlDocument document, long storedAtMillis) {
+            this.document = document;
+            this.storedAtMillis = storedAtMillis;
+        }
+    }
+
+    private static final class Segment {
+        final int id;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int position;
+
+        Segment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * Builder for {@link DiskDocumentCache}.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private long maximumSize = 1024L * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private Duration compactionInterval = Duration.ofMinutes(1);
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        }
+
+        /**
+         * Sets the size of each segment file, which also caps the size of a stored document.
+         *
+         * @param segmentSize the segment size in bytes
+         * @return this builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize < 4096) {
+                throw new IllegalArgumentException("segmentSize must be at least 4096");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the total size of the segment files, beyond which the oldest segment is deleted.
+         *
+         * @param maximumSize the maximum size in bytes
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the share of live bytes below which a segment is compacted.
+         *
+         * @param compactionThreshold the threshold, between 0 and 1 exclusive
+         * @return this builder
+         */
+        public Builder compactionThreshold(double compactionThreshold) {
+            if (!(compactionThreshold > 0.0 && compactionThreshold < 1.0)) {
+                throw new IllegalArgumentException("compactionThreshold must be between 0 and 1");
+            }
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how often segments are checked for compaction in the background.
+         *
+         * @param compactionInterval the interval, or zero to compact only on
+         *        {@link DiskDocumentCache#compact()}
+         * @return this builder
+         */
+        public Builder compactionInterval(Duration compactionInterval) {
+            Objects.requireNonNull(compactionInterval, "compactionInterval must not be null");
+            if (compactionInterval.isNegative()) {
+                throw new IllegalArgumentException("compactionInterval must not be negative");
+            }
+            this.compactionInterval = compactionInterval;
+            return this;
+        }
+
+        /**
+         * Opens the cache, indexing the segments already in the directory.
+         *
+         * @return a new DiskDocumentCache
+         * @throws IOException if the directory cannot be created, locked or read
+         */
+        public DiskDocumentCache build() throws IOException {
+            if (maximumSize < 2L * segmentSize) {
+                throw new IllegalArgumentException("maximumSize must be at least two segments");
+            }
+            return new DiskDocumentCache(this);
+        }
+    }
+}
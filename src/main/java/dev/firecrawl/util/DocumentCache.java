@@ -0,0 +1,436 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of scraped documents, bounded by their approximate size in bytes.
+ * <p>
+ * Documents are keyed by URL and scrape parameters, excluding {@code maxAge} and
+ * {@code storeInCache}. A cached document is served while it is younger than the {@code maxAge}
+ * of the scrape asking for it, or {@link Builder#defaultMaxAge(Duration)} if none is set. A scrape
+ * with a {@code maxAge} of 0, {@code storeInCache(false)} or {@code zeroDataRetention(true)}
+ * bypasses the cache.
+ * <p>
+ * With {@link Builder#staleWhileRevalidate(Duration)}, a document up to that much older than
+ * allowed is still returned at once, and a single background scrape refreshes it.
+ * <p>
+ * Entries are weighed by the size of their text fields, so a page with a screenshot or raw HTML
+ * counts for what it occupies. The cache is split into {@link Builder#concurrencyLevel(int)}
+ * independently locked stripes, each evicting its least recently used entries. Cached documents
+ * are shared between callers and must not be modified.
+ * <p>
+ * With a {@link Builder#diskCache(DiskDocumentCache) disk cache}, every stored document is also
+ * written to disk, and a document missing from memory is looked up there and brought back into
+ * memory. Ages are then measured from when the document was first stored, across restarts.
+ * <pre>{@code
+ * DocumentCache cache = DocumentCache.builder()
+ *         .maximumWeight(256L * 1024 * 1024)
+ *         .staleWhileRevalidate(Duration.ofMinutes(10))
+ *         .build();
+ * }</pre>
+ */
+public final class DocumentCache {
+    private final long defaultMaxAgeNanos;
+    private final long staleNanos;
+    private final StripedLruCache<FirecrawlDocument> entries;
+    private final DiskDocumentCache disk;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private DocumentCache(Builder builder) {
+        this.defaultMaxAgeNanos = builder.defaultMaxAge.toNanos();
+        this.staleNanos = builder.staleWhileRevalidate.toNanos();
+        this.entries = new StripedLruCache<>(builder.concurrencyLevel, builder.maximumWeight, DocumentCache::weigh);
+        this.disk = builder.diskCache;
+    }
+
+    /**
+     * Returns a new builder: 64 MiB over 16 stripes, a default max age of one hour and no stale
+     * serving.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns whether a scrape with these parameters may be served from or stored in the cache.
+     *
+     * @param params the scrape parameters, or null
+     * @return true if the scrape is cacheable
+     */
+    public static boolean isCacheable(ScrapeParams params) {
+        return params == null
+                || (!Objects.equals(params.getMaxAge(), 0)
+                && !Boolean.FALSE.equals(params.getStoreInCache())
+                && !Boolean.TRUE.equals(params.getZeroDataRetention()));
+    }
+
+    /**
+     * Returns a cached document young enough for a scrape. A stale document within the
+     * stale-while-revalidate window is returned too, and {@code revalidate} is started unless a
+     * refresh of that entry is already running.
+     *
+     * @param key the cache key of the scrape
+     * @param params the scrape parameters, or null
+     * @param revalidate starts a scrape whose result replaces the stale entry
+     * @return the document, or null on a miss
+     */
+    public FirecrawlDocument get(String key, ScrapeParams params,
+                                 Supplier<CompletableFuture<FirecrawlDocument>> revalidate) {
+        long now = System.nanoTime();
+        StripedLruCache.Entry<FirecrawlDocument> cached = entries.get(key, now);
+        StripedLruCache.Entry<FirecrawlDocument> entry =
+                cached == null && disk != null ? load(key, params, now) : cached;
+        long age = entry != null ? now - entry.storedAt : Long.MAX_VALUE;
+        long maxAge = maxAgeNanos(params);
+        if (age <= maxAge) {
+            hits.increment();
+            return entry.value;
+        }
+        if (entry == null || age - maxAge > staleNanos) {
+            misses.increment();
+            return null;
+        }
+        staleHits.increment();
+        if (entry.refreshing.compareAndSet(false, true)) {
+            refreshes.increment();
+            CompletableFuture<FirecrawlDocument> refresh;
+            try {
+                refresh = revalidate.get();
+            } catch (RuntimeException e) {
+                refresh = CompletableFuture.failedFuture(e);
+            }
+            refresh.whenComplete((document, error) -> {
+                if (error == null && document != null) {
+                    put(key, params, document);
+                } else {
+                    // Let a later request try again
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+        return entry.value;
+    }
+
+    /**
+     * Stores a scraped document. It is kept for the longer of the scrape's max age and the
+     * default max age, plus the stale-while-revalidate window, unless evicted sooner. Whether it
+     * is still fresh is decided by each lookup.
+     *
+     * @param key the cache key of the scrape
+     * @param params the scrape parameters, or null
+     * @param document the scraped document
+     */
+    public void put(String key, ScrapeParams params, FirecrawlDocument document) {
+        long now = System.nanoTime();
+        long lifetime = Math.max(maxAgeNanos(params), defaultMaxAgeNanos) + staleNanos;
+        entries.put(key, document, now, now + lifetime);
+        if (disk != null) {
+            long storedAt = System.currentTimeMillis();
+            try {
+                disk.write(key, document, storedAt, storedAt + TimeUnit.NANOSECONDS.toMillis(lifetime));
+            } catch (IOException e) {
+                // The document stays cached in memory
+            }
+        }
+    }
+
+    /**
+     * Removes every cached document, including those on disk.
+     *
+     * @throws UncheckedIOException if the disk cache cannot be cleared
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+        if (disk != null) {
+            try {
+                disk.invalidateAll();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the disk tier of this cache.
+     *
+     * @return the disk cache, or null if none was configured
+     */
+    public DiskDocumentCache getDiskCache() {
+        return disk;
+    }
+
+    /**
+     * Brings a document back from disk into memory, keeping its original age.
+     */
+    private StripedLruCache.Entry<FirecrawlDocument> load(String key, ScrapeParams params, long now) {
+        DiskDocumentCache.Stored stored = disk.read(key);
+        if (stored == null) {
+            return null;
+        }
+        long age = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - stored.storedAtMillis));
+        long lifetime = Math.max(maxAgeNanos(params), defaultMaxAgeNanos) + staleNanos;
+        StripedLruCache.Entry<FirecrawlDocument> entry =
+                entries.put(key, stored.document, now - age, now - age + lifetime);
+        return entry != null ? entry : new StripedLruCache.Entry<>(stored.document, 0, now - age, now - age + lifetime);
+    }
+
+    /**
+     * Returns the number of lookups served a fresh document.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups served a stale document while it was refreshed.
+     *
+     * @return the stale hits
+     */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no usable document.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of background refreshes started.
+     *
+     * @return the refreshes
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of documents evicted to stay within the maximum weight.
+     *
+     * @return the evictions
+     */
+    public long getEvictions() {
+        return entries.evictions();
+    }
+
+    /**
+     * Returns the number of documents dropped because they outlived their max age.
+     *
+     * @return the expirations
+     */
+    public long getExpirations() {
+        return entries.expirations();
+    }
+
+    /**
+     * Returns the number of cached documents.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the approximate size of the cached documents.
+     *
+     * @return the weight in bytes
+     */
+    public long getWeight() {
+        return entries.weight();
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentCache{" +
+                "size=" + getSize() +
+                ", weight=" + getWeight() +
+                ", hits=" + getHits() +
+                ", staleHits=" + getStaleHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                '}';
+    }
+
+    private long maxAgeNanos(ScrapeParams params) {
+        Integer maxAge = params != null ? params.getMaxAge() : null;
+        return maxAge != null ? Duration.ofMillis(maxAge).toNanos() : defaultMaxAgeNanos;
+    }
+
+    /**
+     * Approximates the heap size of a document from its text, at two bytes per character.
+     */
+    static long weigh(FirecrawlDocument document) {
+        long chars = length(document.getMarkdown()) + length(document.getSummary()) + length(document.getHtml())
+                + length(document.getRawHtml()) + length(document.getScreenshot());
+        if (document.getLinks() != null) {
+            for (String link : document.getLinks()) {
+                chars += length(link);
+            }
+        }
+        if (document.getActions() != null) {
+            chars += weighValue(document.getActions().getScreenshots());
+            chars += weighValue(document.getActions().getPdfs());
+        }
+        if (document.getChangeTracking() != null) {
+            chars += length(document.getChangeTracking().getDiff());
+            chars += weighValue(document.getChangeTracking().getJson());
+        }
+        chars += weighValue(document.getMetadata());
+        return 64 + 2 * chars;
+    }
+
+    private static long weighValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        if (value instanceof Map) {
+            long chars = 0;
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                chars += weighValue(e.getKey()) + weighValue(e.getValue());
+            }
+            return chars;
+        }
+        if (value instanceof Collection) {
+            long chars = 0;
+            for (Object item : (Collection<?>) value) {
+                chars += weighValue(item);
+            }
+            return chars;
+        }
+        if (value instanceof Object[]) {
+            long chars = 0;
+            for (Object item : (Object[]) value) {
+                chars += weighValue(item);
+            }
+            return chars;
+        }
+        return 8;
+    }
+
+    private static long length(String s) {
+        return s != null ? s.length() : 0;
+    }
+
+    /**
+     * Builder for {@link DocumentCache}.
+     */
+    public static final class Builder {
+        private long maximumWeight = 64L * 1024 * 1024;
+        private Duration defaultMaxAge = Duration.ofHours(1);
+        private Duration staleWhileRevalidate = Duration.ZERO;
+        private int concurrencyLevel = 16;
+        private DiskDocumentCache diskCache;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the approximate number of bytes the cached documents may occupy.
+         *
+         * @param maximumWeight the maximum weight in bytes
+         * @return this builder
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("maximumWeight must be positive");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Sets how long a document is served to scrapes that set no {@code maxAge}.
+         *
+         * @param defaultMaxAge the default max age
+         * @return this builder
+         */
+        public Builder defaultMaxAge(Duration defaultMaxAge) {
+            Objects.requireNonNull(defaultMaxAge, "defaultMaxAge must not be null");
+            if (defaultMaxAge.isNegative()) {
+                throw new IllegalArgumentException("defaultMaxAge must not be negative");
+            }
+            this.defaultMaxAge = defaultMaxAge;
+            return this;
+        }
+
+        /**
+         * Sets how long past its max age a document is still returned while a background scrape
+         * refreshes it.
+         *
+         * @param staleWhileRevalidate the stale window, or zero to disable
+         * @return this builder
+         */
+        public Builder staleWhileRevalidate(Duration staleWhileRevalidate) {
+            Objects.requireNonNull(staleWhileRevalidate, "staleWhileRevalidate must not be null");
+            if (staleWhileRevalidate.isNegative()) {
+                throw new IllegalArgumentException("staleWhileRevalidate must not be negative");
+            }
+            this.staleWhileRevalidate = staleWhileRevalidate;
+            return this;
+        }
+
+        /**
+         * Sets the number of independently locked stripes, rounded up to a power of two. Each
+         * stripe holds an equal share of the maximum weight.
+         *
+         * @param concurrencyLevel the number of stripes
+         * @return this builder
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel < 1 || concurrencyLevel > 1 << 16) {
+                throw new IllegalArgumentException("concurrencyLevel must be between 1 and 65536");
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Adds a persistent tier that keeps documents across restarts. The disk cache is not
+         * closed by this cache.
+         *
+         * @param diskCache the disk cache, or null for memory only
+         * @return this builder
+         */
+        public Builder diskCache(DiskDocumentCache diskCache) {
+            this.diskCache = diskCache;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return a new DocumentCache
+         */
+        public DocumentCache build() {
+            return new DocumentCache(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.firecrawl.util;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link JsonCodec} backed by Gson; the client default.
+ * <p>
+ * The no-argument constructor registers {@link ModelTypeAdapterFactory}, so the SDK models are
+ * read and written by their streaming adapters rather than by reflection.
+ */
+public final class GsonJsonCodec implements JsonCodec {
+    private final Gson gson;
+
+    /**
+     * Creates a codec using the SDK's model adapters.
+     */
+    public GsonJsonCodec() {
+        this(ModelTypeAdapterFactory.newGsonBuilder().create());
+    }
+
+    /**
+     * Creates a codec around an existing Gson instance.
+     *
+     * @param gson the Gson instance; should have {@link ModelTypeAdapterFactory} registered
+     */
+    public GsonJsonCodec(Gson gson) {
+        this.gson = Objects.requireNonNull(gson, "gson");
+    }
+
+    @Override
+    public <T> T decode(InputStream in, Type type) throws IOException {
+        JsonReader reader = gson.newJsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return gson.fromJson(reader, type);
+    }
+
+    @Override
+    public void encode(Object value, Type type, OutputStream out) throws IOException {
+        JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        gson.toJson(value, type, writer);
+        writer.flush();
+    }
+}
@@ -3,16 +3,25 @@ package dev.firecrawl.util;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
 import okhttp3.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for HTTP request handling.
  */
 public class HttpUtils {
-    private static final Gson gson = new Gson();
-    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final Gson gson = ModelTypeAdapterFactory.newGsonBuilder().create();
+    private static final JsonCodec DEFAULT_CODEC = new GsonJsonCodec(gson);
+    private static final long MAX_ERROR_BODY_BYTES = 64 * 1024L;
 
     /**
      * Builds an HTTP request.
@@ -27,6 +36,23 @@ public class HttpUtils {
      */
     public static Request buildRequest(String baseUrl, String path, String apiKey, 
                                       JsonObject body, String idempotencyKey, String method) {
+        RequestBody requestBody = body != null ? new JsonRequestBody(gson, writer -> gson.toJson(body, writer)) : null;
+        return buildRequestWithBody(baseUrl, path, apiKey, requestBody, idempotencyKey, method);
+    }
+
+    /**
+     * Builds an HTTP request with a pre-encoded body, such as a {@link JsonRequestBody}.
+     *
+     * @param baseUrl the base URL
+     * @param path the path
+     * @param apiKey the API key
+     * @param body the request body (can be null for GET requests)
+     * @param idempotencyKey the idempotency key (can be null)
+     * @param method the HTTP method
+     * @return the built request
+     */
+    public static Request buildRequestWithBody(String baseUrl, String path, String apiKey,
+                                               RequestBody body, String idempotencyKey, String method) {
         Request.Builder builder = new Request.Builder().url(baseUrl + path);
         
         // Add authorization header
@@ -38,17 +64,12 @@ public class HttpUtils {
         }
         
         // Set method and body
+        RequestBody requestBody = body != null ? body : RequestBody.create(new byte[0], null);
         if ("GET".equalsIgnoreCase(method)) {
             builder.get();
         } else if ("DELETE".equalsIgnoreCase(method)) {
-            RequestBody requestBody = body != null
-                    ? RequestBody.create(JSON, gson.toJson(body))
-                    : RequestBody.create(new byte[0], null);
             builder.delete(requestBody);
         } else {
-            RequestBody requestBody = body != null
-                    ? RequestBody.create(JSON, gson.toJson(body))
-                    : RequestBody.create(new byte[0], null);
             builder.method(method, requestBody);
             builder.header("Content-Type", "application/json");
         }
@@ -69,61 +90,270 @@ public class HttpUtils {
      */
     public static <T> T executeRequest(OkHttpClient client, Request request, Class<T> responseType) 
             throws IOException, ApiException {
-        int maxRetries = 2; // total attempts = 1 + maxRetries
-        int attempt = 0;
-        long backoffMs = 250L;
+        return executeRequest(client, request, responseType, DEFAULT_CODEC);
+    }
 
+    /**
+     * Executes an HTTP request and decodes a successful response with the given codec.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param <T> the response type
+     * @return the response object
+     * @throws IOException if an I/O error occurs
+     * @throws ApiException if the API returns an error
+     */
+    public static <T> T executeRequest(OkHttpClient client, Request request, Class<T> responseType, JsonCodec codec)
+            throws IOException, ApiException {
+        return executeRequest(client, request, responseType, codec, RetryPolicy.defaults());
+    }
+
+    /**
+     * Executes an HTTP request, retrying failed attempts as the given policy allows.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param retryPolicy the retry policy
+     * @param <T> the response type
+     * @return the response object
+     * @throws IOException if an I/O error occurs, or the thread is interrupted while waiting to retry
+     * @throws ApiException if the API returns an error
+     */
+    public static <T> T executeRequest(OkHttpClient client, Request request, Class<T> responseType, JsonCodec codec,
+                                       RetryPolicy retryPolicy) throws IOException, ApiException {
+        return executeRequest(client, request, responseType, codec, retryPolicy, null, null);
+    }
+
+    /**
+     * Executes an HTTP request, retrying failed attempts as the given policy allows. Each retry
+     * takes a permit from the rate limiter for {@code rateLimitPath} and waits for it along with
+     * the backoff; a retry the limiter refuses is not sent, and the last attempt's error is returned.
+     * The first attempt's permit is the caller's to take.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param retryPolicy the retry policy
+     * @param rateLimiter the rate limiter throttling retries, or null
+     * @param rateLimitPath the path the rate limiter knows the request by, e.g. {@code /v2/scrape},
+     *                      or null for the request's own path
+     * @param <T> the response type
+     * @return the response object
+     * @throws IOException if an I/O error occurs, or the thread is interrupted while waiting to retry
+     * @throws ApiException if the API returns an error
+     */
+    public static <T> T executeRequest(OkHttpClient client, Request request, Class<T> responseType, JsonCodec codec,
+                                       RetryPolicy retryPolicy, RateLimiter rateLimiter, String rateLimitPath)
+            throws IOException, ApiException {
+        RetryPolicy.Attempts attempts = retryPolicy.start(request, rateLimiter, rateLimitPath);
         while (true) {
-            try (Response response = client.newCall(request).execute()) {
-                String responseBody = response.body().string();
-
-                if (!response.isSuccessful()) {
-                    int code = response.code();
-                    String method = request.method();
-                    boolean isGet = method != null && method.equalsIgnoreCase("GET");
-                    boolean retriable = isGet && (code == 502 || code == 503 || code == 504);
-
-                    String msg = response.message();
-                    // Try to parse error details from JSON body
-                    try {
-                        com.google.gson.JsonObject obj = gson.fromJson(responseBody, com.google.gson.JsonObject.class);
-                        if (obj != null) {
-                            String bodyMsg = null;
-                            if (obj.has("message") && !obj.get("message").isJsonNull()) {
-                                bodyMsg = obj.get("message").getAsString();
-                            } else if (obj.has("error") && !obj.get("error").isJsonNull()) {
-                                bodyMsg = obj.get("error").getAsString();
-                            } else if (obj.has("detail") && !obj.get("detail").isJsonNull()) {
-                                bodyMsg = obj.get("detail").getAsString();
-                            } else if (obj.has("warning") && !obj.get("warning").isJsonNull()) {
-                                bodyMsg = obj.get("warning").getAsString();
-                            }
-                            if (bodyMsg != null && !bodyMsg.isEmpty()) {
-                                msg = (msg == null || msg.isEmpty()) ? bodyMsg : (msg + ": " + bodyMsg);
-                            }
-                        }
-                    } catch (Exception ignored) {
-                        // Ignore JSON parsing errors for error body
-                    }
+            Response response;
+            try {
+                response = client.newCall(request).execute();
+            } catch (IOException e) {
+                long delayMs = attempts.afterFailure(e);
+                if (delayMs < 0) {
+                    throw e;
+                }
+                sleep(delayMs);
+                continue;
+            }
+            long delayMs;
+            try (response) {
+                delayMs = attempts.afterResponse(response);
+                if (delayMs < 0) {
+                    return handleResponse(response, responseType, codec);
+                }
+            }
+            // The failed response is closed before waiting so its connection can be reused
+            sleep(delayMs);
+        }
+    }
 
-                    if (retriable && attempt < maxRetries) {
-                        attempt++;
-                        try {
-                            Thread.sleep(backoffMs);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            // Fall through to throw as ApiException
-                        }
-                        backoffMs *= 2; // exponential backoff
-                        continue; // retry the request
-                    }
+    /**
+     * Executes an HTTP request without blocking the calling thread.
+     * <p>
+     * The request is dispatched with {@link Call#enqueue(Callback)}; retries follow the same rules as
+     * {@link #executeRequest(OkHttpClient, Request, Class)} but wait out their backoff on a delayed
+     * executor instead of sleeping. Cancelling the returned future cancels the in-flight call.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param <T> the response type
+     * @return a future completed with the response object, or exceptionally with an
+     *         {@link IOException} or {@link ApiException}
+     */
+    public static <T> CompletableFuture<T> executeRequestAsync(OkHttpClient client, Request request, Class<T> responseType) {
+        return executeRequestAsync(client, request, responseType, DEFAULT_CODEC);
+    }
+
+    /**
+     * Executes an HTTP request without blocking and decodes a successful response with the given codec.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param <T> the response type
+     * @return a future completed with the response object, or exceptionally with an
+     *         {@link IOException} or {@link ApiException}
+     */
+    public static <T> CompletableFuture<T> executeRequestAsync(OkHttpClient client, Request request,
+                                                               Class<T> responseType, JsonCodec codec) {
+        return executeRequestAsync(client, request, responseType, codec, RetryPolicy.defaults());
+    }
+
+    /**
+     * Executes an HTTP request without blocking, retrying failed attempts as the given policy allows.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param retryPolicy the retry policy
+     * @param <T> the response type
+     * @return a future completed with the response object, or exceptionally with an
+     *         {@link IOException} or {@link ApiException}
+     */
+    public static <T> CompletableFuture<T> executeRequestAsync(OkHttpClient client, Request request,
+                                                               Class<T> responseType, JsonCodec codec,
+                                                               RetryPolicy retryPolicy) {
+        return executeRequestAsync(client, request, responseType, codec, retryPolicy, null, null);
+    }
+
+    /**
+     * Executes an HTTP request without blocking, retrying failed attempts as the given policy
+     * allows and taking a rate limit permit for each retry as in
+     * {@link #executeRequest(OkHttpClient, Request, Class, JsonCodec, RetryPolicy, RateLimiter, String)}.
+     *
+     * @param client the OkHttpClient
+     * @param request the request to execute
+     * @param responseType the response type class
+     * @param codec the codec decoding response bodies
+     * @param retryPolicy the retry policy
+     * @param rateLimiter the rate limiter throttling retries, or null
+     * @param rateLimitPath the path the rate limiter knows the request by, or null for the
+     *                      request's own path
+     * @param <T> the response type
+     * @return a future completed with the response object, or exceptionally with an
+     *         {@link IOException} or {@link ApiException}
+     */
+    public static <T> CompletableFuture<T> executeRequestAsync(OkHttpClient client, Request request,
+                                                               Class<T> responseType, JsonCodec codec,
+                                                               RetryPolicy retryPolicy, RateLimiter rateLimiter,
+                                                               String rateLimitPath) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        enqueue(client, request, responseType, codec, future, retryPolicy.start(request, rateLimiter, rateLimitPath));
+        return future;
+    }
+
+    private static <T> void enqueue(OkHttpClient client, Request request, Class<T> responseType, JsonCodec codec,
+                                    CompletableFuture<T> future, RetryPolicy.Attempts attempts) {
+        if (future.isDone()) {
+            return;
+        }
+        Call call = client.newCall(request);
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (future.isDone()) {
+                    return;
+                }
+                long delayMs = attempts.afterFailure(e);
+                if (delayMs < 0) {
+                    future.completeExceptionally(e);
+                } else {
+                    retryLater(delayMs);
+                }
+            }
 
-                    String finalMsg = (msg == null || msg.isEmpty()) ? ("HTTP " + code) : ("HTTP " + code + " - " + msg);
-                    throw new ApiException(finalMsg, code, responseBody);
+            @Override
+            public void onResponse(Call call, Response response) {
+                T value;
+                // Release the connection before dependent stages run on this thread
+                try (response) {
+                    long delayMs = attempts.afterResponse(response);
+                    if (delayMs >= 0) {
+                        retryLater(delayMs);
+                        return;
+                    }
+                    value = handleResponse(response, responseType, codec);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                    return;
                 }
+                future.complete(value);
+            }
+
+            private void retryLater(long delayMs) {
+                Executor delayed = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+                delayed.execute(() -> enqueue(client, request, responseType, codec, future, attempts));
+            }
+        });
+    }
 
-                return gson.fromJson(responseBody, responseType);
+    private static void sleep(long delayMs) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    /**
+     * Decodes a successful response, or converts an unsuccessful one into an {@link ApiException}.
+     * Successful bodies are decoded incrementally from the body stream, so peak memory is roughly
+     * the decoded model rather than the raw bytes plus a full string copy.
+     */
+    private static <T> T handleResponse(Response response, Class<T> responseType, JsonCodec codec)
+            throws IOException, ApiException {
+        if (!response.isSuccessful()) {
+            // Only a bounded prefix of an error body is kept for the exception
+            byte[] errorBytes = response.peekBody(MAX_ERROR_BODY_BYTES).bytes();
+            String responseBody = new String(errorBytes, StandardCharsets.UTF_8);
+            int code = response.code();
+            String msg = response.message();
+            // Try to parse error details from JSON body
+            try {
+                JsonObject obj = codec.decode(new ByteArrayInputStream(errorBytes), JsonObject.class);
+                if (obj != null) {
+                    String bodyMsg = null;
+                    if (obj.has("message") && !obj.get("message").isJsonNull()) {
+                        bodyMsg = obj.get("message").getAsString();
+                    } else if (obj.has("error") && !obj.get("error").isJsonNull()) {
+                        bodyMsg = obj.get("error").getAsString();
+                    } else if (obj.has("detail") && !obj.get("detail").isJsonNull()) {
+                        bodyMsg = obj.get("detail").getAsString();
+                    } else if (obj.has("warning") && !obj.get("warning").isJsonNull()) {
+                        bodyMsg = obj.get("warning").getAsString();
+                    }
+                    if (bodyMsg != null && !bodyMsg.isEmpty()) {
+                        msg = (msg == null || msg.isEmpty()) ? bodyMsg : (msg + ": " + bodyMsg);
+                    }
+                }
+            } catch (Exception ignored) {
+                // Ignore JSON parsing errors for error body
             }
+
+            String finalMsg = (msg == null || msg.isEmpty()) ? ("HTTP " + code) : ("HTTP " + code + " - " + msg);
+            throw new ApiException(finalMsg, code, responseBody);
+        }
+
+        // Decode straight from the response stream; the body is never buffered as a whole
+        try (InputStream in = response.body().byteStream()) {
+            return codec.decode(in, responseType);
         }
     }
-}
\ No newline at end of file
+}
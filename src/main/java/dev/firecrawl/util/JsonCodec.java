@@ -0,0 +1,41 @@
+package dev.firecrawl.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Decodes API responses into model objects and encodes model objects back to JSON.
+ * <p>
+ * Every response the client receives is decoded through its codec, straight from the body stream.
+ * {@link GsonJsonCodec} is the default; {@code dev.firecrawl.util.jackson.JacksonJsonCodec} is an
+ * alternative for applications that already ship Jackson. Implementations must be thread-safe and
+ * must produce the same model values as the default: models keep their Gson
+ * {@link com.google.gson.JsonElement} fields, unknown properties are ignored and untyped numbers
+ * decode as {@link Double}.
+ * <p>
+ * Request bodies are not affected; they are written field by field with {@link JsonRequestBody}.
+ */
+public interface JsonCodec {
+    /**
+     * Decodes one JSON document from a UTF-8 stream.
+     *
+     * @param in the stream to read; not closed by this method
+     * @param type the type to decode
+     * @param <T> the decoded type
+     * @return the decoded value, or null for a JSON {@code null}
+     * @throws IOException if the stream cannot be read or does not hold valid JSON for the type
+     */
+    <T> T decode(InputStream in, Type type) throws IOException;
+
+    /**
+     * Encodes a value as UTF-8 JSON, omitting null fields.
+     *
+     * @param value the value to encode
+     * @param type the declared type of the value
+     * @param out the stream to write to; flushed but not closed by this method
+     * @throws IOException if the stream cannot be written
+     */
+    void encode(Object value, Type type, OutputStream out) throws IOException;
+}
@@ -0,0 +1,91 @@
+package dev.firecrawl.util;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request body whose JSON is written field by field with a {@link JsonWriter}, without building
+ * an intermediate {@code JsonObject} tree or {@code String}.
+ * <p>
+ * The JSON is encoded once into an okio buffer on first use and replayed from there, so the body
+ * keeps a {@code Content-Length} and can be resent on retry. The writer is created by the supplied
+ * {@link Gson}, so escaping and null handling match {@link Gson#toJson(Object)}.
+ */
+public final class JsonRequestBody extends RequestBody {
+    /**
+     * Content type of JSON request bodies.
+     */
+    public static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final Gson gson;
+    private final Content content;
+    private volatile ByteString encoded;
+
+    /**
+     * Creates a new JsonRequestBody.
+     *
+     * @param gson the Gson instance supplying writer settings and adapters for nested values
+     * @param content the function writing the JSON document
+     */
+    public JsonRequestBody(Gson gson, Content content) {
+        this.gson = gson;
+        this.content = content;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return bytes().size();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        sink.write(bytes());
+    }
+
+    /**
+     * Returns the encoded JSON document.
+     *
+     * @return the encoded bytes
+     * @throws IOException if the content cannot be written
+     */
+    public ByteString bytes() throws IOException {
+        ByteString bytes = encoded;
+        if (bytes == null) {
+            Buffer buffer = new Buffer();
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(buffer.outputStream(), StandardCharsets.UTF_8));
+            content.writeTo(writer);
+            writer.flush();
+            bytes = buffer.snapshot();
+            encoded = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes a JSON document.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Writes the document to the given writer.
+         *
+         * @param writer the JSON writer
+         * @throws IOException if writing fails
+         */
+        void writeTo(JsonWriter writer) throws IOException;
+    }
+}
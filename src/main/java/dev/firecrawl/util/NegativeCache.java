@@ -0,0 +1,326 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.CachedFailureException;
+import dev.firecrawl.exception.FirecrawlException;
+import okhttp3.HttpUrl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Remembers URLs whose scrapes failed in a way that is expected to repeat, so that resubmitting
+ * them fails at once instead of spending credits and concurrency.
+ * <p>
+ * Failures are keyed by canonical URL: lower-case scheme and host, no default port and no
+ * fragment. Whether a failure is deterministic is decided by {@link Builder#deterministic}. By
+ * default, API errors with status 400, 403, 404, 410 or 422 are deterministic, which covers
+ * invalid URLs and blocked sites. Note that 400 also covers parameters the API rejects.
+ * <p>
+ * A URL that failed is refused with a {@link CachedFailureException} for
+ * {@link Builder#initialTtl(Duration)}. Each further failure in a row multiplies that time by
+ * {@link Builder#multiplier(double)}, up to {@link Builder#maxTtl(Duration)}. A successful scrape
+ * clears the URL's history. Failure counts are remembered for one maximum TTL after a refusal
+ * period ends, so a URL that keeps failing backs off further.
+ * <pre>{@code
+ * NegativeCache failures = NegativeCache.builder()
+ *         .statuses(400, 403, 422)
+ *         .maxTtl(Duration.ofHours(6))
+ *         .build();
+ * }</pre>
+ */
+public final class NegativeCache {
+    private final long initialTtlNanos;
+    private final long maxTtlNanos;
+    private final double multiplier;
+    private final Predicate<FirecrawlException> deterministic;
+    private final StripedLruCache<Failure> failures;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder shortCircuits = new LongAdder();
+
+    private NegativeCache(Builder builder) {
+        this.initialTtlNanos = builder.initialTtl.toNanos();
+        this.maxTtlNanos = builder.maxTtl.toNanos();
+        this.multiplier = builder.multiplier;
+        this.deterministic = builder.deterministic;
+        this.failures = new StripedLruCache<>(builder.concurrencyLevel, builder.maximumSize, failure -> 1L);
+    }
+
+    /**
+     * Returns a new builder: refuse for one minute after the first failure, doubling up to one
+     * hour, for at most 10,000 URLs.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the canonical form of a URL used as its key. A string that is not an HTTP URL is
+     * returned trimmed, so that invalid URLs are cached too.
+     *
+     * @param url the URL
+     * @return the canonical URL
+     */
+    public static String canonicalUrl(String url) {
+        HttpUrl parsed = HttpUrl.parse(url.trim());
+        return parsed != null ? parsed.newBuilder().fragment(null).build().toString() : url.trim();
+    }
+
+    /**
+     * Returns the exception to refuse a scrape with, if the URL is still in its refusal period.
+     *
+     * @param url the URL to scrape
+     * @return the exception, or null if the URL may be scraped
+     */
+    public CachedFailureException getFailure(String url) {
+        String key = canonicalUrl(url);
+        long now = System.nanoTime();
+        StripedLruCache.Entry<Failure> entry = failures.get(key, now);
+        if (entry == null || now - entry.value.refusedUntil >= 0) {
+            return null;
+        }
+        shortCircuits.increment();
+        Failure failure = entry.value;
+        return new CachedFailureException(key, failure.count, Duration.ofNanos(failure.refusedUntil - now), failure.cause);
+    }
+
+    /**
+     * Records a failed scrape if its failure is deterministic.
+     *
+     * @param url the URL that was scraped
+     * @param error the failure
+     * @return true if the failure was recorded
+     */
+    public boolean recordFailure(String url, Throwable error) {
+        if (!(error instanceof FirecrawlException) || error instanceof CachedFailureException
+                || !deterministic.test((FirecrawlException) error)) {
+            return false;
+        }
+        String key = canonicalUrl(url);
+        long now = System.nanoTime();
+        StripedLruCache.Entry<Failure> previous = failures.get(key, now);
+        int count = previous != null ? previous.value.count + 1 : 1;
+        double ttl = initialTtlNanos * Math.pow(multiplier, count - 1);
+        long ttlNanos = (long) Math.min(maxTtlNanos, ttl);
+        failures.put(key, new Failure(count, now + ttlNanos, (FirecrawlException) error), now, now + ttlNanos + maxTtlNanos);
+        recorded.increment();
+        return true;
+    }
+
+    /**
+     * Records a successful scrape, clearing the URL's failure history.
+     *
+     * @param url the URL that was scraped
+     */
+    public void recordSuccess(String url) {
+        failures.invalidate(canonicalUrl(url));
+    }
+
+    /**
+     * Forgets the failures of a URL so that it is scraped again at once.
+     *
+     * @param url the URL
+     */
+    public void invalidate(String url) {
+        failures.invalidate(canonicalUrl(url));
+    }
+
+    /**
+     * Forgets every recorded failure.
+     */
+    public void invalidateAll() {
+        failures.invalidateAll();
+    }
+
+    /**
+     * Returns the number of failures recorded.
+     *
+     * @return the recorded failures
+     */
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    /**
+     * Returns the number of scrapes refused because of a cached failure.
+     *
+     * @return the refused scrapes
+     */
+    public long getShortCircuits() {
+        return shortCircuits.sum();
+    }
+
+    /**
+     * Returns the number of URLs with a failure history.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return "NegativeCache{" +
+                "initialTtl=" + Duration.ofNanos(initialTtlNanos) +
+                ", maxTtl=" + Duration.ofNanos(maxTtlNanos) +
+                ", size=" + getSize() +
+                ", recorded=" + getRecorded() +
+                ", shortCircuits=" + getShortCircuits() +
+                '}';
+    }
+
+    private static final class Failure {
+        final int count;
+        final long refusedUntil;
+        final FirecrawlException cause;
+
+        Failure(int count, long refusedUntil, FirecrawlException cause) {
+            this.count = count;
+            this.refusedUntil = refusedUntil;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Builder for {@link NegativeCache}.
+     */
+    public static final class Builder {
+        private Duration initialTtl = Duration.ofMinutes(1);
+        private Duration maxTtl = Duration.ofHours(1);
+        private double multiplier = 2.0;
+        private long maximumSize = 10_000;
+        private int concurrencyLevel = 16;
+        private Predicate<FirecrawlException> deterministic = statusIn(400, 403, 404, 410, 422);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how long a URL is refused after its first failure.
+         *
+         * @param initialTtl the initial refusal period
+         * @return this builder
+         */
+        public Builder initialTtl(Duration initialTtl) {
+            Objects.requireNonNull(initialTtl, "initialTtl must not be null");
+            if (initialTtl.isZero() || initialTtl.isNegative()) {
+                throw new IllegalArgumentException("initialTtl must be positive");
+            }
+            this.initialTtl = initialTtl;
+            return this;
+        }
+
+        /**
+         * Sets the longest a URL is refused, however often it has failed.
+         *
+         * @param maxTtl the maximum refusal period
+         * @return this builder
+         */
+        public Builder maxTtl(Duration maxTtl) {
+            Objects.requireNonNull(maxTtl, "maxTtl must not be null");
+            if (maxTtl.isZero() || maxTtl.isNegative()) {
+                throw new IllegalArgumentException("maxTtl must be positive");
+            }
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * Sets the factor the refusal period grows by with each failure in a row.
+         *
+         * @param multiplier the multiplier, at least 1
+         * @return this builder
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1.0) || Double.isInfinite(multiplier)) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the number of URLs remembered; the least recently used are forgotten first.
+         *
+         * @param maximumSize the maximum number of URLs
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of independently locked stripes, rounded up to a power of two.
+         *
+         * @param concurrencyLevel the number of stripes
+         * @return this builder
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel < 1 || concurrencyLevel > 1 << 16) {
+                throw new IllegalArgumentException("concurrencyLevel must be between 1 and 65536");
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Treats API errors with one of these HTTP statuses as deterministic, replacing any
+         * earlier rule.
+         *
+         * @param statuses the HTTP statuses
+         * @return this builder
+         */
+        public Builder statuses(int... statuses) {
+            this.deterministic = statusIn(statuses.clone());
+            return this;
+        }
+
+        /**
+         * Sets the rule deciding which failures are deterministic, replacing any earlier rule.
+         * It is called with the exception the scrape failed with.
+         *
+         * @param deterministic the rule
+         * @return this builder
+         */
+        public Builder deterministic(Predicate<FirecrawlException> deterministic) {
+            this.deterministic = Objects.requireNonNull(deterministic, "deterministic must not be null");
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return a new NegativeCache
+         */
+        public NegativeCache build() {
+            if (initialTtl.compareTo(maxTtl) > 0) {
+                throw new IllegalArgumentException("initialTtl must not exceed maxTtl");
+            }
+            return new NegativeCache(this);
+        }
+
+        private static Predicate<FirecrawlException> statusIn(int... statuses) {
+            int[] sorted = statuses.clone();
+            Arrays.sort(sorted);
+            return error -> {
+                for (Throwable t = error; t != null; t = t.getCause()) {
+                    if (t instanceof ApiException) {
+                        return Arrays.binarySearch(sorted, ((ApiException) t).getStatusCode()) >= 0;
+                    }
+                }
+                return false;
+            };
+        }
+    }
+}
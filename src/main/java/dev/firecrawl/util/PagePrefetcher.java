@@ -0,0 +1,431 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.UncheckedFirecrawlException;
+import okhttp3.HttpUrl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads the pages of a paged result ahead of the consumer, so that following {@code next}
+ * cursors is not bounded by one round trip per page.
+ * <p>
+ * While the consumer processes a page, up to the prefetch depth of the following pages are
+ * requested. A cursor is normally known only once the page before it has arrived, so those
+ * requests follow one another. When cursors carry a {@code skip} offset that advances by the
+ * same step from page to page, the offsets of the pages ahead are predicted and requested in
+ * parallel instead. A predicted page is used only if its cursor matches the {@code next} cursor
+ * of the page before it; otherwise it is discarded, the real cursor is followed, and the
+ * iteration stops predicting. Pages are always returned in order.
+ * <p>
+ * The depth adapts to the consumer: it grows by one, up to {@link Builder#maxDepth(int)},
+ * whenever the consumer has to wait for a page, and shrinks by one when the consumer is slow
+ * enough that the following page is already complete as well. At most the pages within the
+ * depth are held, and at most that many requests are in flight per iteration.
+ * <pre>{@code
+ * PagePrefetcher prefetcher = PagePrefetcher.builder()
+ *         .maxDepth(8)
+ *         .build();
+ * }</pre>
+ */
+public final class PagePrefetcher {
+    private final int initialDepth;
+    private final int maxDepth;
+    private final boolean predictOffsets;
+
+    private final LongAdder fetches = new LongAdder();
+    private final LongAdder predictedFetches = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+
+    private PagePrefetcher(Builder builder) {
+        this.initialDepth = builder.initialDepth;
+        this.maxDepth = builder.maxDepth;
+        this.predictOffsets = builder.predictOffsets;
+    }
+
+    /**
+     * Returns a new builder: start one page ahead, read up to 4 pages ahead, and predict
+     * {@code skip} offsets.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the pages of a result, starting from a page already fetched. Each call to
+     * {@link Iterable#iterator()} starts again from {@code first}.
+     *
+     * @param first the first page
+     * @param nextCursor returns a page's next page URL, or null on the last page
+     * @param fetcher fetches the page a cursor points to
+     * @param <P> the page type
+     * @return the pages
+     */
+    public <P> Iterable<P> pages(P first, Function<P, String> nextCursor, Fetcher<P> fetcher) {
+        Objects.requireNonNull(first, "First page must not be null");
+        return () -> new Pages<>(() -> CompletableFuture.completedFuture(first), nextCursor, fetcher);
+    }
+
+    /**
+     * Returns the pages of a result whose first page is requested when iteration starts.
+     *
+     * @param first requests the first page
+     * @param nextCursor returns a page's next page URL, or null on the last page
+     * @param fetcher fetches the page a cursor points to
+     * @param <P> the page type
+     * @return the pages
+     */
+    public <P> Iterable<P> pagesFrom(Supplier<CompletableFuture<P>> first, Function<P, String> nextCursor,
+                                     Fetcher<P> fetcher) {
+        Objects.requireNonNull(first, "First page must not be null");
+        return () -> new Pages<>(first, nextCursor, fetcher);
+    }
+
+    /**
+     * Returns the number of pages an iteration starts reading ahead.
+     *
+     * @return the initial prefetch depth
+     */
+    public int getInitialDepth() {
+        return initialDepth;
+    }
+
+    /**
+     * Returns the largest number of pages read ahead.
+     *
+     * @return the maximum prefetch depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns how many pages have been requested after the first page of an iteration.
+     *
+     * @return the number of page requests
+     */
+    public long getFetches() {
+        return fetches.sum();
+    }
+
+    /**
+     * Returns how many of those pages were requested at a predicted offset.
+     *
+     * @return the number of predicted page requests
+     */
+    public long getPredictedFetches() {
+        return predictedFetches.sum();
+    }
+
+    /**
+     * Returns how many requested pages were never returned, either because a prediction was
+     * wrong or because the iteration ended first.
+     *
+     * @return the number of discarded pages
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Returns how many times a consumer had to wait for a page that was not yet complete.
+     *
+     * @return the number of stalls
+     */
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    /**
+     * Parses the {@code skip} offset of a cursor.
+     *
+     * @return the offset, or -1 if the cursor has none
+     */
+    private static long skip(String cursor) {
+        HttpUrl url = HttpUrl.parse(cursor);
+        String skip = url != null ? url.queryParameter("skip") : null;
+        if (skip == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(skip);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a cursor with its {@code skip} offset replaced, in a form in which two cursors for
+     * the same page compare equal.
+     */
+    private static String withSkip(String cursor, long skip) {
+        HttpUrl url = HttpUrl.parse(cursor);
+        if (url == null || skip < 0) {
+            return cursor;
+        }
+        return url.newBuilder().setQueryParameter("skip", Long.toString(skip)).build().toString();
+    }
+
+    /**
+     * Fetches the page a cursor points to without blocking the calling thread.
+     *
+     * @param <P> the page type
+     */
+    @FunctionalInterface
+    public interface Fetcher<P> {
+        /**
+         * Requests a page. The future fails with an {@link IOException} or a
+         * {@link FirecrawlException} if the request does.
+         *
+         * @param cursor the next page URL
+         * @return a future completed with the page
+         */
+        CompletableFuture<P> fetch(String cursor);
+    }
+
+    /** A page requested ahead of the consumer. */
+    private static final class Slot<P> {
+        // Cursor the page was requested with, or null if it follows the page before it
+        final String cursor;
+        final CompletableFuture<P> page;
+
+        Slot(String cursor, CompletableFuture<P> page) {
+            this.cursor = cursor;
+            this.page = page;
+        }
+    }
+
+    /** One iteration over the pages. Not thread-safe, like any iterator. */
+    private final class Pages<P> implements Iterator<P> {
+        private final Supplier<CompletableFuture<P>> first;
+        private final Function<P, String> nextCursor;
+        private final Fetcher<P> fetcher;
+        private final ArrayDeque<Slot<P>> ahead = new ArrayDeque<>();
+        private int depth = initialDepth;
+        private boolean predict = predictOffsets;
+        private boolean started;
+        private P last;
+        // Offset of the last page returned; the first page has none
+        private long lastSkip;
+
+        Pages(Supplier<CompletableFuture<P>> first, Function<P, String> nextCursor, Fetcher<P> fetcher) {
+            this.first = first;
+            this.nextCursor = nextCursor;
+            this.fetcher = fetcher;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !started || cursor(last) != null;
+        }
+
+        @Override
+        public P next() {
+            if (!started) {
+                last = await(first.get());
+                started = true;
+                fill();
+                return last;
+            }
+            String cursor = cursor(last);
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            Slot<P> slot = ahead.pollFirst();
+            if (slot != null && slot.cursor != null && !slot.cursor.equals(withSkip(cursor, skip(cursor)))) {
+                discard(slot);
+                clear();
+                predict = false;
+                slot = null;
+            }
+            if (slot == null) {
+                slot = new Slot<>(null, fetch(cursor));
+            }
+            if (!slot.page.isDone()) {
+                stalls.increment();
+                depth = Math.min(maxDepth, depth + 1);
+            } else if (!ahead.isEmpty() && ahead.peekFirst().page.isDone()) {
+                depth = Math.max(1, depth - 1);
+            }
+            try {
+                last = await(slot.page);
+            } catch (RuntimeException e) {
+                clear();
+                throw e;
+            }
+            lastSkip = skip(cursor);
+            if (cursor(last) == null) {
+                clear();
+            } else {
+                fill();
+            }
+            return last;
+        }
+
+        /**
+         * Requests pages until the depth is reached.
+         */
+        private void fill() {
+            String next = cursor(last);
+            while (next != null && ahead.size() < depth) {
+                Slot<P> tail = ahead.peekLast();
+                if (tail == null) {
+                    ahead.add(new Slot<>(withSkip(next, skip(next)), fetch(next)));
+                    continue;
+                }
+                String predicted = predicted(next, ahead.size());
+                if (predicted != null) {
+                    predictedFetches.increment();
+                    ahead.add(new Slot<>(predicted, fetch(predicted)));
+                } else {
+                    ahead.add(new Slot<>(null, tail.page.thenCompose(page -> {
+                        String cursor = page != null ? cursor(page) : null;
+                        return cursor != null ? fetch(cursor) : CompletableFuture.completedFuture(null);
+                    })));
+                }
+            }
+        }
+
+        /**
+         * Predicts the cursor of the page {@code index} pages after {@code next}, or returns null
+         * if offsets are not predictable.
+         */
+        private String predicted(String next, int index) {
+            if (!predict) {
+                return null;
+            }
+            long skip = skip(next);
+            long step = skip - Math.max(lastSkip, 0);
+            return skip >= 0 && step > 0 ? withSkip(next, skip + index * step) : null;
+        }
+
+        private CompletableFuture<P> fetch(String cursor) {
+            fetches.increment();
+            return fetcher.fetch(cursor);
+        }
+
+        private String cursor(P page) {
+            String cursor = page != null ? nextCursor.apply(page) : null;
+            return cursor == null || cursor.isEmpty() ? null : cursor;
+        }
+
+        private void discard(Slot<P> slot) {
+            slot.page.cancel(true);
+            discarded.increment();
+        }
+
+        private void clear() {
+            for (Slot<P> slot : ahead) {
+                discard(slot);
+            }
+            ahead.clear();
+        }
+    }
+
+    /**
+     * Waits for a page, rethrowing its failure unchecked.
+     */
+    private static <P> P await(CompletableFuture<P> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            page.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a page"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            if (cause instanceof FirecrawlException) {
+                throw new UncheckedFirecrawlException((FirecrawlException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UncheckedFirecrawlException(new FirecrawlException("Page request failed: " + cause.getMessage(), cause));
+        }
+    }
+
+    /**
+     * Builder for {@link PagePrefetcher}.
+     */
+    public static final class Builder {
+        private int initialDepth = 1;
+        private int maxDepth = 4;
+        private boolean predictOffsets = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how many pages an iteration starts reading ahead.
+         *
+         * @param initialDepth the initial prefetch depth, at least 1
+         * @return this builder
+         */
+        public Builder initialDepth(int initialDepth) {
+            if (initialDepth < 1) {
+                throw new IllegalArgumentException("initialDepth must be positive");
+            }
+            this.initialDepth = initialDepth;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of pages read ahead, which also bounds the requests in flight
+         * per iteration.
+         *
+         * @param maxDepth the maximum prefetch depth, at least 1
+         * @return this builder
+         */
+        public Builder maxDepth(int maxDepth) {
+            if (maxDepth < 1) {
+                throw new IllegalArgumentException("maxDepth must be positive");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets whether pages ahead are requested in parallel at predicted {@code skip} offsets.
+         * When disabled, each page is requested once the page before it has arrived.
+         *
+         * @param predictOffsets whether to predict offsets
+         * @return this builder
+         */
+        public Builder predictOffsets(boolean predictOffsets) {
+            this.predictOffsets = predictOffsets;
+            return this;
+        }
+
+        /**
+         * Builds the prefetcher.
+         *
+         * @return a new PagePrefetcher
+         */
+        public PagePrefetcher build() {
+            if (initialDepth > maxDepth) {
+                throw new IllegalArgumentException("initialDepth must not exceed maxDepth");
+            }
+            return new PagePrefetcher(this);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.RateLimitExceededException;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-side token-bucket rate limiter keyed by endpoint path.
+ * <p>
+ * Each limit applies to an endpoint prefix such as {@code /v2/scrape} and covers every path below
+ * it, so {@code /v2/crawl} also counts status polls on {@code /v2/crawl/{id}}; the longest
+ * matching prefix wins. Paths without a limit pass straight through. A limit of {@code permits} per
+ * {@code period} refills one permit every {@code period / permits} and allows bursts of up to
+ * {@code burst} calls.
+ * <p>
+ * Acquiring a permit is a single compare-and-set on the bucket's next-free time, with no locks. In
+ * {@link Mode#WAIT} a call reserves the next permit and waits for it, blocking for
+ * {@link #acquire(String)} and on a delayed executor for {@link #acquireAsync(String)}; a wait
+ * longer than {@link #getMaxWait()} is refused instead. In {@link Mode#FAIL_FAST} a call without an
+ * immediately available permit is refused. Refusals raise {@link RateLimitExceededException}.
+ * Retries of a call take a permit of their own; a retry that is refused is not sent, and the call
+ * fails with its last error.
+ * Limits, mode and maximum wait can all be changed while the client is in use.
+ */
+public final class RateLimiter {
+    /**
+     * How calls behave when no permit is immediately available.
+     */
+    public enum Mode {
+        /** Wait for the next permit, up to the maximum wait. */
+        WAIT,
+        /** Refuse the call immediately. */
+        FAIL_FAST
+    }
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+    private static final Bucket[] NO_BUCKETS = new Bucket[0];
+
+    private volatile Bucket[] buckets = NO_BUCKETS;
+    private volatile Mode mode;
+    private volatile long maxWaitNanos;
+
+    /**
+     * Creates a limiter without limits in {@link Mode#WAIT} with a one minute maximum wait.
+     */
+    public RateLimiter() {
+        this(Mode.WAIT, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Creates a limiter without limits.
+     *
+     * @param mode the behaviour when no permit is available
+     * @param maxWait the longest wait for a permit in {@link Mode#WAIT}
+     */
+    public RateLimiter(Mode mode, Duration maxWait) {
+        setMode(mode);
+        setMaxWait(maxWait);
+    }
+
+    /**
+     * Sets or replaces the limit of an endpoint, allowing bursts of up to {@code permits} calls.
+     *
+     * @param endpoint the endpoint path prefix (e.g. {@code /v2/scrape})
+     * @param permits the calls allowed per period
+     * @param period the period
+     */
+    public void setLimit(String endpoint, int permits, Duration period) {
+        setLimit(endpoint, permits, period, permits);
+    }
+
+    /**
+     * Sets or replaces the limit of an endpoint. Replacing a limit keeps the permits already used,
+     * so lowering it takes effect immediately rather than granting a fresh burst.
+     *
+     * @param endpoint the endpoint path prefix (e.g. {@code /v2/scrape})
+     * @param permits the calls allowed per period
+     * @param period the period
+     * @param burst the most calls allowed back to back
+     */
+    public synchronized void setLimit(String endpoint, int permits, Duration period, int burst) {
+        String key = normalize(endpoint);
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be at least 1");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        Objects.requireNonNull(period, "period must not be null");
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        Bucket previous = find(buckets, key, true);
+        Bucket bucket = new Bucket(key, permits, period, burst,
+                previous != null ? previous.nextFree.get() : System.nanoTime());
+        Bucket[] updated = Arrays.stream(buckets).filter(b -> !b.endpoint.equals(key)).toArray(Bucket[]::new);
+        updated = Arrays.copyOf(updated, updated.length + 1);
+        updated[updated.length - 1] = bucket;
+        // Longest prefix first, so the first match in find() is the most specific
+        Arrays.sort(updated, Comparator.comparingInt((Bucket b) -> b.endpoint.length()).reversed());
+        buckets = updated;
+    }
+
+    /**
+     * Removes the limit of an endpoint.
+     *
+     * @param endpoint the endpoint path prefix
+     */
+    public synchronized void removeLimit(String endpoint) {
+        String key = normalize(endpoint);
+        buckets = Arrays.stream(buckets).filter(b -> !b.endpoint.equals(key)).toArray(Bucket[]::new);
+    }
+
+    /**
+     * Returns the configured limits by endpoint.
+     *
+     * @return an unmodifiable snapshot of the limits
+     */
+    public Map<String, Limit> getLimits() {
+        Map<String, Limit> limits = new LinkedHashMap<>();
+        for (Bucket bucket : buckets) {
+            limits.put(bucket.endpoint, bucket.limit);
+        }
+        return Collections.unmodifiableMap(limits);
+    }
+
+    /**
+     * Returns the behaviour when no permit is immediately available.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the behaviour when no permit is immediately available.
+     *
+     * @param mode the mode
+     */
+    public void setMode(Mode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+    }
+
+    /**
+     * Returns the longest wait for a permit in {@link Mode#WAIT}.
+     *
+     * @return the maximum wait
+     */
+    public Duration getMaxWait() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * Sets the longest wait for a permit in {@link Mode#WAIT}.
+     *
+     * @param maxWait the maximum wait
+     */
+    public void setMaxWait(Duration maxWait) {
+        Objects.requireNonNull(maxWait, "maxWait must not be null");
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative");
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Takes a permit for a path if one is available now, regardless of mode.
+     *
+     * @param path the request path
+     * @return true if the call may proceed
+     */
+    public boolean tryAcquire(String path) {
+        Bucket bucket = find(buckets, path, false);
+        return bucket == null || bucket.reserve(System.nanoTime(), 0L) >= 0;
+    }
+
+    /**
+     * Takes a permit for a path, blocking for it in {@link Mode#WAIT}.
+     *
+     * @param path the request path
+     * @throws RateLimitExceededException if the call is refused
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void acquire(String path) throws RateLimitExceededException, InterruptedIOException {
+        long waitNanos = reserve(path);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a rate limit permit");
+            }
+        }
+    }
+
+    /**
+     * Takes a permit for a path without blocking. In {@link Mode#WAIT} the returned future
+     * completes once the reserved permit becomes available.
+     *
+     * @param path the request path
+     * @return a future completed when the call may proceed, or exceptionally with
+     *         {@link RateLimitExceededException}
+     */
+    public CompletableFuture<Void> acquireAsync(String path) {
+        long waitNanos;
+        try {
+            waitNanos = reserve(path);
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (waitNanos <= 0) {
+            return GRANTED;
+        }
+        return CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Reserves a permit and returns how long to wait for it.
+     */
+    long reserve(String path) throws RateLimitExceededException {
+        return reserve(path, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserves a permit and returns how long to wait for it, refusing waits longer than
+     * {@code limitNanos} as well as those the mode and maximum wait refuse. A refused call takes
+     * no permit.
+     */
+    long reserve(String path, long limitNanos) throws RateLimitExceededException {
+        Bucket bucket = find(buckets, path, false);
+        if (bucket == null) {
+            return 0L;
+        }
+        long maxWait = Math.min(mode == Mode.FAIL_FAST ? 0L : maxWaitNanos, limitNanos);
+        long waitNanos = bucket.reserve(System.nanoTime(), maxWait);
+        if (waitNanos < 0) {
+            throw new RateLimitExceededException(bucket.endpoint, Duration.ofNanos(-waitNanos));
+        }
+        return waitNanos;
+    }
+
+    private static Bucket find(Bucket[] buckets, String path, boolean exact) {
+        for (Bucket bucket : buckets) {
+            if (exact ? bucket.endpoint.equals(path) : bucket.matches(path)) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String endpoint) {
+        Objects.requireNonNull(endpoint, "endpoint must not be null");
+        String key = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+        while (key.length() > 1 && key.endsWith("/")) {
+            key = key.substring(0, key.length() - 1);
+        }
+        return key;
+    }
+
+    /**
+     * A configured endpoint limit.
+     */
+    public static final class Limit {
+        private final int permits;
+        private final Duration period;
+        private final int burst;
+
+        Limit(int permits, Duration period, int burst) {
+            this.permits = permits;
+            this.period = period;
+            this.burst = burst;
+        }
+
+        /**
+         * Returns the calls allowed per period.
+         *
+         * @return the permits per period
+         */
+        public int getPermits() {
+            return permits;
+        }
+
+        /**
+         * Returns the period.
+         *
+         * @return the period
+         */
+        public Duration getPeriod() {
+            return period;
+        }
+
+        /**
+         * Returns the most calls allowed back to back.
+         *
+         * @return the burst size
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        @Override
+        public String toString() {
+            return permits + "/" + period + " (burst " + burst + ")";
+        }
+    }
+
+    /**
+     * Token bucket kept as the time at which the next permit is free (the generic cell rate
+     * algorithm): a call is allowed when that time is at most {@code burst - 1} refill intervals
+     * ahead of now, and each permit pushes it one interval further.
+     */
+    private static final class Bucket {
+        final String endpoint;
+        final Limit limit;
+        final long intervalNanos;
+        final long toleranceNanos;
+        final AtomicLong nextFree;
+
+        Bucket(String endpoint, int permits, Duration period, int burst, long nextFree) {
+            this.endpoint = endpoint;
+            this.limit = new Limit(permits, period, burst);
+            this.intervalNanos = Math.max(1L, period.toNanos() / permits);
+            this.toleranceNanos = intervalNanos * (burst - 1);
+            this.nextFree = new AtomicLong(nextFree);
+        }
+
+        boolean matches(String path) {
+            return path.startsWith(endpoint)
+                    && (path.length() == endpoint.length() || path.charAt(endpoint.length()) == '/');
+        }
+
+        /**
+         * Reserves a permit if it is free within {@code maxWaitNanos}.
+         *
+         * @return the wait before the permit is free (0 if free now), or minus the required wait
+         *         if the reservation was refused
+         */
+        long reserve(long now, long maxWaitNanos) {
+            while (true) {
+                long current = nextFree.get();
+                long start = Math.max(current, now);
+                long wait = start - toleranceNanos - now;
+                if (wait > maxWaitNanos) {
+                    return -wait;
+                }
+                if (nextFree.compareAndSet(current, start + intervalNanos)) {
+                    return Math.max(0L, wait);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package dev.firecrawl.util;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical reads share one network call and one decoded result.
+ * <p>
+ * Requests are identical when they have the same method, URL and encoded JSON body and are decoded
+ * into the same response type. Bodies are written field by field in a fixed order, so equal
+ * parameters always produce equal bytes. The
+ * first caller starts the call. Callers arriving while it is in flight join it and receive the
+ * same response object, so shared results must not be modified. A call that has completed is
+ * forgotten, and the next caller starts a new one.
+ * <p>
+ * Each caller gets its own future. Cancelling it or letting it time out, e.g. with
+ * {@link CompletableFuture#orTimeout}, detaches only that caller. The shared call is cancelled once
+ * every caller has detached.
+ */
+public final class RequestCoalescer {
+    private final Map<Key, Flight<?>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Returns how many calls were sent on behalf of one or more callers.
+     *
+     * @return the calls sent
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Returns how many callers joined a call already in flight instead of sending their own.
+     *
+     * @return the coalesced callers
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of distinct calls currently in flight.
+     *
+     * @return the in-flight calls
+     */
+    public int getInFlight() {
+        return flights.size();
+    }
+
+    /**
+     * Runs a call, or joins an identical one already in flight.
+     *
+     * @param request the request identifying the call
+     * @param responseType the type the response is decoded into; only calls decoding into the same
+     *                     type are shared
+     * @param call starts the call if none is in flight
+     * @param <T> the response type
+     * @return a future of this caller's own view of the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(Request request, Class<T> responseType,
+                                            Supplier<CompletableFuture<T>> call) {
+        Objects.requireNonNull(responseType, "responseType must not be null");
+        Key key = Key.of(request, responseType);
+        if (key == null) {
+            calls.incrementAndGet();
+            return call.get();
+        }
+        while (true) {
+            Flight<T> flight = new Flight<>(key);
+            Flight<T> existing = (Flight<T>) flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                calls.incrementAndGet();
+                flight.start(call);
+                return flight.view();
+            }
+            if (existing.join()) {
+                coalesced.incrementAndGet();
+                return existing.view();
+            }
+            // Every caller of that flight left while we looked it up; it is being removed
+            flights.remove(key, existing);
+        }
+    }
+
+    /**
+     * One shared call and the number of callers still waiting for it.
+     */
+    private final class Flight<T> {
+        private final Key key;
+        private final CompletableFuture<T> shared = new CompletableFuture<>();
+        private CompletableFuture<T> upstream;
+        private int callers = 1;
+        private boolean abandoned;
+
+        Flight(Key key) {
+            this.key = key;
+        }
+
+        void start(Supplier<CompletableFuture<T>> call) {
+            CompletableFuture<T> started;
+            try {
+                started = call.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                upstream = started;
+            }
+            started.whenComplete((value, error) -> {
+                // Forget the flight first so later callers start a fresh call
+                flights.remove(key, this);
+                if (error == null) {
+                    shared.complete(value);
+                } else {
+                    shared.completeExceptionally(error);
+                }
+            });
+        }
+
+        synchronized boolean join() {
+            if (abandoned || shared.isDone()) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+
+        CompletableFuture<T> view() {
+            CompletableFuture<T> view = new CompletableFuture<>();
+            shared.whenComplete((value, error) -> {
+                if (error == null) {
+                    view.complete(value);
+                } else {
+                    view.completeExceptionally(error);
+                }
+            });
+            view.whenComplete((value, error) -> {
+                if (!shared.isDone()) {
+                    // Cancelled or timed out before the shared call finished
+                    leave();
+                }
+            });
+            return view;
+        }
+
+        private void leave() {
+            CompletableFuture<T> toCancel = null;
+            synchronized (this) {
+                if (--callers == 0 && !shared.isDone()) {
+                    abandoned = true;
+                    toCancel = upstream;
+                }
+            }
+            if (toCancel != null) {
+                flights.remove(key, this);
+                toCancel.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Identity of a call: method, URL, body bytes and response type.
+     */
+    private static final class Key {
+        private final String method;
+        private final String url;
+        private final ByteString body;
+        private final Class<?> responseType;
+        private final int hash;
+
+        private Key(String method, String url, ByteString body, Class<?> responseType) {
+            this.method = method;
+            this.url = url;
+            this.body = body;
+            this.responseType = responseType;
+            this.hash = Objects.hash(method, url, body, responseType);
+        }
+
+        /**
+         * Returns the key of a request, or null if its body cannot be compared.
+         */
+        static Key of(Request request, Class<?> responseType) {
+            RequestBody body = request.body();
+            ByteString bytes;
+            if (body == null) {
+                bytes = ByteString.EMPTY;
+            } else if (body instanceof JsonRequestBody) {
+                try {
+                    bytes = ((JsonRequestBody) body).bytes();
+                } catch (IOException e) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+            return new Key(request.method(), request.url().toString(), bytes, responseType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && method.equals(other.method) && url.equals(other.url)
+                    && body.equals(other.body) && responseType.equals(other.responseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package dev.firecrawl.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a slow scrape or search gets a second, identical request, and keeps count of how
+ * often that pays off.
+ * <p>
+ * The latency of recent successful responses is tracked per endpoint. Once
+ * {@link Builder#minSamples(int)} responses have been seen, a request still unanswered after the
+ * {@link Builder#percentile(double) configured percentile} of those latencies is hedged. The delay
+ * is clamped to {@link Builder#minDelay(Duration)} and {@link Builder#maxDelay(Duration)}. The
+ * first successful response wins, and the other request is cancelled.
+ * <p>
+ * Extra load is capped by a budget. Every request earns {@link Builder#budgetRatio(double)} of a
+ * hedge, up to {@link Builder#maxBudget(int)} saved hedges, and every hedge spends one. With the
+ * default ratio of 0.1, hedges add at most about 10% more requests. Each hedge is a full API call
+ * and uses credits like one.
+ * <pre>{@code
+ * RequestHedger hedger = RequestHedger.builder()
+ *         .percentile(0.9)
+ *         .budgetRatio(0.05)
+ *         .build();
+ * }</pre>
+ */
+public final class RequestHedger {
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int minSamples;
+    private final int window;
+    private final double budgetRatio;
+    private final int maxBudget;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private double budget;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgedWins = new AtomicLong();
+    private final AtomicLong budgetDenials = new AtomicLong();
+
+    private RequestHedger(Builder builder) {
+        this.percentile = builder.percentile;
+        this.minDelayNanos = builder.minDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.minSamples = builder.minSamples;
+        this.window = builder.window;
+        this.budgetRatio = builder.budgetRatio;
+        this.maxBudget = builder.maxBudget;
+        this.budget = builder.maxBudget;
+    }
+
+    /**
+     * Returns a new builder: hedge at the 95th percentile of the last 500 responses, once 20 have
+     * been seen, between 50 ms and 30 s, with a budget of 10% extra requests.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of requests that were eligible for hedging.
+     *
+     * @return the requests
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of hedge requests sent.
+     *
+     * @return the hedges sent
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Returns how many times the hedge request answered first.
+     *
+     * @return the hedged wins
+     */
+    public long getHedgedWins() {
+        return hedgedWins.get();
+    }
+
+    /**
+     * Returns how many hedges were skipped because the budget was spent.
+     *
+     * @return the budget denials
+     */
+    public long getBudgetDenials() {
+        return budgetDenials.get();
+    }
+
+    /**
+     * Returns the current hedging delay of an endpoint.
+     *
+     * @param path the endpoint path (e.g. {@code /v2/scrape})
+     * @return the delay, or null while too few responses have been seen
+     */
+    public Duration getDelay(String path) {
+        LatencyWindow latency = latencies.get(path);
+        long delay = latency != null ? latency.delayNanos() : -1L;
+        return delay >= 0 ? Duration.ofNanos(delay) : null;
+    }
+
+    /**
+     * Registers a request and returns how long to wait before hedging it.
+     *
+     * @param path the request path
+     * @return the delay in nanoseconds, or -1 if the request should not be hedged
+     */
+    public long start(String path) {
+        requests.incrementAndGet();
+        synchronized (this) {
+            budget = Math.min(maxBudget, budget + budgetRatio);
+        }
+        return latencies.computeIfAbsent(path, p -> new LatencyWindow()).delayNanos();
+    }
+
+    /**
+     * Spends one hedge from the budget.
+     *
+     * @return true if the hedge may be sent
+     */
+    public boolean tryHedge() {
+        synchronized (this) {
+            if (budget >= 1.0) {
+                budget -= 1.0;
+                hedges.incrementAndGet();
+                return true;
+            }
+        }
+        budgetDenials.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Records the latency of a response. A request cancelled because its hedge won is recorded
+     * with the time it had waited, a lower bound that keeps slow responses in the window.
+     *
+     * @param path the request path
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void recordLatency(String path, long latencyNanos) {
+        latencies.computeIfAbsent(path, p -> new LatencyWindow()).add(latencyNanos);
+    }
+
+    /**
+     * Records that a hedge request answered before the original.
+     */
+    public void recordHedgedWin() {
+        hedgedWins.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestHedger{" +
+                "percentile=" + percentile +
+                ", minDelay=" + Duration.ofNanos(minDelayNanos) +
+                ", maxDelay=" + Duration.ofNanos(maxDelayNanos) +
+                ", minSamples=" + minSamples +
+                ", window=" + window +
+                ", budgetRatio=" + budgetRatio +
+                ", requests=" + requests.get() +
+                ", hedges=" + hedges.get() +
+                ", hedgedWins=" + hedgedWins.get() +
+                ", budgetDenials=" + budgetDenials.get() +
+                '}';
+    }
+
+    /**
+     * Ring buffer of an endpoint's latest latencies. The percentile is recomputed after every
+     * tenth of a window of new samples rather than on every request.
+     */
+    private final class LatencyWindow {
+        private final long[] samples = new long[window];
+        private int next;
+        private int count;
+        private int sinceSort;
+        private long delayNanos = -1L;
+
+        synchronized void add(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            if (count >= minSamples && (delayNanos < 0 || ++sinceSort >= Math.max(1, samples.length / 10))) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.min(count - 1, Math.ceil(percentile * count) - 1);
+                long value = sorted[Math.max(0, index)];
+                delayNanos = Math.min(maxDelayNanos, Math.max(minDelayNanos, value));
+                sinceSort = 0;
+            }
+        }
+
+        synchronized long delayNanos() {
+            return delayNanos;
+        }
+    }
+
+    /**
+     * Builder for {@link RequestHedger}.
+     */
+    public static final class Builder {
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(50);
+        private Duration maxDelay = Duration.ofSeconds(30);
+        private int minSamples = 20;
+        private int window = 500;
+        private double budgetRatio = 0.1;
+        private int maxBudget = 10;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the latency percentile after which an unanswered request is hedged.
+         *
+         * @param percentile the percentile, between 0 and 1 exclusive
+         * @return this builder
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile > 0.0 && percentile < 1.0)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the shortest delay before hedging.
+         *
+         * @param minDelay the minimum delay
+         * @return this builder
+         */
+        public Builder minDelay(Duration minDelay) {
+            Objects.requireNonNull(minDelay, "minDelay must not be null");
+            if (minDelay.isNegative()) {
+                throw new IllegalArgumentException("minDelay must not be negative");
+            }
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Sets the longest delay before hedging.
+         *
+         * @param maxDelay the maximum delay
+         * @return this builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+            if (maxDelay.isZero() || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must be positive");
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets how many responses an endpoint needs before its requests are hedged.
+         *
+         * @param minSamples the minimum number of samples
+         * @return this builder
+         */
+        public Builder minSamples(int minSamples) {
+            if (minSamples < 1) {
+                throw new IllegalArgumentException("minSamples must be at least 1");
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Sets how many recent responses per endpoint the percentile is computed over.
+         *
+         * @param window the window size
+         * @return this builder
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("window must be at least 1");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the share of a hedge each request earns, i.e. the most extra load hedging can add.
+         *
+         * @param budgetRatio the budget ratio, greater than 0 and at most 1
+         * @return this builder
+         */
+        public Builder budgetRatio(double budgetRatio) {
+            if (!(budgetRatio > 0.0 && budgetRatio <= 1.0)) {
+                throw new IllegalArgumentException("budgetRatio must be greater than 0 and at most 1");
+            }
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        /**
+         * Sets how many unused hedges can be saved up for a burst of slow requests.
+         *
+         * @param maxBudget the maximum saved hedges
+         * @return this builder
+         */
+        public Builder maxBudget(int maxBudget) {
+            if (maxBudget < 1) {
+                throw new IllegalArgumentException("maxBudget must be at least 1");
+            }
+            this.maxBudget = maxBudget;
+            return this;
+        }
+
+        /**
+         * Builds the hedger.
+         *
+         * @return a new RequestHedger
+         */
+        public RequestHedger build() {
+            if (minSamples > window) {
+                throw new IllegalArgumentException("minSamples must not exceed window");
+            }
+            if (minDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalArgumentException("minDelay must not exceed maxDelay");
+            }
+            return new RequestHedger(this);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.firecrawl.util;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Outcome of a single HTTP attempt, reported through a {@link RetryListener}.
+ */
+public final class RetryEvent {
+    private final String method;
+    private final String path;
+    private final int attempt;
+    private final int statusCode;
+    private final IOException failure;
+    private final boolean retrying;
+    private final Duration delay;
+    private final Duration elapsed;
+
+    RetryEvent(String method, String path, int attempt, int statusCode, IOException failure,
+               boolean retrying, Duration delay, Duration elapsed) {
+        this.method = method;
+        this.path = path;
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.failure = failure;
+        this.retrying = retrying;
+        this.delay = delay;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the HTTP method of the request.
+     *
+     * @return the HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the request path (e.g. {@code /v2/crawl/123}).
+     *
+     * @return the request path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the attempt number, starting at 1 for the first attempt.
+     *
+     * @return the attempt number
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Returns the HTTP status code, or -1 if the attempt failed without a response.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the I/O failure of the attempt, or null if a response was received.
+     *
+     * @return the failure
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns whether another attempt will be made.
+     *
+     * @return true if the call is retried
+     */
+    public boolean isRetrying() {
+        return retrying;
+    }
+
+    /**
+     * Returns the wait before the next attempt, or zero if the call is not retried.
+     *
+     * @return the retry delay
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * Returns the time since the first attempt started.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryEvent{" +
+                "method='" + method + '\'' +
+                ", path='" + path + '\'' +
+                ", attempt=" + attempt +
+                ", statusCode=" + statusCode +
+                ", failure=" + failure +
+                ", retrying=" + retrying +
+                ", delay=" + delay +
+                ", elapsed=" + elapsed +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+package dev.firecrawl.util;
+
+/**
+ * Receives one event per HTTP attempt made under a {@link RetryPolicy}, including the first attempt
+ * and the final one, so attempts per logical call can be measured.
+ */
+@FunctionalInterface
+public interface RetryListener {
+    /**
+     * Called after each attempt completes and the retry decision is made. Invoked on the thread
+     * that received the response, so implementations should be fast and thread-safe.
+     *
+     * @param event the attempt outcome
+     */
+    void onAttempt(RetryEvent event);
+}
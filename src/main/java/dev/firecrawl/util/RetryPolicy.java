@@ -0,0 +1,486 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.RateLimitExceededException;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which failed HTTP attempts are retried and how long to wait before the next one.
+ * <p>
+ * A call is retried when its method is retryable and the attempt either returned a retryable
+ * status code or failed with a retryable {@link IOException}, as long as attempts and the optional
+ * total time budget remain. Waits grow from the base delay using decorrelated jitter, so clients
+ * that failed together do not retry together. A {@code Retry-After} header on the response, in
+ * seconds or as an HTTP date, sets a floor on the wait; if the server asks for more than
+ * {@link Builder#maxRetryAfter(Duration)} the call is not retried and the error is returned.
+ * <p>
+ * The {@link #defaults() default policy} keeps the SDK's original triggers: 3 attempts in total,
+ * GET requests only, on 502, 503 and 504, starting at 250 ms. Use {@link #builder()} to add 429,
+ * transport failures, non-GET methods or a time budget.
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.builder()
+ *         .maxAttempts(5)
+ *         .retryOnStatus(429, 502, 503, 504)
+ *         .retryOnException(java.net.SocketTimeoutException.class)
+ *         .maxElapsed(Duration.ofSeconds(30))
+ *         .listener(event -> metrics.record(event))
+ *         .build();
+ * }</pre>
+ */
+public final class RetryPolicy {
+    private static final RetryPolicy DEFAULTS = builder().build();
+    private static final RetryPolicy NONE = builder().maxAttempts(1).build();
+
+    private final int maxAttempts;
+    private final Set<String> methods;
+    private final Set<Integer> statusCodes;
+    private final List<Class<? extends IOException>> exceptions;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final boolean jitter;
+    private final boolean respectRetryAfter;
+    private final long maxRetryAfterMs;
+    private final long maxElapsedNanos;
+    private final RetryListener listener;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.methods = Collections.unmodifiableSet(new LinkedHashSet<>(builder.methods));
+        this.statusCodes = Collections.unmodifiableSet(new LinkedHashSet<>(builder.statusCodes));
+        this.exceptions = Collections.unmodifiableList(new ArrayList<>(builder.exceptions));
+        this.baseDelayMs = builder.baseDelay.toMillis();
+        this.maxDelayMs = builder.maxDelay.toMillis();
+        this.jitter = builder.jitter;
+        this.respectRetryAfter = builder.respectRetryAfter;
+        this.maxRetryAfterMs = builder.maxRetryAfter.toMillis();
+        this.maxElapsedNanos = builder.maxElapsed != null ? builder.maxElapsed.toNanos() : Long.MAX_VALUE;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Returns the default policy: 3 attempts for GET requests on 502, 503 and 504, with jittered
+     * backoff from 250 ms and {@code Retry-After} honoured.
+     *
+     * @return the default policy
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a policy that never retries.
+     *
+     * @return a single-attempt policy
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a new builder initialised with the default policy's settings.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the maximum number of attempts, including the first.
+     *
+     * @return the maximum attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the HTTP methods that may be retried.
+     *
+     * @return the retryable methods, upper case
+     */
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Returns the HTTP status codes that trigger a retry.
+     *
+     * @return the retryable status codes
+     */
+    public Set<Integer> getStatusCodes() {
+        return statusCodes;
+    }
+
+    /**
+     * Starts tracking the attempts of one call.
+     */
+    Attempts start(Request request) {
+        return start(request, null, null);
+    }
+
+    /**
+     * Starts tracking the attempts of one call whose retries each take a permit from a rate
+     * limiter for {@code rateLimitPath}, or the request's path if null. The first attempt's permit
+     * is the caller's to take.
+     */
+    Attempts start(Request request, RateLimiter rateLimiter, String rateLimitPath) {
+        return new Attempts(request, rateLimiter, rateLimitPath != null ? rateLimitPath : request.url().encodedPath());
+    }
+
+    /**
+     * Retry state of a single call. Attempts are made one after another, so the state is handed
+     * between threads but never used concurrently.
+     */
+    final class Attempts {
+        private final Request request;
+        private final RateLimiter rateLimiter;
+        private final String rateLimitPath;
+        private final long startNanos = System.nanoTime();
+        private int attempt;
+        private long previousDelayMs;
+
+        private Attempts(Request request, RateLimiter rateLimiter, String rateLimitPath) {
+            this.request = request;
+            this.rateLimiter = rateLimiter;
+            this.rateLimitPath = rateLimitPath;
+            this.previousDelayMs = baseDelayMs;
+        }
+
+        /**
+         * Records an attempt that produced a response.
+         *
+         * @return the delay in milliseconds before retrying, or -1 to return this response
+         */
+        long afterResponse(Response response) {
+            attempt++;
+            long delay = -1L;
+            if (!response.isSuccessful() && statusCodes.contains(response.code()) && canRetry()) {
+                delay = nextDelay();
+                if (respectRetryAfter) {
+                    long retryAfter = retryAfterMillis(response.header("Retry-After"));
+                    if (retryAfter > maxRetryAfterMs) {
+                        delay = -1L;
+                    } else {
+                        delay = Math.max(delay, retryAfter);
+                    }
+                }
+                delay = throttled(withinBudget(delay));
+            }
+            report(response.code(), null, delay);
+            return delay;
+        }
+
+        /**
+         * Records an attempt that failed without a response.
+         *
+         * @return the delay in milliseconds before retrying, or -1 to rethrow the failure
+         */
+        long afterFailure(IOException failure) {
+            attempt++;
+            long delay = -1L;
+            if (isRetryable(failure) && canRetry()) {
+                delay = throttled(withinBudget(nextDelay()));
+            }
+            report(-1, failure, delay);
+            return delay;
+        }
+
+        private boolean canRetry() {
+            return attempt < maxAttempts && methods.contains(request.method().toUpperCase(Locale.ROOT));
+        }
+
+        private boolean isRetryable(IOException failure) {
+            for (Class<? extends IOException> type : exceptions) {
+                if (type.isInstance(failure)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long nextDelay() {
+            long delay;
+            if (jitter) {
+                // Decorrelated jitter: uniform between the base delay and three times the last wait
+                long upper = previousDelayMs * 3;
+                delay = upper > baseDelayMs ? ThreadLocalRandom.current().nextLong(baseDelayMs, upper + 1) : baseDelayMs;
+            } else {
+                delay = baseDelayMs << Math.min(attempt - 1, 30);
+            }
+            delay = Math.min(Math.max(delay, 0L), maxDelayMs);
+            previousDelayMs = delay;
+            return delay;
+        }
+
+        /**
+         * Takes a rate limit permit for the next attempt, once the backoff is known to fit the time
+         * budget. A permit whose wait would overrun the budget is not taken.
+         *
+         * @return the later of the backoff and the permit's wait, or -1 if the limiter refuses
+         */
+        private long throttled(long delay) {
+            if (delay < 0 || rateLimiter == null) {
+                return delay;
+            }
+            long remainingNanos = maxElapsedNanos == Long.MAX_VALUE
+                    ? Long.MAX_VALUE : maxElapsedNanos - (System.nanoTime() - startNanos);
+            try {
+                long waitNanos = rateLimiter.reserve(rateLimitPath, remainingNanos);
+                return Math.max(delay, TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999L));
+            } catch (RateLimitExceededException e) {
+                return -1L;
+            }
+        }
+
+        private long withinBudget(long delay) {
+            if (delay < 0 || maxElapsedNanos == Long.MAX_VALUE) {
+                return delay;
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            return elapsed + delay * 1_000_000L <= maxElapsedNanos ? delay : -1L;
+        }
+
+        private void report(int statusCode, IOException failure, long delay) {
+            if (listener != null) {
+                listener.onAttempt(new RetryEvent(request.method(), request.url().encodedPath(), attempt,
+                        statusCode, failure, delay >= 0, Duration.ofMillis(Math.max(delay, 0L)),
+                        Duration.ofNanos(System.nanoTime() - startNanos)));
+            }
+        }
+    }
+
+    /**
+     * Parses a {@code Retry-After} value given as delta seconds or an HTTP date.
+     *
+     * @return the requested wait in milliseconds, or 0 if absent or unparseable
+     */
+    static long retryAfterMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return 0L;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0L, Long.parseLong(trimmed) * 1000L);
+        } catch (NumberFormatException ignored) {
+            // Not delta seconds; try an HTTP date
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0L, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException ignored) {
+            return 0L;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", methods=" + methods +
+                ", statusCodes=" + statusCodes +
+                ", exceptions=" + exceptions +
+                ", baseDelayMs=" + baseDelayMs +
+                ", maxDelayMs=" + maxDelayMs +
+                ", jitter=" + jitter +
+                ", respectRetryAfter=" + respectRetryAfter +
+                ", maxRetryAfterMs=" + maxRetryAfterMs +
+                ", maxElapsed=" + (maxElapsedNanos == Long.MAX_VALUE ? "unbounded" : Duration.ofNanos(maxElapsedNanos)) +
+                '}';
+    }
+
+    /**
+     * Builder for {@link RetryPolicy}.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private final Set<String> methods = new LinkedHashSet<>(Set.of("GET"));
+        private final Set<Integer> statusCodes = new LinkedHashSet<>(List.of(502, 503, 504));
+        private final List<Class<? extends IOException>> exceptions = new ArrayList<>();
+        private Duration baseDelay = Duration.ofMillis(250);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private boolean jitter = true;
+        private boolean respectRetryAfter = true;
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+        private Duration maxElapsed;
+        private RetryListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first; 1 disables retries.
+         *
+         * @param maxAttempts the maximum attempts
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Replaces the HTTP methods that may be retried. Only add non-idempotent methods such as
+         * POST when the server de-duplicates them, e.g. with an idempotency key.
+         *
+         * @param methods the retryable methods
+         * @return this builder
+         */
+        public Builder retryOnMethods(String... methods) {
+            this.methods.clear();
+            for (String method : methods) {
+                this.methods.add(Objects.requireNonNull(method, "method").toUpperCase(Locale.ROOT));
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the HTTP status codes that trigger a retry.
+         *
+         * @param statusCodes the retryable status codes
+         * @return this builder
+         */
+        public Builder retryOnStatus(int... statusCodes) {
+            this.statusCodes.clear();
+            for (int code : statusCodes) {
+                if (code < 100 || code > 599) {
+                    throw new IllegalArgumentException("Invalid HTTP status code: " + code);
+                }
+                this.statusCodes.add(code);
+            }
+            return this;
+        }
+
+        /**
+         * Adds I/O failure types, such as {@link java.net.SocketTimeoutException}, that trigger a
+         * retry. Subclasses match. None are retried by default.
+         *
+         * @param exceptions the retryable exception types
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder retryOnException(Class<? extends IOException>... exceptions) {
+            for (Class<? extends IOException> type : exceptions) {
+                this.exceptions.add(Objects.requireNonNull(type, "exception"));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the first retry delay and the lower bound of every jittered delay.
+         *
+         * @param baseDelay the base delay
+         * @return this builder
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = requireNonNegative(baseDelay, "baseDelay");
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of computed backoff delays.
+         *
+         * @param maxDelay the maximum backoff delay
+         * @return this builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = requireNonNegative(maxDelay, "maxDelay");
+            return this;
+        }
+
+        /**
+         * Enables or disables decorrelated jitter. Without jitter, delays double from the base delay.
+         *
+         * @param jitter whether to randomise delays
+         * @return this builder
+         */
+        public Builder jitter(boolean jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Enables or disables honouring the {@code Retry-After} response header.
+         *
+         * @param respectRetryAfter whether to honour {@code Retry-After}
+         * @return this builder
+         */
+        public Builder respectRetryAfter(boolean respectRetryAfter) {
+            this.respectRetryAfter = respectRetryAfter;
+            return this;
+        }
+
+        /**
+         * Sets the longest {@code Retry-After} the client will wait; longer requests end the call
+         * with the server's error instead.
+         *
+         * @param maxRetryAfter the maximum honoured {@code Retry-After}
+         * @return this builder
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = requireNonNegative(maxRetryAfter, "maxRetryAfter");
+            return this;
+        }
+
+        /**
+         * Sets a total time budget measured from the start of the first attempt. A retry whose
+         * delay would end past the budget is not made. Unbounded by default.
+         *
+         * @param maxElapsed the time budget, or null for none
+         * @return this builder
+         */
+        public Builder maxElapsed(Duration maxElapsed) {
+            this.maxElapsed = maxElapsed != null ? requireNonNegative(maxElapsed, "maxElapsed") : null;
+            return this;
+        }
+
+        /**
+         * Sets a listener notified after every attempt.
+         *
+         * @param listener the retry listener
+         * @return this builder
+         */
+        public Builder listener(RetryListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Builds the policy.
+         *
+         * @return a new RetryPolicy
+         */
+        public RetryPolicy build() {
+            if (maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("maxDelay must not be less than baseDelay");
+            }
+            return new RetryPolicy(this);
+        }
+
+        private static Duration requireNonNegative(Duration value, String name) {
+            Objects.requireNonNull(value, name + " must not be null");
+            if (value.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return value;
+        }
+    }
+}
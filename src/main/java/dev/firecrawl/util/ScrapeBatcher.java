@@ -0,0 +1,428 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collects individual scrape calls made at about the same time with equal {@link ScrapeParams}
+ * and sends them as one batch scrape job, completing each caller's future with the document of
+ * its own URL.
+ * <p>
+ * A group of calls is sent when {@link Builder#maxDelay(Duration)} has passed since its first
+ * call, or at once when it reaches {@link Builder#maxBatchSize(int)} URLs. Groups smaller than
+ * {@link Builder#minBatchSize(int)} are sent as ordinary scrapes, since a batch job adds polling
+ * latency. Calls for the same URL in one group share a single scrape. Results are matched to
+ * callers by the document's {@code sourceURL} metadata. A caller whose URL has no document, for
+ * example because the URL is invalid, fails with a {@link FirecrawlException}.
+ * <p>
+ * Batching trades latency for throughput: each call waits up to the maximum delay before it is
+ * sent, and a batched call completes only when its whole batch job finishes. Parameters must not
+ * be modified after they are passed to a scrape.
+ * <pre>{@code
+ * ScrapeBatcher batcher = ScrapeBatcher.builder()
+ *         .maxDelay(Duration.ofMillis(200))
+ *         .maxBatchSize(500)
+ *         .build();
+ * }</pre>
+ */
+public final class ScrapeBatcher {
+    private final int maxBatchSize;
+    private final int minBatchSize;
+    private final long maxDelayNanos;
+    private final Duration pollInterval;
+
+    // Guarded by this
+    private final Map<GroupKey, Group> open = new HashMap<>();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedUrls = new LongAdder();
+    private final LongAdder directScrapes = new LongAdder();
+
+    private ScrapeBatcher(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize;
+        this.minBatchSize = builder.minBatchSize;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.pollInterval = builder.pollInterval;
+    }
+
+    /**
+     * Returns a new builder: wait up to 50 ms for batches of at least 2 and at most 100 URLs, and
+     * poll batch jobs every second.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns how often batch jobs are polled for completion.
+     *
+     * @return the polling interval
+     */
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * Adds a scrape to the open group for its parameters and sender. Called by the client for
+     * every scrape; applications do not call it directly.
+     *
+     * @param url the URL to scrape
+     * @param params the scrape parameters
+     * @param sender sends the group when it is due
+     * @return a future completed with the document of {@code url}
+     */
+    public CompletableFuture<FirecrawlDocument> submit(String url, ScrapeParams params, Sender sender) {
+        calls.increment();
+        GroupKey key = new GroupKey(sender, params);
+        CompletableFuture<FirecrawlDocument> result = new CompletableFuture<>();
+        Group full = null;
+        synchronized (this) {
+            Group group = open.get(key);
+            if (group == null) {
+                group = new Group(key);
+                open.put(key, group);
+                Group scheduled = group;
+                CompletableFuture.delayedExecutor(maxDelayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+                    if (close(scheduled)) {
+                        send(scheduled);
+                    }
+                });
+            }
+            group.add(url, result);
+            if (group.waiters.size() >= maxBatchSize) {
+                open.remove(key);
+                full = group;
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return result;
+    }
+
+    private synchronized boolean close(Group group) {
+        return open.remove(group.key, group);
+    }
+
+    private void send(Group group) {
+        // Skip URLs whose callers have all given up
+        List<String> urls = new ArrayList<>();
+        for (Map.Entry<String, List<CompletableFuture<FirecrawlDocument>>> entry : group.waiters.entrySet()) {
+            if (entry.getValue().stream().anyMatch(waiter -> !waiter.isDone())) {
+                urls.add(entry.getKey());
+            }
+        }
+        if (urls.isEmpty()) {
+            return;
+        }
+        Sender sender = group.key.sender;
+        ScrapeParams params = group.key.params;
+        if (urls.size() < minBatchSize) {
+            for (String url : urls) {
+                directScrapes.increment();
+                CompletableFuture<FirecrawlDocument> call = start(() -> sender.scrape(url, params));
+                List<CompletableFuture<FirecrawlDocument>> waiters = group.waiters.get(url);
+                call.whenComplete((document, error) -> {
+                    for (CompletableFuture<FirecrawlDocument> waiter : waiters) {
+                        complete(waiter, document, error);
+                    }
+                });
+                cancelWhenAbandoned(call, waiters);
+            }
+            return;
+        }
+        batches.increment();
+        batchedUrls.add(urls.size());
+        CompletableFuture<List<FirecrawlDocument>> call = start(() -> sender.scrapeBatch(urls, params));
+        call.whenComplete((documents, error) -> route(group, urls, documents, error));
+        List<CompletableFuture<FirecrawlDocument>> all = new ArrayList<>();
+        for (String url : urls) {
+            all.addAll(group.waiters.get(url));
+        }
+        cancelWhenAbandoned(call, all);
+    }
+
+    private void route(Group group, List<String> urls, List<FirecrawlDocument> documents, Throwable error) {
+        if (error == null) {
+            Map<String, FirecrawlDocument> byUrl = new HashMap<>();
+            for (FirecrawlDocument document : documents) {
+                String source = sourceUrl(document);
+                if (source != null) {
+                    byUrl.putIfAbsent(source, document);
+                    byUrl.putIfAbsent(NegativeCache.canonicalUrl(source), document);
+                }
+            }
+            for (String url : urls) {
+                FirecrawlDocument document = byUrl.get(url);
+                if (document == null) {
+                    document = byUrl.get(NegativeCache.canonicalUrl(url));
+                }
+                Throwable missing = document == null
+                        ? new FirecrawlException("Batch scrape returned no document for " + url)
+                        : null;
+                for (CompletableFuture<FirecrawlDocument> waiter : group.waiters.get(url)) {
+                    complete(waiter, document, missing);
+                }
+            }
+        } else {
+            for (String url : urls) {
+                for (CompletableFuture<FirecrawlDocument> waiter : group.waiters.get(url)) {
+                    complete(waiter, null, error);
+                }
+            }
+        }
+    }
+
+    private static String sourceUrl(FirecrawlDocument document) {
+        Map<String, Object> metadata = document != null ? document.getMetadata() : null;
+        if (metadata == null) {
+            return null;
+        }
+        Object source = metadata.get("sourceURL");
+        if (source == null) {
+            source = metadata.get("url");
+        }
+        return source instanceof String ? (String) source : null;
+    }
+
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void complete(CompletableFuture<FirecrawlDocument> waiter, FirecrawlDocument document, Throwable error) {
+        if (error == null) {
+            waiter.complete(document);
+        } else {
+            while (error instanceof CompletionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            waiter.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Cancels {@code call} once every waiter has completed without it, such as by being cancelled.
+     */
+    private static void cancelWhenAbandoned(CompletableFuture<?> call, List<CompletableFuture<FirecrawlDocument>> waiters) {
+        for (CompletableFuture<FirecrawlDocument> waiter : waiters) {
+            waiter.whenComplete((document, error) -> {
+                if (!call.isDone() && waiters.stream().allMatch(CompletableFuture::isDone)) {
+                    call.cancel(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of scrapes submitted.
+     *
+     * @return the calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of batch jobs sent.
+     *
+     * @return the batches
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of distinct URLs sent in batch jobs.
+     *
+     * @return the batched URLs
+     */
+    public long getBatchedUrls() {
+        return batchedUrls.sum();
+    }
+
+    /**
+     * Returns the number of URLs sent as ordinary scrapes because their group was too small.
+     *
+     * @return the direct scrapes
+     */
+    public long getDirectScrapes() {
+        return directScrapes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ScrapeBatcher{" +
+                "maxBatchSize=" + maxBatchSize +
+                ", maxDelay=" + Duration.ofNanos(maxDelayNanos) +
+                ", calls=" + getCalls() +
+                ", batches=" + getBatches() +
+                ", batchedUrls=" + getBatchedUrls() +
+                ", directScrapes=" + getDirectScrapes() +
+                '}';
+    }
+
+    /**
+     * Sends the scrapes of a group. Implemented by the client.
+     */
+    public interface Sender {
+        /**
+         * Scrapes one URL.
+         *
+         * @param url the URL
+         * @param params the scrape parameters
+         * @return a future completed with the document
+         */
+        CompletableFuture<FirecrawlDocument> scrape(String url, ScrapeParams params);
+
+        /**
+         * Scrapes the URLs as one batch job and collects every resulting document.
+         *
+         * @param urls the URLs
+         * @param params the scrape parameters shared by all URLs
+         * @return a future completed with the documents, in any order
+         */
+        CompletableFuture<List<FirecrawlDocument>> scrapeBatch(List<String> urls, ScrapeParams params);
+    }
+
+    private static final class GroupKey {
+        final Sender sender;
+        final ScrapeParams params;
+
+        GroupKey(Sender sender, ScrapeParams params) {
+            this.sender = sender;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GroupKey)) return false;
+            GroupKey that = (GroupKey) o;
+            return sender == that.sender && Objects.equals(params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sender) + Objects.hashCode(params);
+        }
+    }
+
+    private static final class Group {
+        final GroupKey key;
+        // Keyed by URL in arrival order; written under the batcher's lock until the group is closed
+        final Map<String, List<CompletableFuture<FirecrawlDocument>>> waiters = new LinkedHashMap<>();
+
+        Group(GroupKey key) {
+            this.key = key;
+        }
+
+        void add(String url, CompletableFuture<FirecrawlDocument> waiter) {
+            waiters.computeIfAbsent(url, ignored -> new ArrayList<>(1)).add(waiter);
+        }
+    }
+
+    /**
+     * Builder for {@link ScrapeBatcher}.
+     */
+    public static final class Builder {
+        private int maxBatchSize = 100;
+        private int minBatchSize = 2;
+        private Duration maxDelay = Duration.ofMillis(50);
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of distinct URLs at which a group is sent without waiting further.
+         *
+         * @param maxBatchSize the maximum batch size, at least 2
+         * @return this builder
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 2) {
+                throw new IllegalArgumentException("maxBatchSize must be at least 2");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the smallest group sent as a batch job; smaller groups are sent as ordinary
+         * scrapes.
+         *
+         * @param minBatchSize the minimum batch size, at least 1
+         * @return this builder
+         */
+        public Builder minBatchSize(int minBatchSize) {
+            if (minBatchSize < 1) {
+                throw new IllegalArgumentException("minBatchSize must be positive");
+            }
+            this.minBatchSize = minBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a group collects calls after its first one.
+         *
+         * @param maxDelay the maximum delay
+         * @return this builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+            if (maxDelay.isZero() || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must be positive");
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets how often batch jobs are polled for completion.
+         *
+         * @param pollInterval the polling interval
+         * @return this builder
+         */
+        public Builder pollInterval(Duration pollInterval) {
+            Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+            if (pollInterval.isZero() || pollInterval.isNegative()) {
+                throw new IllegalArgumentException("pollInterval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Builds the batcher.
+         *
+         * @return a new ScrapeBatcher
+         */
+        public ScrapeBatcher build() {
+            if (minBatchSize > maxBatchSize) {
+                throw new IllegalArgumentException("minBatchSize must not exceed maxBatchSize");
+            }
+            return new ScrapeBatcher(this);
+        }
+    }
+}
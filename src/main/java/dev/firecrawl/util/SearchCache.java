@@ -0,0 +1,263 @@
+package dev.firecrawl.util;
+
+import dev.firecrawl.model.SearchResponse;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of search responses with a fixed time to live.
+ * <p>
+ * Searches are keyed by their canonical parameters: the query with surrounding and repeated
+ * whitespace removed, the limit, time filter, language and country in lower case, the location
+ * and the scrape options. The request timeout is not part of the key. Only successful responses
+ * are cached.
+ * <p>
+ * A response hit after {@link Builder#refreshAfter(Duration)} but before it expires is returned at
+ * once and refreshed by a single background search, so queries that keep being asked never
+ * expire. Responses nobody asks for again simply expire. The least recently used responses are
+ * evicted beyond {@link Builder#maximumSize(long)}. Cached responses are shared between callers
+ * and must not be modified.
+ * <pre>{@code
+ * SearchCache cache = SearchCache.builder()
+ *         .ttl(Duration.ofMinutes(30))
+ *         .maximumSize(50_000)
+ *         .build();
+ * }</pre>
+ */
+public final class SearchCache {
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final StripedLruCache<SearchResponse> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private SearchCache(Builder builder) {
+        this.ttlNanos = builder.ttl.toNanos();
+        this.refreshAfterNanos = builder.refreshAfter != null
+                ? builder.refreshAfter.toNanos()
+                : (long) (ttlNanos * 0.8);
+        this.entries = new StripedLruCache<>(builder.concurrencyLevel, builder.maximumSize, response -> 1L);
+    }
+
+    /**
+     * Returns a new builder: 10,000 responses over 16 stripes, kept for one hour and refreshed
+     * when hit after 48 minutes.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a cached response. A response past its refresh time is returned too, and
+     * {@code refresh} is started unless a refresh of that entry is already running.
+     *
+     * @param key the cache key of the search
+     * @param refresh starts a search whose response replaces the entry
+     * @return the response, or null on a miss
+     */
+    public SearchResponse get(String key, Supplier<CompletableFuture<SearchResponse>> refresh) {
+        long now = System.nanoTime();
+        StripedLruCache.Entry<SearchResponse> entry = entries.get(key, now);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (now - entry.storedAt >= refreshAfterNanos && entry.refreshing.compareAndSet(false, true)) {
+            refreshes.increment();
+            CompletableFuture<SearchResponse> refreshed;
+            try {
+                refreshed = refresh.get();
+            } catch (RuntimeException e) {
+                refreshed = CompletableFuture.failedFuture(e);
+            }
+            refreshed.whenComplete((response, error) -> {
+                if (error == null && response != null && response.isSuccess()) {
+                    put(key, response);
+                } else {
+                    // Let a later hit try again
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+        return entry.value;
+    }
+
+    /**
+     * Stores a search response if it was successful.
+     *
+     * @param key the cache key of the search
+     * @param response the search response
+     */
+    public void put(String key, SearchResponse response) {
+        if (response.isSuccess()) {
+            long now = System.nanoTime();
+            entries.put(key, response, now, now + ttlNanos);
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * Returns the number of searches answered from the cache.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of searches not found in the cache.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of background refreshes started.
+     *
+     * @return the refreshes
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of responses evicted to stay within the maximum size.
+     *
+     * @return the evictions
+     */
+    public long getEvictions() {
+        return entries.evictions();
+    }
+
+    /**
+     * Returns the number of responses dropped because they expired.
+     *
+     * @return the expirations
+     */
+    public long getExpirations() {
+        return entries.expirations();
+    }
+
+    /**
+     * Returns the number of cached responses.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCache{" +
+                "ttl=" + Duration.ofNanos(ttlNanos) +
+                ", size=" + getSize() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", refreshes=" + getRefreshes() +
+                ", evictions=" + getEvictions() +
+                '}';
+    }
+
+    /**
+     * Builder for {@link SearchCache}.
+     */
+    public static final class Builder {
+        private Duration ttl = Duration.ofHours(1);
+        private Duration refreshAfter;
+        private long maximumSize = 10_000;
+        private int concurrencyLevel = 16;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how long a response is cached.
+         *
+         * @param ttl the time to live
+         * @return this builder
+         */
+        public Builder ttl(Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl must not be null");
+            if (ttl.isZero() || ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets the age after which a hit refreshes the response in the background. Defaults to
+         * 80% of the time to live.
+         *
+         * @param refreshAfter the refresh age, shorter than the time to live
+         * @return this builder
+         */
+        public Builder refreshAfter(Duration refreshAfter) {
+            Objects.requireNonNull(refreshAfter, "refreshAfter must not be null");
+            if (refreshAfter.isNegative()) {
+                throw new IllegalArgumentException("refreshAfter must not be negative");
+            }
+            this.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        /**
+         * Sets the number of responses kept. Each stripe holds an equal share.
+         *
+         * @param maximumSize the maximum number of responses
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of independently locked stripes, rounded up to a power of two.
+         *
+         * @param concurrencyLevel the number of stripes
+         * @return this builder
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel < 1 || concurrencyLevel > 1 << 16) {
+                throw new IllegalArgumentException("concurrencyLevel must be between 1 and 65536");
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return a new SearchCache
+         */
+        public SearchCache build() {
+            if (refreshAfter != null && refreshAfter.compareTo(ttl) >= 0) {
+                throw new IllegalArgumentException("refreshAfter must be shorter than ttl");
+            }
+            return new SearchCache(this);
+        }
+    }
+}
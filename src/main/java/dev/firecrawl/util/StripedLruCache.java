@@ -0,0 +1,162 @@
+package dev.firecrawl.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Weight-bounded LRU map with per-entry expiry, split into independently locked stripes.
+ * <p>
+ * A key always maps to the same stripe, and each stripe holds an equal share of the maximum
+ * weight and evicts its own least recently used entries. Threads working on different stripes
+ * never contend. A value heavier than a stripe's share is not stored.
+ *
+ * @param <V> the value type
+ */
+final class StripedLruCache<V> {
+    private final Stripe<V>[] stripes;
+    private final long stripeWeight;
+    private final ToLongFunction<V> weigher;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    StripedLruCache(int concurrencyLevel, long maximumWeight, ToLongFunction<V> weigher) {
+        int count = 1;
+        while (count < concurrencyLevel) {
+            count <<= 1;
+        }
+        this.stripes = (Stripe<V>[]) new Stripe<?>[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeWeight = Math.max(1L, maximumWeight / count);
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the entry of a key, or null if there is none or it has expired.
+     */
+    Entry<V> get(String key, long nowNanos) {
+        Stripe<V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.map.get(key);
+            if (entry != null && nowNanos - entry.expiresAt >= 0) {
+                stripe.remove(key);
+                expirations.increment();
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Stores a value until {@code expiresAt}, evicting least recently used entries of its stripe
+     * as needed.
+     *
+     * @return the new entry, or null if the value is too heavy to be stored
+     */
+    Entry<V> put(String key, V value, long storedAt, long expiresAt) {
+        long weight = weigher.applyAsLong(value);
+        Stripe<V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+            if (weight > stripeWeight) {
+                return null;
+            }
+            Entry<V> entry = new Entry<>(value, weight, storedAt, expiresAt);
+            stripe.map.put(key, entry);
+            stripe.weight += weight;
+            Iterator<Entry<V>> eldest = stripe.map.values().iterator();
+            while (stripe.weight > stripeWeight && eldest.hasNext()) {
+                Entry<V> evicted = eldest.next();
+                eldest.remove();
+                stripe.weight -= evicted.weight;
+                evictions.increment();
+            }
+            return entry;
+        }
+    }
+
+    void invalidate(String key) {
+        Stripe<V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    void invalidateAll() {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.map.clear();
+                stripe.weight = 0;
+            }
+        }
+    }
+
+    long size() {
+        long size = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.map.size();
+            }
+        }
+        return size;
+    }
+
+    long weight() {
+        long weight = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                weight += stripe.weight;
+            }
+        }
+        return weight;
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    long expirations() {
+        return expirations.sum();
+    }
+
+    private Stripe<V> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * A cached value with its weight and timestamps in {@link System#nanoTime()} units.
+     */
+    static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long storedAt;
+        final long expiresAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, long weight, long storedAt, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Stripe<V> {
+        // Access order: iteration starts at the least recently used entry
+        final LinkedHashMap<String, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        long weight;
+
+        void remove(String key) {
+            Entry<V> removed = map.remove(key);
+            if (removed != null) {
+                weight -= removed.weight;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package dev.firecrawl.util.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes Jackson produce the same model values as Gson: {@link JsonElement} fields are built
+ * directly from the token stream, and untyped values ({@code Object}, {@code Map<String, Object>})
+ * decode numbers as {@link Double} the way Gson's {@code ObjectTypeAdapter} does.
+ */
+final class GsonCompatModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    GsonCompatModule() {
+        super("FirecrawlGsonCompat");
+        addDeserializer(JsonElement.class, new TreeDeserializer<>(JsonElement.class, JsonNull.INSTANCE));
+        addDeserializer(JsonObject.class, new TreeDeserializer<>(JsonObject.class, null));
+        addDeserializer(JsonArray.class, new TreeDeserializer<>(JsonArray.class, null));
+        addDeserializer(Object.class, new UntypedDeserializer());
+        addSerializer(JsonElement.class, new TreeSerializer());
+    }
+
+    /**
+     * Reads a Gson tree of the requested shape. A JSON {@code null} becomes {@link JsonNull} for
+     * {@link JsonElement} targets, matching Gson, and Java null for the concrete subtypes.
+     */
+    private static final class TreeDeserializer<T extends JsonElement> extends StdDeserializer<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final T nullValue;
+
+        TreeDeserializer(Class<T> type, T nullValue) {
+            super(type);
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonElement element = readTree(p, ctxt);
+            if (!handledType().isInstance(element)) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            return (T) element;
+        }
+
+        @Override
+        public T getNullValue(DeserializationContext ctxt) {
+            return nullValue;
+        }
+
+        private static JsonElement readTree(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            switch (token) {
+                case START_OBJECT:
+                    // Move to the first field name or END_OBJECT
+                    p.nextToken();
+                    return readObject(p, ctxt);
+                case FIELD_NAME:
+                case END_OBJECT:
+                    return readObject(p, ctxt);
+                case START_ARRAY: {
+                    JsonArray array = new JsonArray();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        array.add(readTree(p, ctxt));
+                    }
+                    return array;
+                }
+                case VALUE_STRING:
+                    return new JsonPrimitive(p.getText());
+                case VALUE_NUMBER_INT:
+                    return new JsonPrimitive(p.getNumberValue());
+                case VALUE_NUMBER_FLOAT:
+                    // BigDecimal keeps the literal, as Gson's lazily parsed numbers do
+                    return new JsonPrimitive(p.getDecimalValue());
+                case VALUE_TRUE:
+                    return new JsonPrimitive(Boolean.TRUE);
+                case VALUE_FALSE:
+                    return new JsonPrimitive(Boolean.FALSE);
+                case VALUE_NULL:
+                    return JsonNull.INSTANCE;
+                default:
+                    return (JsonElement) ctxt.handleUnexpectedToken(JsonElement.class, p);
+            }
+        }
+
+        /**
+         * Reads the members of an object, starting at its first field name or its END_OBJECT.
+         */
+        private static JsonObject readObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonObject object = new JsonObject();
+            for (JsonToken t = p.currentToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                object.add(name, readTree(p, ctxt));
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Reads untyped values as {@link Map}, {@link List}, {@link String}, {@link Double} or
+     * {@link Boolean}, like Gson's {@code ObjectTypeAdapter}.
+     */
+    private static final class UntypedDeserializer extends JsonDeserializer<Object> {
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            switch (token) {
+                case START_OBJECT:
+                    // Move to the first field name or END_OBJECT
+                    p.nextToken();
+                    return readMap(p, ctxt);
+                case FIELD_NAME:
+                case END_OBJECT:
+                    return readMap(p, ctxt);
+                case START_ARRAY: {
+                    List<Object> list = new ArrayList<>();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        list.add(deserialize(p, ctxt));
+                    }
+                    return list;
+                }
+                case VALUE_STRING:
+                    return p.getText();
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return p.getDoubleValue();
+                case VALUE_TRUE:
+                    return Boolean.TRUE;
+                case VALUE_FALSE:
+                    return Boolean.FALSE;
+                case VALUE_NULL:
+                    return null;
+                default:
+                    return ctxt.handleUnexpectedToken(Object.class, p);
+            }
+        }
+
+        /**
+         * Reads the members of an object, starting at its first field name or its END_OBJECT.
+         */
+        private Map<String, Object> readMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (JsonToken t = p.currentToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                map.put(name, deserialize(p, ctxt));
+            }
+            return map;
+        }
+    }
+
+    /**
+     * Writes a Gson tree, dropping null object members as Gson does when nulls are not serialized.
+     */
+    private static final class TreeSerializer extends StdSerializer<JsonElement> {
+        private static final long serialVersionUID = 1L;
+
+        TreeSerializer() {
+            super(JsonElement.class);
+        }
+
+        @Override
+        public void serialize(JsonElement element, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (element == null || element.isJsonNull()) {
+                gen.writeNull();
+            } else if (element.isJsonObject()) {
+                gen.writeStartObject();
+                for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+                    if (!member.getValue().isJsonNull()) {
+                        gen.writeFieldName(member.getKey());
+                        serialize(member.getValue(), gen, provider);
+                    }
+                }
+                gen.writeEndObject();
+            } else if (element.isJsonArray()) {
+                gen.writeStartArray();
+                for (JsonElement item : element.getAsJsonArray()) {
+                    serialize(item, gen, provider);
+                }
+                gen.writeEndArray();
+            } else {
+                JsonPrimitive primitive = element.getAsJsonPrimitive();
+                if (primitive.isBoolean()) {
+                    gen.writeBoolean(primitive.getAsBoolean());
+                } else if (primitive.isNumber()) {
+                    gen.writeNumber(primitive.getAsNumber().toString());
+                } else {
+                    gen.writeString(primitive.getAsString());
+                }
+            }
+        }
+    }
+}
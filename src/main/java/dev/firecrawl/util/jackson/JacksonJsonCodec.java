@@ -0,0 +1,79 @@
+package dev.firecrawl.util.jackson;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.firecrawl.util.JsonCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * {@link JsonCodec} backed by Jackson databind, decoding responses straight from the byte stream.
+ * <p>
+ * Requires {@code com.fasterxml.jackson.core:jackson-databind} on the classpath; the SDK declares it
+ * as an optional dependency. The mapper binds model fields directly (getters and setters are not
+ * used), ignores unknown properties, omits nulls when encoding, and reads Gson
+ * {@link com.google.gson.JsonElement} fields and untyped values the same way Gson does, so models
+ * decoded here are interchangeable with those from {@link dev.firecrawl.util.GsonJsonCodec}.
+ * <pre>{@code
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *         .apiKey("fc-...")
+ *         .jsonCodec(new JacksonJsonCodec())
+ *         .build();
+ * }</pre>
+ */
+public final class JacksonJsonCodec implements JsonCodec {
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a codec with a new mapper.
+     */
+    public JacksonJsonCodec() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Creates a codec from a copy of an application's mapper, keeping its factory settings and
+     * registered modules. The original mapper is not modified.
+     *
+     * @param mapper the mapper to copy
+     */
+    public JacksonJsonCodec(ObjectMapper mapper) {
+        this.mapper = configure(Objects.requireNonNull(mapper, "mapper").copy());
+    }
+
+    @Override
+    public <T> T decode(InputStream in, Type type) throws IOException {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        return mapper.readValue(in, javaType);
+    }
+
+    @Override
+    public void encode(Object value, Type type, OutputStream out) throws IOException {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        mapper.writerFor(javaType).writeValue(out, value);
+        out.flush();
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .registerModule(new GsonCompatModule());
+    }
+}
@@ -0,0 +1,145 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.ConnectionStats;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.SearchParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncApiV2Test {
+    private MockApiServer server;
+    private FirecrawlClient client;
+    private final AtomicInteger statusCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("bad.example")) {
+                respond(exchange, 400, "{\"success\":false,\"error\":\"Invalid URL\"}");
+            } else {
+                respond(exchange, 200, "{\"success\":true,\"data\":{\"markdown\":\"# Hello\"}}");
+            }
+        });
+        server.handle("/v2/crawl", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, "{\"success\":true,\"id\":\"job-1\"}");
+                return;
+            }
+            int call = statusCalls.incrementAndGet();
+            if (call == 1) {
+                respond(exchange, 503, "{\"error\":\"busy\"}");
+            } else if (call == 2) {
+                respond(exchange, 200, "{\"success\":true,\"status\":\"running\"}");
+            } else {
+                respond(exchange, 200, "{\"success\":true,\"status\":\"completed\",\"data\":[{\"markdown\":\"page\"}]}");
+            }
+        });
+        client = new FirecrawlClient("test-key", server.url(), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void scrapeAsyncCompletesWithDocument() throws Exception {
+        FirecrawlDocument doc = client.scrapeAsync("https://example.com", null).get(10, TimeUnit.SECONDS);
+        assertEquals("# Hello", doc.getMarkdown());
+    }
+
+    @Test
+    public void scrapeAsyncMapsApiErrorsLikeSyncPath() {
+        CompletableFuture<FirecrawlDocument> future = client.scrapeAsync("https://bad.example", null);
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(FirecrawlException.class, ex.getCause());
+        assertInstanceOf(ApiException.class, ex.getCause().getCause());
+        assertEquals(400, ((ApiException) ex.getCause().getCause()).getStatusCode());
+    }
+
+    @Test
+    public void searchAsyncFailsValidationWithoutNetworkCall() {
+        CompletableFuture<?> future = client.searchAsync(new SearchParams("  "));
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertTrue(ex.getCause().getMessage().toLowerCase().contains("invalid search parameters"));
+    }
+
+    @Test
+    public void crawlAsyncRetriesGatewayErrorsAndPollsUntilDone() throws Exception {
+        CrawlStatusResponse status = client.crawlAsync("https://example.com", null, 1).get(20, TimeUnit.SECONDS);
+        assertTrue(status.isCompleted());
+        assertEquals(1, status.getData().length);
+        assertEquals(3, statusCalls.get());
+    }
+
+    @Test
+    public void cancellingCrawlAsyncStopsPolling() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        try (MockApiServer running = MockApiServer.start()) {
+            running.handle("/v2/crawl", exchange -> {
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    respond(exchange, "{\"success\":true,\"id\":\"job-2\"}");
+                    return;
+                }
+                polls.incrementAndGet();
+                respond(exchange, "{\"success\":true,\"status\":\"running\",\"data\":[]}");
+            });
+            FirecrawlClient crawler = running.client();
+
+            CompletableFuture<CrawlStatusResponse> crawl = crawler.crawlAsync("https://example.com", null, 1);
+            awaitPolls(polls, 1);
+            assertTrue(crawl.cancel(true));
+            int afterCancel = polls.get();
+            Thread.sleep(2500);
+            assertEquals(afterCancel, polls.get());
+
+            CompletableFuture<CrawlStatusResponse> watch = crawler.watchCrawlAsync("job-2", documents -> { }, 1)
+                    .orTimeout(1500, TimeUnit.MILLISECONDS);
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> watch.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, ex.getCause());
+            int afterTimeout = polls.get();
+            Thread.sleep(2500);
+            assertEquals(afterTimeout, polls.get());
+        }
+    }
+
+    @Test
+    public void connectionStatsCountStreamsPerConnection() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            client.scrapeAsync("https://example.com", null).get(10, TimeUnit.SECONDS);
+        }
+        List<ConnectionStats> stats = client.getConnectionStats();
+        assertFalse(stats.isEmpty());
+        assertEquals(3, stats.stream().mapToLong(ConnectionStats::getTotalStreams).sum());
+        assertEquals("http/1.1", stats.get(0).getProtocol());
+        assertEquals(0, stats.get(0).getActiveStreams());
+    }
+
+    private static void awaitPolls(AtomicInteger polls, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (polls.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(polls.get() >= count, "polls " + polls.get());
+    }
+}
@@ -0,0 +1,163 @@
+package dev.firecrawl;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.UncheckedFirecrawlException;
+import dev.firecrawl.model.BatchScrapeParams;
+import dev.firecrawl.model.BatchScrapeResponse;
+import dev.firecrawl.model.BatchScrapeStatusResponse;
+import dev.firecrawl.model.ScrapeParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchScrapeV2Test {
+    private MockApiServer server;
+    private FirecrawlClient client;
+    private final AtomicInteger statusCalls = new AtomicInteger();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private volatile JsonObject startBody;
+    private volatile boolean stillScraping;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/batch/scrape", exchange -> {
+            String target = exchange.getRequestURI().toString();
+            requests.add(exchange.getRequestMethod() + " " + target);
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if ("POST".equals(exchange.getRequestMethod())) {
+                startBody = JsonParser.parseString(body).getAsJsonObject();
+                respond(exchange, 200, "{\"success\":true,\"id\":\"batch-1\",\"url\":\"https://api.firecrawl.dev/v2/batch/scrape/batch-1\",\"invalidURLs\":[\"nope\"]}");
+            } else if ("DELETE".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, "{\"success\":true,\"status\":\"cancelled\"}");
+            } else if (target.endsWith("skip=2")) {
+                // Cursors name the public API host; the client must stay on its own
+                respond(exchange, 200, page("completed", "https://api.firecrawl.dev/v2/batch/scrape/batch-1?skip=4", 3, 4));
+            } else if (target.endsWith("skip=4")) {
+                respond(exchange, 200, page("completed", null, 5));
+            } else if (target.endsWith("skip=9")) {
+                respond(exchange, 200, page("completed", "https://evil.example/steal?skip=10", 10));
+            } else if (statusCalls.incrementAndGet() == 1 || stillScraping) {
+                respond(exchange, 200, page("scraping", null));
+            } else {
+                respond(exchange, 200, page("completed", "https://api.firecrawl.dev/v2/batch/scrape/batch-1?skip=2", 1, 2));
+            }
+        });
+        client = new FirecrawlClient("test-key", server.url(), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void startSendsUrlsWithFlattenedScrapeOptions() throws Exception {
+        BatchScrapeParams params = new BatchScrapeParams()
+                .setScrapeOptions(new ScrapeParams().setFormats(new String[]{"markdown"}).setOnlyMainContent(true))
+                .setMaxConcurrency(5)
+                .setIgnoreInvalidURLs(true);
+        BatchScrapeResponse response = client.startBatchScrape(Arrays.asList("https://a.example", "nope"), params, "key-1");
+
+        assertEquals("batch-1", response.getId());
+        assertArrayEquals(new String[]{"nope"}, response.getInvalidURLs());
+        assertEquals(2, startBody.getAsJsonArray("urls").size());
+        assertEquals("markdown", startBody.getAsJsonArray("formats").get(0).getAsString());
+        assertTrue(startBody.get("onlyMainContent").getAsBoolean());
+        assertEquals(5, startBody.get("maxConcurrency").getAsInt());
+        assertTrue(startBody.get("ignoreInvalidURLs").getAsBoolean());
+        assertFalse(startBody.has("scrapeOptions"));
+
+        assertThrows(FirecrawlException.class, () -> client.startBatchScrape(List.of(), null));
+        assertThrows(FirecrawlException.class,
+                () -> client.startBatchScrape(List.of("https://a.example"), new BatchScrapeParams().setMaxConcurrency(0)));
+    }
+
+    @Test
+    public void batchScrapeWaitsAndPagesAreFetchedLazily() throws Exception {
+        BatchScrapeStatusResponse first = client.batchScrape(List.of("https://a.example"), null, 0);
+        assertTrue(first.isCompleted());
+        assertEquals(2, statusCalls.get());
+        assertEquals(List.of("POST /v2/batch/scrape", "GET /v2/batch/scrape/batch-1", "GET /v2/batch/scrape/batch-1"), requests);
+
+        Iterator<BatchScrapeStatusResponse> pages = client.batchScrapePages(first).iterator();
+        assertSame(first, pages.next());
+        assertEquals(3, requests.size());
+        List<String> markdown = new ArrayList<>();
+        Arrays.stream(first.getData()).forEach(doc -> markdown.add(doc.getMarkdown()));
+        while (pages.hasNext()) {
+            Arrays.stream(pages.next().getData()).forEach(doc -> markdown.add(doc.getMarkdown()));
+        }
+        assertEquals(List.of("page 1", "page 2", "page 3", "page 4", "page 5"), markdown);
+        assertEquals("GET /v2/batch/scrape/batch-1?skip=2", requests.get(3));
+        assertEquals("GET /v2/batch/scrape/batch-1?skip=4", requests.get(4));
+    }
+
+    @Test
+    public void asyncBatchScrapeAndCancel() throws Exception {
+        BatchScrapeStatusResponse status = client.batchScrapeAsync(List.of("https://a.example"), null, 0)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals("https://api.firecrawl.dev/v2/batch/scrape/batch-1?skip=2", status.getNext());
+        assertEquals("cancelled", client.cancelBatchScrape("batch-1").getStatus());
+        assertEquals("DELETE /v2/batch/scrape/batch-1", requests.get(requests.size() - 1));
+    }
+
+    @Test
+    public void cancellingAsyncBatchScrapeStopsPolling() throws Exception {
+        stillScraping = true;
+        CompletableFuture<BatchScrapeStatusResponse> future = client.batchScrapeAsync(List.of("https://a.example"), null, 0);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statusCalls.get() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(statusCalls.get() >= 3);
+
+        assertTrue(future.cancel(true));
+        // A poll already on the wire may still arrive
+        Thread.sleep(200);
+        int polled = statusCalls.get();
+        Thread.sleep(300);
+        assertEquals(polled, statusCalls.get());
+    }
+
+    @Test
+    public void cursorsOutsideTheBatchEndpointAreRejected() throws Exception {
+        BatchScrapeStatusResponse page = client.getBatchScrapeStatusPage("/v2/batch/scrape/batch-1?skip=9");
+        Iterator<BatchScrapeStatusResponse> pages = client.batchScrapePages(page).iterator();
+        pages.next();
+        assertTrue(pages.hasNext());
+        UncheckedFirecrawlException error = assertThrows(UncheckedFirecrawlException.class, pages::next);
+        assertTrue(error.getCause().getMessage().contains("evil.example"));
+    }
+
+    private static String page(String status, String next, int... pages) {
+        StringBuilder data = new StringBuilder();
+        for (int page : pages) {
+            if (data.length() > 0) {
+                data.append(',');
+            }
+            data.append("{\"markdown\":\"page ").append(page).append("\"}");
+        }
+        return "{\"success\":true,\"status\":\"" + status + "\",\"total\":5,\"completed\":" + (pages.length > 0 ? 5 : 0)
+                + (next != null ? ",\"next\":\"" + next + "\"" : "")
+                + ",\"data\":[" + data + "]}";
+    }
+}
@@ -0,0 +1,196 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.CircuitBreakerOpenException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.util.CircuitBreaker;
+import dev.firecrawl.util.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerV2Test {
+    private MockApiServer server;
+    private volatile int status = 500;
+    private volatile long delayMs;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, status, status == 200
+                    ? "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}"
+                    : "{\"error\":\"backend unavailable\"}");
+        });
+        server.handle("/v2/crawl", exchange ->
+                respond(exchange, 200, "{\"success\":true,\"status\":\"completed\"}"));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void opensOnErrorRateAndFailsFastPerEndpoint() throws Exception {
+        CircuitBreaker breaker = CircuitBreaker.builder().windowSize(4).minimumCalls(4).build();
+        FirecrawlClient client = client(breaker);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        }
+        CircuitBreakerOpenException open = assertThrows(CircuitBreakerOpenException.class,
+                () -> client.scrape("https://example.com", null));
+        assertEquals("/v2/scrape", open.getEndpoint());
+        assertTrue(open.getRetryAfter().toSeconds() > 20);
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> client.scrapeAsync("https://example.com", null).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CircuitBreakerOpenException.class, async.getCause());
+        assertEquals(4, scrapeCalls.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState("/v2/scrape"));
+
+        // Other endpoints keep their own circuit
+        assertTrue(client.checkCrawlStatus("job-1").isCompleted());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("/v2/crawl"));
+
+        breaker.reset("/v2/scrape");
+        status = 200;
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+    }
+
+    @Test
+    public void clientErrorsDoNotOpenTheCircuit() {
+        status = 400;
+        CircuitBreaker breaker = CircuitBreaker.builder().windowSize(4).minimumCalls(4).build();
+        FirecrawlClient client = client(breaker);
+
+        for (int i = 0; i < 8; i++) {
+            assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("/v2/scrape"));
+        assertEquals(8, scrapeCalls.get());
+    }
+
+    @Test
+    public void opensOnSlowCallRate() throws Exception {
+        status = 200;
+        delayMs = 150;
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .windowSize(2)
+                .minimumCalls(2)
+                .slowCallDuration(Duration.ofMillis(100))
+                .build();
+        FirecrawlClient client = client(breaker);
+
+        client.scrape("https://example.com", null);
+        client.scrape("https://example.com", null);
+        long start = System.nanoTime();
+        assertThrows(CircuitBreakerOpenException.class, () -> client.scrape("https://example.com", null));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+    }
+
+    @Test
+    public void halfOpenProbesRestoreTrafficGradually() throws Exception {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .windowSize(2)
+                .minimumCalls(2)
+                .openDuration(Duration.ofMillis(200))
+                .halfOpenProbes(3)
+                .build();
+        FirecrawlClient client = client(breaker);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState("/v2/scrape"));
+
+        Thread.sleep(250);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("/v2/scrape"));
+        status = 200;
+        delayMs = 200;
+
+        // A single probe at first
+        CompletableFuture<FirecrawlDocument> probe = client.scrapeAsync("https://example.com", null);
+        ExecutionException refused = assertThrows(ExecutionException.class,
+                () -> client.scrapeAsync("https://example.com", null).get(5, TimeUnit.SECONDS));
+        CircuitBreakerOpenException probing = assertInstanceOf(CircuitBreakerOpenException.class, refused.getCause());
+        assertEquals(Duration.ZERO, probing.getRetryAfter());
+        assertEquals("ok", probe.get(5, TimeUnit.SECONDS).getMarkdown());
+
+        // Two in parallel after one success, which completes the three probes
+        CompletableFuture<FirecrawlDocument> second = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> third = client.scrapeAsync("https://example.com", null);
+        assertEquals("ok", second.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals("ok", third.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("/v2/scrape"));
+    }
+
+    @Test
+    public void failedProbeOpensTheCircuitAgain() throws Exception {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .windowSize(2)
+                .minimumCalls(2)
+                .openDuration(Duration.ofMillis(100))
+                .build();
+        FirecrawlClient client = client(breaker);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+
+        Thread.sleep(150);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState("/v2/scrape"));
+        assertThrows(CircuitBreakerOpenException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(3, scrapeCalls.get());
+    }
+
+    @Test
+    public void keysCircuitsOnTheApiPathBelowAnApiUrlPrefix() throws Exception {
+        server.handle("/firecrawl/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 500, "{\"error\":\"backend unavailable\"}");
+        });
+        server.handle("/firecrawl/v2/crawl", exchange ->
+                respond(exchange, 200, "{\"success\":true,\"status\":\"completed\"}"));
+        CircuitBreaker breaker = CircuitBreaker.builder().windowSize(2).minimumCalls(2).build();
+        FirecrawlClient client = server.clientBuilder()
+                .apiUrl(server.url() + "/firecrawl")
+                .retryPolicy(RetryPolicy.none())
+                .circuitBreaker(breaker)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        }
+        CircuitBreakerOpenException open = assertThrows(CircuitBreakerOpenException.class,
+                () -> client.scrape("https://example.com", null));
+        assertEquals("/v2/scrape", open.getEndpoint());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState("/v2/scrape"));
+        assertTrue(client.checkCrawlStatus("job-1").isCompleted());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("/v2/crawl"));
+    }
+
+    private FirecrawlClient client(CircuitBreaker breaker) {
+        return server.clientBuilder()
+                .retryPolicy(RetryPolicy.none())
+                .circuitBreaker(breaker)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.ConnectionLimits;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.client.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientBuilderV2Test {
+
+    @Test
+    public void constructorKeepsOkHttpDefaults() {
+        FirecrawlClient client = new FirecrawlClient("test-key", "https://api.firecrawl.dev", null);
+        ConnectionLimits limits = client.getConnectionLimits();
+        assertEquals(64, limits.getMaxRequests());
+        assertEquals(5, limits.getMaxRequestsPerHost());
+        assertEquals(5, limits.getMaxIdleConnections());
+        assertEquals(Duration.ofMinutes(5), limits.getKeepAlive());
+        assertEquals(Duration.ofSeconds(120), limits.getCallTimeout());
+    }
+
+    @Test
+    public void builderReportsConfiguredLimits() {
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("test-key")
+                .maxRequests(200)
+                .maxRequestsPerHost(100)
+                .maxIdleConnections(50)
+                .keepAlive(Duration.ofSeconds(30))
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(90))
+                .writeTimeout(Duration.ofSeconds(15))
+                .callTimeout(Duration.ofSeconds(100))
+                .build();
+        ConnectionLimits limits = client.getConnectionLimits();
+        assertEquals(200, limits.getMaxRequests());
+        assertEquals(100, limits.getMaxRequestsPerHost());
+        assertEquals(50, limits.getMaxIdleConnections());
+        assertEquals(Duration.ofSeconds(30), limits.getKeepAlive());
+        assertEquals(Duration.ofSeconds(3), limits.getConnectTimeout());
+        assertEquals(Duration.ofSeconds(90), limits.getReadTimeout());
+        assertEquals(Duration.ofSeconds(15), limits.getWriteTimeout());
+        assertEquals(Duration.ofSeconds(100), limits.getCallTimeout());
+    }
+
+    @Test
+    public void builderRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> FirecrawlClient.builder().maxRequestsPerHost(0));
+        assertThrows(IllegalArgumentException.class, () -> FirecrawlClient.builder().keepAlive(Duration.ZERO));
+    }
+
+    @Test
+    public void h2cPriorKnowledgeRequiresCleartextUrl() {
+        assertThrows(IllegalArgumentException.class, () -> FirecrawlClient.builder()
+                .apiKey("test-key")
+                .apiUrl("https://api.firecrawl.dev")
+                .transport(HttpTransport.H2C_PRIOR_KNOWLEDGE)
+                .build());
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("test-key")
+                .apiUrl("http://firecrawl.internal:3002")
+                .transport(HttpTransport.H2C_PRIOR_KNOWLEDGE)
+                .build();
+        assertEquals(HttpTransport.H2C_PRIOR_KNOWLEDGE, client.getConnectionLimits().getTransport());
+        assertTrue(client.getConnectionStats().isEmpty());
+    }
+}
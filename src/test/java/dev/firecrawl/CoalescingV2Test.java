@@ -0,0 +1,162 @@
+package dev.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.MapResponse;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.RequestCoalescer;
+import okhttp3.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoalescingV2Test {
+    private MockApiServer server;
+    private volatile long delayMs = 300;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+    private final AtomicInteger mapCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}");
+        });
+        server.handle("/v2/map", exchange -> {
+            mapCalls.incrementAndGet();
+            respond(exchange, "{\"success\":true,\"links\":[{\"url\":\"https://example.com/a\"}]}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void identicalScrapesShareOneRequest() throws Exception {
+        FirecrawlClient client = client();
+        List<CompletableFuture<FirecrawlDocument>> calls = List.of(
+                client.scrapeAsync("https://example.com", null),
+                client.scrapeAsync("https://example.com", null),
+                CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return client.scrape("https://example.com", null);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+
+        FirecrawlDocument first = calls.get(0).get(5, TimeUnit.SECONDS);
+        assertSame(first, calls.get(1).get(5, TimeUnit.SECONDS));
+        assertSame(first, calls.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals(1, scrapeCalls.get());
+        RequestCoalescer coalescer = client.getRequestCoalescer();
+        assertEquals(1, coalescer.getCalls());
+        assertEquals(2, coalescer.getCoalesced());
+        assertEquals(0, coalescer.getInFlight());
+
+        // A completed call is not reused
+        client.scrape("https://example.com", null);
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void differentParametersAreNotCoalesced() throws Exception {
+        FirecrawlClient client = client();
+        ScrapeParams params = new ScrapeParams();
+        params.setOnlyMainContent(true);
+        CompletableFuture<FirecrawlDocument> plain = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> main = client.scrapeAsync("https://example.com", params);
+        CompletableFuture<FirecrawlDocument> other = client.scrapeAsync("https://example.org", null);
+
+        CompletableFuture.allOf(plain, main, other).get(5, TimeUnit.SECONDS);
+        assertEquals(3, scrapeCalls.get());
+        assertEquals(0, client.getRequestCoalescer().getCoalesced());
+    }
+
+    @Test
+    public void followerTimeoutAndCancelDoNotAffectOthers() throws Exception {
+        FirecrawlClient client = client();
+        CompletableFuture<MapResponse> leader = client.mapAsync("https://example.com", null);
+        CompletableFuture<MapResponse> impatient = client.mapAsync("https://example.com", null)
+                .orTimeout(50, TimeUnit.MILLISECONDS);
+        CompletableFuture<MapResponse> cancelled = client.mapAsync("https://example.com", null);
+        cancelled.cancel(true);
+
+        ExecutionException timedOut = assertThrows(ExecutionException.class,
+                () -> impatient.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, timedOut.getCause());
+        assertEquals(1, leader.get(5, TimeUnit.SECONDS).getLinks().length);
+        assertEquals(1, mapCalls.get());
+        assertEquals(2, client.getRequestCoalescer().getCoalesced());
+    }
+
+    @Test
+    public void callIsCancelledOnceEveryCallerLeaves() throws Exception {
+        delayMs = 2000;
+        FirecrawlClient client = client();
+        CompletableFuture<FirecrawlDocument> first = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> second = client.scrapeAsync("https://example.com", null);
+        assertEquals(1, client.getRequestCoalescer().getInFlight());
+
+        first.cancel(true);
+        assertEquals(1, client.getRequestCoalescer().getInFlight());
+        second.cancel(true);
+        assertEquals(0, client.getRequestCoalescer().getInFlight());
+
+        // The next caller starts a fresh call
+        delayMs = 0;
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+        assertEquals(1, client.getRequestCoalescer().getCoalesced());
+    }
+
+    @Test
+    public void sameRequestDecodedIntoOtherTypesIsNotShared() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        Request request = new Request.Builder().url(server.url() + "/v2/crawl/job").get().build();
+        CompletableFuture<String> text = new CompletableFuture<>();
+        CompletableFuture<Integer> number = new CompletableFuture<>();
+
+        CompletableFuture<String> asText = coalescer.execute(request, String.class, () -> text);
+        CompletableFuture<Integer> asNumber = coalescer.execute(request, Integer.class, () -> number);
+        CompletableFuture<String> again = coalescer.execute(request, String.class, CompletableFuture::new);
+        assertEquals(2, coalescer.getInFlight());
+        assertEquals(1, coalescer.getCoalesced());
+
+        text.complete("done");
+        number.complete(42);
+        assertEquals("done", asText.get(5, TimeUnit.SECONDS));
+        assertEquals("done", again.get(5, TimeUnit.SECONDS));
+        assertEquals(42, asNumber.get(5, TimeUnit.SECONDS));
+        assertEquals(2, coalescer.getCalls());
+    }
+
+    private FirecrawlClient client() {
+        return server.clientBuilder()
+                .coalesceRequests(true)
+                .build();
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        MockApiServer.respondQuietly(exchange, json);
+    }
+}
@@ -0,0 +1,117 @@
+package dev.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.CompressionStats;
+import dev.firecrawl.util.ContentDecoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionV2Test {
+    private static final String MARKDOWN = "# Title\n\n" + "lorem ipsum dolor sit amet ".repeat(400);
+
+    private MockApiServer server;
+    private final List<CompressionStats> stats = new CopyOnWriteArrayList<>();
+    private volatile String lastAcceptEncoding;
+    private volatile String lastRequestEncoding;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", this::handleScrape);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void negotiatesGzipAndReportsSavedBytes() throws Exception {
+        FirecrawlClient client = client().build();
+        FirecrawlDocument doc = client.scrape("https://example.com", null);
+        assertEquals(MARKDOWN, doc.getMarkdown());
+        assertEquals("gzip", lastAcceptEncoding);
+        assertNull(lastRequestEncoding);
+
+        assertEquals(1, stats.size());
+        CompressionStats call = stats.get(0);
+        assertEquals("/v2/scrape", call.getPath());
+        assertEquals("gzip", call.getResponseEncoding());
+        assertTrue(call.getResponseWireBytes() < call.getResponseBytes());
+        assertTrue(call.getBytesSaved() > 0);
+    }
+
+    @Test
+    public void prefersPluggableDecoder() throws Exception {
+        FirecrawlClient client = client()
+                .contentDecoder(ContentDecoder.of("deflate", InflaterInputStream::new))
+                .build();
+        FirecrawlDocument doc = client.scrape("https://example.com", null);
+        assertEquals(MARKDOWN, doc.getMarkdown());
+        assertEquals("deflate, gzip", lastAcceptEncoding);
+        assertEquals("deflate", stats.get(0).getResponseEncoding());
+    }
+
+    @Test
+    public void gzipsLargeRequestBodiesAboveThreshold() throws Exception {
+        FirecrawlClient client = client().gzipRequestsAbove(1024).build();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-Large", "v".repeat(4096));
+        client.scrape("https://example.com", new ScrapeParams().setHeaders(headers));
+        assertEquals("gzip", lastRequestEncoding);
+        assertEquals("gzip", stats.get(0).getRequestEncoding());
+        assertTrue(stats.get(0).getRequestWireBytes() < stats.get(0).getRequestBytes());
+
+        client.scrape("https://example.com", null);
+        assertNull(lastRequestEncoding);
+    }
+
+    private FirecrawlClient.Builder client() {
+        return server.clientBuilder()
+                .compressionListener(stats::add);
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        lastAcceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        lastRequestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        InputStream in = exchange.getRequestBody();
+        if ("gzip".equals(lastRequestEncoding)) {
+            in = new GZIPInputStream(in);
+        }
+        String request = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(request.contains("\"url\""));
+
+        String json = "{\"success\":true,\"data\":{\"markdown\":\"" + MARKDOWN.replace("\n", "\\n") + "\"}}";
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        String encoding = lastAcceptEncoding != null && lastAcceptEncoding.startsWith("deflate") ? "deflate" : "gzip";
+        try (OutputStream os = "deflate".equals(encoding) ? new DeflaterOutputStream(encoded) : new GZIPOutputStream(encoded)) {
+            os.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Content-Encoding", encoding);
+        exchange.sendResponseHeaders(200, encoded.size());
+        try (OutputStream os = exchange.getResponseBody()) {
+            encoded.writeTo(os);
+        }
+    }
+}
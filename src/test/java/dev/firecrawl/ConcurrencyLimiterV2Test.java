@@ -0,0 +1,186 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ConcurrencyLimitExceededException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.util.ConcurrencyLimiter;
+import dev.firecrawl.util.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimiterV2Test {
+    private MockApiServer server;
+    private volatile int status = 200;
+    private volatile long delayMs = 20;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        server.handle("/v2/scrape", exchange -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(delayMs);
+                respond(exchange, status, status == 200
+                        ? "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}"
+                        : "{\"error\":\"overloaded\"}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void limitGrowsUnderLoadButCapsCallsInFlight() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(2).maxLimit(6).build();
+        FirecrawlClient client = client(limiter);
+
+        List<CompletableFuture<FirecrawlDocument>> calls = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            calls.add(client.scrapeAsync("https://example.com", null));
+        }
+        for (CompletableFuture<FirecrawlDocument> call : calls) {
+            assertEquals("ok", call.get(10, TimeUnit.SECONDS).getMarkdown());
+        }
+
+        assertEquals(6, limiter.getLimit());
+        assertTrue(maxActive.get() <= 6, "max active " + maxActive.get());
+        assertTrue(maxActive.get() > 2, "limit never used beyond its initial value");
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+        assertEquals(0, limiter.getRejections());
+        assertTrue(limiter.getRecentLatency().toMillis() >= 15);
+    }
+
+    @Test
+    public void overloadResponsesCutTheLimit() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(16).build();
+        FirecrawlClient client = client(limiter);
+        status = 429;
+
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(8, limiter.getLimit());
+        status = 503;
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void risingLatencyTrimsTheLimit() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(10).build();
+        FirecrawlClient client = client(limiter);
+        delayMs = 30;
+        for (int i = 0; i < 15; i++) {
+            client.scrape("https://example.com", null);
+        }
+        assertEquals(10, limiter.getLimit(), "a single caller never uses enough of the limit to grow it");
+
+        delayMs = 150;
+        for (int i = 0; i < 6; i++) {
+            client.scrape("https://example.com", null);
+        }
+        assertTrue(limiter.getLimit() < 10, "limit " + limiter.getLimit());
+        assertTrue(limiter.getRecentLatency().compareTo(limiter.getBaselineLatency().multipliedBy(2)) > 0);
+    }
+
+    @Test
+    public void otherErrorStatusesAreNotSampled() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(10).build();
+        FirecrawlClient client = client(limiter);
+        delayMs = 60;
+        client.scrape("https://example.com", null);
+        Duration recent = limiter.getRecentLatency();
+        assertTrue(recent.toMillis() >= 50, "recent " + recent.toMillis() + " ms");
+
+        // Fast errors would otherwise pull the averages far below the real latency
+        delayMs = 0;
+        for (int status : new int[]{400, 404, 500}) {
+            this.status = status;
+            assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        }
+        assertEquals(recent, limiter.getRecentLatency());
+        assertEquals(recent, limiter.getBaselineLatency());
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void callsWithoutASlotAreRejectedAfterTheMaximumWait() throws Exception {
+        delayMs = 400;
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxWait(Duration.ofMillis(50))
+                .build();
+        FirecrawlClient client = client(limiter);
+
+        CompletableFuture<FirecrawlDocument> first = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> second = client.scrapeAsync("https://example.com", null);
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        ConcurrencyLimitExceededException rejected = assertInstanceOf(ConcurrencyLimitExceededException.class, ex.getCause());
+        assertEquals(1, rejected.getLimit());
+        assertThrows(ConcurrencyLimitExceededException.class, () -> client.scrape("https://example.com", null));
+
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals(2, limiter.getRejections());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    public void cancelledWaitersGiveUpTheirPlace() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+
+        CompletableFuture<Void> running = limiter.acquireAsync();
+        assertTrue(running.isDone());
+        CompletableFuture<Void> queued = limiter.acquireAsync();
+        assertEquals(1, limiter.getQueued());
+        queued.cancel(true);
+        assertEquals(0, limiter.getQueued());
+
+        Thread blocked = new Thread(() -> assertThrows(InterruptedIOException.class, limiter::acquire));
+        blocked.start();
+        while (limiter.getQueued() == 0) {
+            Thread.sleep(5);
+        }
+        blocked.interrupt();
+        blocked.join();
+
+        limiter.release();
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.acquireAsync().isDone());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    private FirecrawlClient client(ConcurrencyLimiter limiter) {
+        return server.clientBuilder()
+                .maxRequestsPerHost(32)
+                .retryPolicy(RetryPolicy.none())
+                .concurrencyLimiter(limiter)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.UncheckedFirecrawlException;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrawlDocumentsV2Test {
+    private MockApiServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        // Five documents over four pages of two, two, none and one; cursors point at the public host
+        server.handle("/v2/crawl/job-1", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            requests.add(query == null ? "" : query);
+            int skip = query != null ? Integer.parseInt(query.substring("skip=".length())) : 0;
+            String data;
+            String next;
+            switch (skip) {
+                case 0: data = document(0) + "," + document(1); next = "2"; break;
+                case 2: data = document(2) + "," + document(3); next = "4"; break;
+                case 4: data = ""; next = "5"; break;
+                default: data = document(4); next = null;
+            }
+            String cursor = next != null ? ",\"next\":\"https://api.firecrawl.dev/v2/crawl/job-1?skip=" + next + "\"" : "";
+            respond(exchange, "{\"success\":true,\"status\":\"completed\",\"data\":[" + data + "]" + cursor + "}");
+        });
+        server.handle("/v2/crawl/job-2", exchange -> respond(exchange, "{\"success\":true,\"status\":\"completed\","
+                + "\"data\":[" + document(0) + "],\"next\":\"https://api.firecrawl.dev/v2/other?skip=1\"}"));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void documentsFollowEveryPageLazily() throws Exception {
+        FirecrawlClient client = client();
+        CrawlStatusResponse first = client.getCrawlStatus("job-1");
+        assertEquals(1, requests.size());
+
+        Iterator<FirecrawlDocument> documents = client.crawlDocuments(first).iterator();
+        assertEquals("# 0", documents.next().getMarkdown());
+        assertEquals("# 1", documents.next().getMarkdown());
+        assertEquals(1, requests.size());
+        assertEquals("# 2", documents.next().getMarkdown());
+        assertEquals(2, requests.size());
+
+        List<String> rest = new ArrayList<>();
+        documents.forEachRemaining(document -> rest.add(document.getMarkdown()));
+        assertEquals(List.of("# 3", "# 4"), rest);
+        assertEquals(List.of("", "skip=2", "skip=4", "skip=5"), requests);
+        assertFalse(documents.hasNext());
+    }
+
+    @Test
+    public void documentsOfAJobAreFetchedWhenIterationStarts() {
+        FirecrawlClient client = client();
+        Iterable<FirecrawlDocument> documents = client.crawlDocuments("job-1");
+        assertTrue(requests.isEmpty());
+
+        int count = 0;
+        for (FirecrawlDocument ignored : documents) {
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals(4, requests.size());
+    }
+
+    @Test
+    public void streamFetchesOnlyThePagesItConsumes() {
+        List<String> markdown = client().crawlDocumentStream("job-1")
+                .limit(3)
+                .map(FirecrawlDocument::getMarkdown)
+                .collect(Collectors.toList());
+        assertEquals(List.of("# 0", "# 1", "# 2"), markdown);
+        assertEquals(List.of("", "skip=2"), requests);
+    }
+
+    @Test
+    public void cursorsOutsideTheCrawlEndpointAreRejected() {
+        FirecrawlClient client = client();
+        assertThrows(FirecrawlException.class, () -> client.getCrawlStatusPage("https://api.firecrawl.dev/v2/scrape?skip=1"));
+
+        Iterator<FirecrawlDocument> documents = client.crawlDocuments("job-2").iterator();
+        assertEquals("# 0", documents.next().getMarkdown());
+        assertThrows(UncheckedFirecrawlException.class, documents::hasNext);
+        assertEquals(List.of(), requests);
+    }
+
+    private FirecrawlClient client() {
+        return server.client();
+    }
+
+    private static String document(int index) {
+        return "{\"markdown\":\"# " + index + "\"}";
+    }
+}
@@ -0,0 +1,129 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.CrawlJobMonitor;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.CrawlStatusResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrawlJobMonitorV2Test {
+    private MockApiServer server;
+    private final ConcurrentHashMap<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        // Job "done-N" completes on its Nth poll, "forever" keeps running and "missing" does not exist
+        server.handle("/v2/crawl/", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(5);
+                String id = exchange.getRequestURI().getPath().substring("/v2/crawl/".length());
+                int poll = polls.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                if (id.equals("missing")) {
+                    respond(exchange, 404, "{\"success\":false,\"error\":\"Crawl job not found\"}");
+                    return;
+                }
+                boolean done = id.startsWith("done-") && poll >= Integer.parseInt(id.substring(id.lastIndexOf('-') + 1));
+                respond(exchange, 200, "{\"success\":true,\"status\":\"" + (done ? "completed" : "running")
+                        + "\",\"data\":[{\"markdown\":\"" + id + "\"}]}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void manyJobsCompleteWithBoundedConcurrentPolls() throws Exception {
+        try (CrawlJobMonitor monitor = monitor(4)) {
+            List<CompletableFuture<CrawlStatusResponse>> futures = new ArrayList<>();
+            int expectedPolls = 0;
+            for (int i = 0; i < 200; i++) {
+                futures.add(monitor.add("done-" + i + "-" + (1 + i % 3)));
+                expectedPolls += 1 + i % 3;
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                CrawlStatusResponse status = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertTrue(status.isCompleted());
+                assertEquals("done-" + i + "-" + (1 + i % 3), status.getData()[0].getMarkdown());
+            }
+            assertTrue(maxInFlight.get() <= 4, "at most 4 polls may be in flight");
+            assertEquals(expectedPolls, monitor.getPolls());
+            assertEquals(0, monitor.getJobCount());
+        }
+    }
+
+    @Test
+    public void jobsCanBeRemovedAtRuntime() throws Exception {
+        try (CrawlJobMonitor monitor = monitor(8)) {
+            CompletableFuture<CrawlStatusResponse> forever = monitor.add("forever");
+            assertSame(forever, monitor.add("forever"));
+            CompletableFuture<CrawlStatusResponse> other = monitor.add("done-x-2");
+            assertEquals(2, monitor.getJobCount());
+
+            Thread.sleep(100);
+            assertTrue(monitor.remove("forever"));
+            assertFalse(monitor.remove("forever"));
+            assertThrows(CancellationException.class, forever::join);
+            assertTrue(other.get(5, TimeUnit.SECONDS).isCompleted());
+
+            int pollsAfterRemoval = polls.get("forever").get();
+            Thread.sleep(100);
+            assertTrue(polls.get("forever").get() <= pollsAfterRemoval + 1);
+            assertEquals(0, monitor.getJobCount());
+        }
+    }
+
+    @Test
+    public void failedPollsFailTheJob() {
+        try (CrawlJobMonitor monitor = monitor(8)) {
+            ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> monitor.add("missing").get(5, TimeUnit.SECONDS));
+            assertInstanceOf(FirecrawlException.class, error.getCause());
+        }
+    }
+
+    @Test
+    public void closingCancelsTrackedJobs() {
+        CrawlJobMonitor monitor = monitor(8);
+        CompletableFuture<CrawlStatusResponse> forever = monitor.add("forever");
+        monitor.close();
+        assertTrue(forever.isCancelled());
+        assertThrows(IllegalStateException.class, () -> monitor.add("forever"));
+    }
+
+    private CrawlJobMonitor monitor(int maxConcurrentPolls) {
+        FirecrawlClient client = server.clientBuilder()
+                .build();
+        return CrawlJobMonitor.builder(client)
+                .pollInterval(Duration.ofMillis(20))
+                .maxConcurrentPolls(maxConcurrentPolls)
+                .build();
+    }
+}
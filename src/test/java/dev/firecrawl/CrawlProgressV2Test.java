@@ -0,0 +1,121 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.CrawlProgress;
+import dev.firecrawl.model.CrawlStatusResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrawlProgressV2Test {
+    // Documents the document adapter cannot read: a poll that parses them fails
+    private static final String UNREADABLE_PAGE = "[{\"markdown\":{\"not\":\"a string\"}},{\"markdown\":[1,2,3]}]";
+
+    private MockApiServer server;
+    private final AtomicInteger statusCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/crawl", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                exchange.getRequestBody().readAllBytes();
+                respond(exchange, "{\"success\":true,\"id\":\"job-1\"}");
+                return;
+            }
+            int call = statusCalls.incrementAndGet();
+            if (call <= 2) {
+                respond(exchange, "{\"success\":true,\"status\":\"running\",\"completed\":" + call
+                        + ",\"total\":10,\"creditsUsed\":" + call + ",\"data\":" + UNREADABLE_PAGE + "}");
+            } else if (call == 3) {
+                respond(exchange, "{\"success\":true,\"status\":\"completed\",\"completed\":10,\"total\":10,\"data\":"
+                        + UNREADABLE_PAGE + "}");
+            } else {
+                respond(exchange, "{\"success\":true,\"status\":\"completed\",\"completed\":10,\"total\":10,"
+                        + "\"data\":[{\"markdown\":\"page\"}]}");
+            }
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void progressSkipsTheDocumentPage() throws Exception {
+        FirecrawlClient client = client(false);
+        CrawlProgress progress = client.getCrawlProgress("job-1");
+        assertTrue(progress.isRunning());
+        assertEquals(1, progress.getCompleted());
+        assertEquals(10, progress.getTotal());
+        assertEquals(1, progress.getCreditsUsed());
+
+        progress = client.getCrawlProgressAsync("job-1").get(5, TimeUnit.SECONDS);
+        assertEquals(2, progress.getCompleted());
+    }
+
+    @Test
+    public void statusOnlyPollingFetchesDocumentsOnceDone() throws Exception {
+        CrawlStatusResponse status = client(true).crawl("https://example.com", null, 0);
+        assertTrue(status.isCompleted());
+        assertEquals("page", status.getData()[0].getMarkdown());
+        assertEquals(4, statusCalls.get());
+    }
+
+    @Test
+    public void asyncStatusOnlyPollingFetchesDocumentsOnceDone() throws Exception {
+        CrawlStatusResponse status = client(true).crawlAsync("https://example.com", null, 0).get(5, TimeUnit.SECONDS);
+        assertEquals("page", status.getData()[0].getMarkdown());
+        assertEquals(4, statusCalls.get());
+    }
+
+    @Test
+    public void coalescedProgressAndStatusChecksDoNotShareResults() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (MockApiServer slow = MockApiServer.startConcurrent()) {
+            slow.handle("/v2/crawl/job-2", exchange -> {
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, "{\"success\":true,\"status\":\"running\",\"completed\":3,\"total\":10,"
+                        + "\"data\":[{\"markdown\":\"page\"}]}");
+            });
+            FirecrawlClient client = slow.clientBuilder()
+                    .coalesceRequests(true)
+                    .build();
+
+            CompletableFuture<CrawlProgress> progress = client.getCrawlProgressAsync("job-2");
+            CompletableFuture<CrawlStatusResponse> status = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return client.getCrawlStatus("job-2");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            CompletableFuture<CrawlProgress> progressAgain = client.getCrawlProgressAsync("job-2");
+
+            assertEquals(3, progress.get(5, TimeUnit.SECONDS).getCompleted());
+            assertEquals("page", status.get(5, TimeUnit.SECONDS).getData()[0].getMarkdown());
+            assertSame(progress.get(), progressAgain.get(5, TimeUnit.SECONDS));
+            assertEquals(2, calls.get());
+        }
+    }
+
+    private FirecrawlClient client(boolean statusOnlyPolling) {
+        return server.clientBuilder()
+                .statusOnlyPolling(statusOnlyPolling)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrawlWatchV2Test {
+    private static final int DOCUMENTS = 10;
+    private static final int PAGE_SIZE = 2;
+
+    private MockApiServer server;
+    private final AtomicInteger polls = new AtomicInteger();
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        // Three more documents are crawled before every poll; pages hold two documents
+        server.handle("/v2/crawl/job-1", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            queries.add(query == null ? "" : query);
+            int available = Math.min(3 * polls.incrementAndGet(), DOCUMENTS);
+            int skip = query != null ? Integer.parseInt(query.substring("skip=".length())) : 0;
+            int to = Math.min(skip + PAGE_SIZE, available);
+            List<String> data = new ArrayList<>();
+            for (int i = skip; i < to; i++) {
+                data.add("{\"markdown\":\"# " + i + "\"}");
+            }
+            String next = to < available ? ",\"next\":\"https://api.firecrawl.dev/v2/crawl/job-1?skip=" + to + "\"" : "";
+            String status = available == DOCUMENTS ? "completed" : "running";
+            respond(exchange, "{\"success\":true,\"status\":\"" + status + "\",\"completed\":" + available
+                    + ",\"data\":[" + String.join(",", data) + "]" + next + "}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void documentsAreDeliveredOnceWhileTheCrawlRuns() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        List<Integer> pollsAtDelivery = new ArrayList<>();
+        CrawlStatusResponse last = client().watchCrawl("job-1", documents -> {
+            for (FirecrawlDocument document : documents) {
+                delivered.add(document.getMarkdown());
+            }
+            pollsAtDelivery.add(polls.get());
+        }, 0);
+
+        assertTrue(last.isCompleted());
+        assertEquals(expected(), delivered);
+        // The first documents arrived long before the crawl finished
+        assertEquals(1, pollsAtDelivery.get(0));
+        assertEquals("", queries.get(0));
+        assertEquals("skip=2", queries.get(1));
+    }
+
+    @Test
+    public void asyncWatchDeliversEveryDocumentInOrder() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CrawlStatusResponse last = client().watchCrawlAsync("job-1", documents -> {
+            for (FirecrawlDocument document : documents) {
+                delivered.add(document.getMarkdown());
+            }
+        }, 0).get(5, TimeUnit.SECONDS);
+
+        assertTrue(last.isCompleted());
+        assertEquals(expected(), delivered);
+    }
+
+    @Test
+    public void consumerFailureStopsPolling() {
+        ExecutionException error = assertThrows(ExecutionException.class, () -> client().watchCrawlAsync("job-1", documents -> {
+            throw new IllegalStateException("index unavailable");
+        }, 0).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(1, polls.get());
+
+        assertThrows(IllegalStateException.class, () -> client().watchCrawl("job-1", documents -> {
+            throw new IllegalStateException("index unavailable");
+        }, 0));
+        assertEquals(2, polls.get());
+    }
+
+    private FirecrawlClient client() {
+        return server.client();
+    }
+
+    private static List<String> expected() {
+        List<String> markdown = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            markdown.add("# " + i);
+        }
+        return markdown;
+    }
+}
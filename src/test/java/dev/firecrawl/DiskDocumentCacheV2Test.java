@@ -0,0 +1,190 @@
+package dev.firecrawl;
+
+import com.google.gson.Gson;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
+import dev.firecrawl.util.DiskDocumentCache;
+import dev.firecrawl.util.DocumentCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiskDocumentCacheV2Test {
+    private static final Gson GSON = ModelTypeAdapterFactory.newGsonBuilder().create();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void restartedClientServesEarlierScrapesFromDisk() throws Exception {
+        AtomicInteger scrapeCalls = new AtomicInteger();
+        try (MockApiServer server = MockApiServer.start()) {
+            server.handle("/v2/scrape", exchange -> {
+                scrapeCalls.incrementAndGet();
+                exchange.getRequestBody().readAllBytes();
+                MockApiServer.respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"# Title\",\"links\":[\"https://example.com/a\"],"
+                        + "\"metadata\":{\"title\":\"Example\"}}}");
+            });
+            FirecrawlDocument scraped;
+            try (DiskDocumentCache disk = disk().build()) {
+                scraped = client(server, disk).scrape("https://example.com", null);
+            }
+            try (DiskDocumentCache disk = disk().build()) {
+                FirecrawlDocument restored = client(server, disk).scrape("https://example.com", null);
+                assertEquals(scraped, restored);
+                assertEquals("Example", restored.getMetadata().get("title"));
+                assertEquals(1, disk.getHits());
+            }
+            assertEquals(1, scrapeCalls.get());
+        }
+    }
+
+    @Test
+    public void compactionKeepsOnlyLatestRecords() throws Exception {
+        try (DiskDocumentCache disk = disk().segmentSize(4096).build()) {
+            DocumentCache cache = DocumentCache.builder().diskCache(disk).build();
+            for (int round = 0; round < 5; round++) {
+                for (int key = 0; key < 3; key++) {
+                    cache.put("key-" + key, null, document(key + "/" + round));
+                }
+            }
+            int before = disk.getSegmentCount();
+            assertTrue(before >= 4);
+
+            disk.compact();
+            assertTrue(disk.getCompactions() > 0);
+            assertTrue(disk.getSegmentCount() < before);
+            assertEquals(3, disk.getSize());
+            for (int key = 0; key < 3; key++) {
+                assertEquals(text(key + "/4"), fromDisk(disk, "key-" + key).getMarkdown());
+            }
+        }
+        try (DiskDocumentCache disk = disk().segmentSize(4096).build()) {
+            assertEquals(3, disk.getSize());
+            assertEquals(text("2/4"), fromDisk(disk, "key-2").getMarkdown());
+        }
+    }
+
+    @Test
+    public void writesDuringCompactionAreKept() throws Exception {
+        try (DiskDocumentCache disk = disk().segmentSize(4096).build()) {
+            DocumentCache cache = DocumentCache.builder().diskCache(disk).build();
+            for (int round = 0; round < 5; round++) {
+                for (int key = 0; key < 3; key++) {
+                    cache.put("key-" + key, null, document(key + "/" + round));
+                }
+            }
+            Thread writer = new Thread(() -> {
+                for (int round = 5; round < 50; round++) {
+                    for (int key = 0; key < 3; key++) {
+                        cache.put("key-" + key, null, document(key + "/" + round));
+                    }
+                }
+            });
+            writer.start();
+            while (writer.isAlive()) {
+                disk.compact();
+            }
+            writer.join();
+            disk.compact();
+
+            assertEquals(3, disk.getSize());
+            for (int key = 0; key < 3; key++) {
+                assertEquals(text(key + "/49"), fromDisk(disk, "key-" + key).getMarkdown());
+            }
+        }
+    }
+
+    @Test
+    public void oldestSegmentIsDroppedBeyondMaximumSize() throws Exception {
+        try (DiskDocumentCache disk = disk().segmentSize(4096).maximumSize(8192).build()) {
+            DocumentCache cache = DocumentCache.builder().diskCache(disk).build();
+            for (int key = 0; key < 12; key++) {
+                cache.put("key-" + key, null, document(String.valueOf(key)));
+            }
+            assertEquals(2, disk.getSegmentCount());
+            assertNull(fromDisk(disk, "key-0"));
+            assertEquals(text("11"), fromDisk(disk, "key-11").getMarkdown());
+        }
+    }
+
+    @Test
+    public void expiredRecordHidesEarlierRecordAfterRestart() throws Exception {
+        try (DiskDocumentCache disk = disk().build()) {
+            DocumentCache.builder().diskCache(disk).defaultMaxAge(Duration.ofHours(1)).build()
+                    .put("key", null, document("old"));
+            DocumentCache.builder().diskCache(disk).defaultMaxAge(Duration.ofMillis(50)).build()
+                    .put("key", null, document("new"));
+        }
+        Thread.sleep(100);
+        try (DiskDocumentCache disk = disk().build()) {
+            assertNull(fromDisk(disk, "key"));
+            assertEquals(0, disk.getSize());
+        }
+    }
+
+    @Test
+    public void tornRecordIsNotServedAfterRestart() throws Exception {
+        try (DiskDocumentCache disk = disk().build()) {
+            DocumentCache cache = DocumentCache.builder().diskCache(disk).build();
+            cache.put("intact", null, document("intact"));
+            cache.put("torn", null, document("torn"));
+        }
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("segment-1.dat").toFile(), "rw")) {
+            // Flip a byte inside the second record
+            long position = 1200 + 200;
+            segment.seek(position);
+            int b = segment.read();
+            segment.seek(position);
+            segment.write(b ^ 0xff);
+        }
+        try (DiskDocumentCache disk = disk().build()) {
+            assertEquals(text("intact"), fromDisk(disk, "intact").getMarkdown());
+            assertNull(fromDisk(disk, "torn"));
+        }
+    }
+
+    @Test
+    public void directoryIsLockedWhileOpen() throws Exception {
+        try (DiskDocumentCache ignored = disk().build()) {
+            assertThrows(IOException.class, () -> disk().build());
+        }
+        disk().build().close();
+    }
+
+    private DiskDocumentCache.Builder disk() {
+        return DiskDocumentCache.builder(directory)
+                .segmentSize(1024 * 1024)
+                .compactionInterval(Duration.ZERO);
+    }
+
+    private static FirecrawlClient client(MockApiServer server, DiskDocumentCache disk) {
+        return server.clientBuilder()
+                .documentCache(DocumentCache.builder().diskCache(disk).build())
+                .build();
+    }
+
+    private static FirecrawlDocument fromDisk(DiskDocumentCache disk, String key) {
+        // A new memory tier, so that the lookup goes to disk
+        return DocumentCache.builder().diskCache(disk).build().get(key, null, () -> null);
+    }
+
+    /**
+     * Returns a document of about 1.1 KB on disk.
+     */
+    private static FirecrawlDocument document(String id) {
+        return GSON.fromJson("{\"markdown\":\"" + text(id) + "\"}", FirecrawlDocument.class);
+    }
+
+    private static String text(String id) {
+        return id + ":" + "x".repeat(1000);
+    }
+}
@@ -0,0 +1,138 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.DocumentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DocumentCacheV2Test {
+    private static final Pattern URL = Pattern.compile("\"url\":\"([^\"]+)\"");
+
+    private MockApiServer server;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", exchange -> {
+            int call = scrapeCalls.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher url = URL.matcher(body);
+            String target = url.find() ? url.group(1) : "";
+            // Pages under /big/ carry about 20 KB of raw HTML
+            String rawHtml = target.contains("/big/") ? "x".repeat(10_000) : "";
+            respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"v" + call + "\",\"rawHtml\":\"" + rawHtml + "\"}}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void repeatedScrapesAreServedFromTheCache() throws Exception {
+        DocumentCache cache = DocumentCache.builder().build();
+        FirecrawlClient client = client(cache);
+
+        FirecrawlDocument first = client.scrape("https://example.com", null);
+        assertSame(first, client.scrape("https://example.com", null));
+        assertSame(first, client.scrapeAsync("https://example.com", null).get(5, TimeUnit.SECONDS));
+        assertEquals(1, scrapeCalls.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getSize());
+
+        // Other parameters are another entry, while maxAge is not part of the key
+        client.scrape("https://example.com", new ScrapeParams().setOnlyMainContent(true));
+        assertEquals(2, scrapeCalls.get());
+        assertSame(first, client.scrape("https://example.com", new ScrapeParams().setMaxAge(60_000)));
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void maxAgeOfTheRequestDecidesFreshness() throws Exception {
+        DocumentCache cache = DocumentCache.builder().build();
+        FirecrawlClient client = client(cache);
+        client.scrape("https://example.com", null);
+        Thread.sleep(60);
+
+        assertEquals("v2", client.scrape("https://example.com", new ScrapeParams().setMaxAge(50)).getMarkdown());
+        assertEquals("v2", client.scrape("https://example.com", new ScrapeParams().setMaxAge(60_000)).getMarkdown());
+        assertEquals("v3", client.scrape("https://example.com", new ScrapeParams().setMaxAge(0)).getMarkdown());
+        assertEquals("v4", client.scrape("https://example.com", new ScrapeParams().setStoreInCache(false)).getMarkdown());
+        assertEquals("v2", client.scrape("https://example.com", null).getMarkdown());
+        assertEquals(4, scrapeCalls.get());
+    }
+
+    @Test
+    public void evictsByWeightInLeastRecentlyUsedOrder() throws Exception {
+        DocumentCache cache = DocumentCache.builder().maximumWeight(50_000).concurrencyLevel(1).build();
+        FirecrawlClient client = client(cache);
+
+        client.scrape("https://example.com/big/1", null);
+        client.scrape("https://example.com/big/2", null);
+        client.scrape("https://example.com/big/1", null);
+        assertEquals(2, scrapeCalls.get());
+        assertTrue(cache.getWeight() > 40_000);
+
+        // The third large page pushes out the least recently used one
+        client.scrape("https://example.com/big/3", null);
+        assertEquals(1, cache.getEvictions());
+        client.scrape("https://example.com/big/1", null);
+        assertEquals(3, scrapeCalls.get());
+        client.scrape("https://example.com/big/2", null);
+        assertEquals(4, scrapeCalls.get());
+
+        // Many small pages fit where two large ones did
+        for (int i = 0; i < 20; i++) {
+            client.scrape("https://example.com/small/" + i, null);
+        }
+        assertTrue(cache.getSize() >= 20);
+    }
+
+    @Test
+    public void staleDocumentIsServedWhileRevalidating() throws Exception {
+        DocumentCache cache = DocumentCache.builder()
+                .defaultMaxAge(Duration.ofMillis(200))
+                .staleWhileRevalidate(Duration.ofSeconds(30))
+                .build();
+        FirecrawlClient client = client(cache);
+        assertEquals("v1", client.scrape("https://example.com", null).getMarkdown());
+        Thread.sleep(250);
+
+        long start = System.nanoTime();
+        assertEquals("v1", client.scrape("https://example.com", null).getMarkdown());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"v2".equals(client.scrape("https://example.com", null).getMarkdown())
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("v2", client.scrape("https://example.com", null).getMarkdown());
+        assertEquals(2, scrapeCalls.get());
+        assertEquals(1, cache.getRefreshes());
+        assertTrue(cache.getStaleHits() >= 1);
+    }
+
+    private FirecrawlClient client(DocumentCache cache) {
+        return server.clientBuilder()
+                .documentCache(cache)
+                .build();
+    }
+}
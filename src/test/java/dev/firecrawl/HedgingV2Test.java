@@ -0,0 +1,153 @@
+package dev.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.SearchParams;
+import dev.firecrawl.model.SearchResponse;
+import dev.firecrawl.util.ConcurrencyLimiter;
+import dev.firecrawl.util.RequestHedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HedgingV2Test {
+    private static final long STUCK_MS = 800;
+
+    private MockApiServer server;
+    private final AtomicInteger arrivals = new AtomicInteger();
+    private final Set<Integer> stuck = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        server.handle("/v2/scrape", exchange ->
+                respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}"));
+        server.handle("/v2/search", exchange ->
+                respond(exchange, "{\"success\":true,\"data\":{\"web\":[{\"url\":\"https://example.com\"}]}}"));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void stuckScrapeIsHedgedAndTheLoserCancelled() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(8).build();
+        RequestHedger hedger = RequestHedger.builder().minSamples(5).build();
+        FirecrawlClient client = client(hedger, limiter);
+        warmUp(client, 5);
+        assertNotNull(hedger.getDelay("/v2/scrape"));
+        stuck.add(6);
+
+        long start = System.nanoTime();
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < STUCK_MS / 2);
+        assertEquals(7, arrivals.get());
+        assertEquals(1, hedger.getHedges());
+        assertEquals(1, hedger.getHedgedWins());
+
+        // The stuck original no longer holds a slot once it has been cancelled
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STUCK_MS / 2);
+        while (limiter.getInFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void budgetCapsTheExtraLoad() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().minSamples(5).budgetRatio(0.1).maxBudget(1).build();
+        FirecrawlClient client = client(hedger, null);
+        warmUp(client, 5);
+        stuck.add(6);
+        stuck.add(8);
+
+        client.scrape("https://example.com", null);
+        long start = System.nanoTime();
+        client.scrape("https://example.com", null);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= STUCK_MS - 50);
+
+        assertEquals(8, arrivals.get());
+        assertEquals(1, hedger.getHedges());
+        assertEquals(1, hedger.getHedgedWins());
+        assertEquals(1, hedger.getBudgetDenials());
+        assertEquals(7, hedger.getRequests());
+    }
+
+    @Test
+    public void asyncSearchIsHedgedToo() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().minSamples(3).minDelay(Duration.ofMillis(20)).build();
+        FirecrawlClient client = client(hedger, null);
+        for (int i = 0; i < 3; i++) {
+            client.search("java sdk");
+        }
+        stuck.add(4);
+
+        SearchResponse response = client.searchAsync(new SearchParams("java sdk")).get(STUCK_MS / 2, TimeUnit.MILLISECONDS);
+        assertEquals("https://example.com", response.getResults().get(0).getUrl());
+        assertEquals(1, hedger.getHedgedWins());
+    }
+
+    @Test
+    public void waitingForARateLimitPermitIsNotLatency() throws Exception {
+        // The median leaves out the first call, which also pays for connecting
+        RequestHedger hedger = RequestHedger.builder().minSamples(5).percentile(0.5).build();
+        FirecrawlClient client = server.clientBuilder()
+                .hedging(hedger)
+                .rateLimit("/v2/scrape", 5, Duration.ofSeconds(1), 1)
+                .build();
+
+        // Every call after the first waits about 200 ms for its permit
+        long start = System.nanoTime();
+        warmUp(client, 6);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 950);
+        assertTrue(hedger.getDelay("/v2/scrape").toMillis() < 100, "delay " + hedger.getDelay("/v2/scrape"));
+        assertEquals(6, arrivals.get());
+    }
+
+    @Test
+    public void noHedgingUntilEnoughSamples() throws Exception {
+        RequestHedger hedger = RequestHedger.builder().minSamples(5).build();
+        FirecrawlClient client = client(hedger, null);
+        stuck.add(1);
+
+        client.scrape("https://example.com", null);
+        assertNull(hedger.getDelay("/v2/scrape"));
+        assertEquals(1, arrivals.get());
+        assertEquals(0, hedger.getHedges());
+    }
+
+    private void warmUp(FirecrawlClient client, int calls) throws Exception {
+        for (int i = 0; i < calls; i++) {
+            client.scrape("https://example.com", null);
+        }
+    }
+
+    private FirecrawlClient client(RequestHedger hedger, ConcurrencyLimiter limiter) {
+        return server.clientBuilder()
+                .hedging(hedger)
+                .concurrencyLimiter(limiter)
+                .build();
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        int arrival = arrivals.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(stuck.contains(arrival) ? STUCK_MS : 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        MockApiServer.respondQuietly(exchange, json);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.firecrawl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.MapResponse;
+import dev.firecrawl.model.ScrapeResponse;
+import dev.firecrawl.model.SearchResponse;
+import dev.firecrawl.util.GsonJsonCodec;
+import dev.firecrawl.util.JsonCodec;
+import dev.firecrawl.util.jackson.JacksonJsonCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonCodecV2Test {
+    private static final Gson REFLECTIVE = new Gson();
+    private static final JsonCodec GSON = new GsonJsonCodec();
+    private static final JsonCodec JACKSON = new JacksonJsonCodec();
+
+    private static final String DOCUMENT = "{" +
+            "\"markdown\":\"# Title\",\"html\":\"<h1>Title</h1>\",\"links\":[\"https://a.com\"]," +
+            "\"actions\":{\"javascriptReturns\":[{\"type\":\"number\",\"value\":42}],\"scrapes\":[{\"url\":\"https://x.com\"}]}," +
+            "\"changeTracking\":{\"changeStatus\":\"same\",\"json\":{\"price\":1.50}}," +
+            "\"metadata\":{\"statusCode\":200,\"ogImage\":[\"i.png\"],\"nested\":{\"k\":null}},\"extra\":[1,2]" +
+            "}";
+
+    @Test
+    public void jacksonDecodesModelsLikeGson() throws IOException {
+        assertSameDecode("{\"success\":true,\"status\":\"completed\",\"next\":null,\"total\":1,\"data\":["
+                + DOCUMENT + ",null]}", CrawlStatusResponse.class);
+        assertSameDecode("{\"success\":true,\"warning\":\"w\",\"data\":" + DOCUMENT + "}", ScrapeResponse.class);
+        assertSameDecode("{\"success\":true,\"links\":[\"https://a.com\",{\"url\":\"https://b.com\"}]}", MapResponse.class);
+        assertSameDecode("{\"success\":true,\"data\":{\"web\":[{\"url\":\"https://a.com\",\"price\":2.50," +
+                "\"metadata\":{\"statusCode\":404}}]}}", SearchResponse.class);
+        assertSameDecode("{\"id\":\"job\",\"n\":1,\"f\":1.25,\"list\":[true,null]}", JsonObject.class);
+
+        SearchResponse search = decode(JACKSON, "{\"success\":true,\"data\":{\"web\":[{\"url\":\"https://a.com\"," +
+                "\"metadata\":{\"statusCode\":404}}]}}", SearchResponse.class);
+        assertEquals(404, search.getResults().get(0).getMetadata().getStatusCode());
+
+        ScrapeResponse scrape = decode(JACKSON, "{\"data\":" + DOCUMENT + "}", ScrapeResponse.class);
+        assertEquals(200.0, scrape.getData().getMetadata().get("statusCode"));
+    }
+
+    @Test
+    public void codecsRoundTripTheirOwnOutput() throws IOException {
+        String json = "{\"success\":true,\"status\":\"scraping\",\"data\":[" + DOCUMENT + "]}";
+        for (JsonCodec codec : new JsonCodec[]{GSON, JACKSON}) {
+            CrawlStatusResponse decoded = decode(codec, json, CrawlStatusResponse.class);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            codec.encode(decoded, CrawlStatusResponse.class, out);
+            CrawlStatusResponse again = decode(codec, out.toString(StandardCharsets.UTF_8), CrawlStatusResponse.class);
+            assertEquals(REFLECTIVE.toJson(decoded), REFLECTIVE.toJson(again));
+        }
+    }
+
+    @Test
+    public void clientDecodesResponsesAndErrorsWithConfiguredCodec() throws Exception {
+        try (MockApiServer server = MockApiServer.start()) {
+            server.handle("/v2/scrape", exchange -> {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                if (body.contains("bad.example")) {
+                    respond(exchange, 400, "{\"success\":false,\"error\":\"Invalid URL\"}");
+                } else {
+                    respond(exchange, 200, "{\"success\":true,\"data\":" + DOCUMENT + "}");
+                }
+            });
+            FirecrawlClient client = server.clientBuilder()
+                    .jsonCodec(JACKSON)
+                    .build();
+            FirecrawlDocument doc = client.scrape("https://example.com", null);
+            assertEquals("# Title", doc.getMarkdown());
+            assertEquals(42.0, doc.getActions().getJavascriptReturns()[0].getValue());
+
+            FirecrawlException ex = assertThrows(FirecrawlException.class, () -> client.scrape("https://bad.example", null));
+            assertInstanceOf(ApiException.class, ex.getCause());
+            assertTrue(ex.getMessage().contains("Invalid URL"), ex.getMessage());
+        }
+    }
+
+    private static void assertSameDecode(String json, Type type) throws IOException {
+        Object fromGson = decode(GSON, json, type);
+        Object fromJackson = decode(JACKSON, json, type);
+        assertEquals(REFLECTIVE.toJson(fromGson), REFLECTIVE.toJson(fromJackson), "mismatch for " + type.getTypeName());
+    }
+
+    private static <T> T decode(JsonCodec codec, String json, Type type) throws IOException {
+        return codec.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), type);
+    }
+}
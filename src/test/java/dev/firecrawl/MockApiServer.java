@@ -0,0 +1,114 @@
+package dev.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import dev.firecrawl.client.FirecrawlClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local stand-in for the Firecrawl API: an {@link HttpServer} on a free loopback port, with
+ * helpers to write JSON responses and to build clients pointing at it.
+ */
+final class MockApiServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MockApiServer(ExecutorService executor) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = executor;
+        if (executor != null) {
+            server.setExecutor(executor);
+        }
+        server.start();
+    }
+
+    /**
+     * Starts a server that handles one exchange at a time.
+     */
+    static MockApiServer start() throws IOException {
+        return new MockApiServer(null);
+    }
+
+    /**
+     * Starts a server that handles exchanges concurrently.
+     */
+    static MockApiServer startConcurrent() throws IOException {
+        return new MockApiServer(Executors.newCachedThreadPool());
+    }
+
+    /**
+     * Handles requests whose path starts with {@code path}.
+     */
+    MockApiServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    /**
+     * Returns the base URL of the server, to be used as the client's API URL.
+     */
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns a client builder with a test API key and this server's URL.
+     */
+    FirecrawlClient.Builder clientBuilder() {
+        return FirecrawlClient.builder()
+                .apiKey("test-key")
+                .apiUrl(url());
+    }
+
+    /**
+     * Returns a client with default settings pointing at this server.
+     */
+    FirecrawlClient client() {
+        return clientBuilder().build();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes a 200 response with a JSON body.
+     */
+    static void respond(HttpExchange exchange, String json) throws IOException {
+        respond(exchange, 200, json);
+    }
+
+    /**
+     * Writes a response with a JSON body.
+     */
+    static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Writes a 200 response with a JSON body, ignoring a client that has already gone away.
+     */
+    static void respondQuietly(HttpExchange exchange, String json) {
+        try {
+            respond(exchange, json);
+        } catch (IOException ignored) {
+            // The client cancelled this request
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.firecrawl;
+
+import com.google.gson.Gson;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.model.MapResponse;
+import dev.firecrawl.model.ModelTypeAdapterFactory;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.model.ScrapeResponse;
+import dev.firecrawl.model.SearchResponse;
+import dev.firecrawl.model.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModelAdapterV2Test {
+    private static final Gson REFLECTIVE = new Gson();
+    private static final Gson STREAMING = ModelTypeAdapterFactory.newGsonBuilder().create();
+
+    private static final String DOCUMENT = "{" +
+            "\"markdown\":\"# Title\",\"summary\":null,\"html\":\"<h1>Title</h1>\"," +
+            "\"links\":[\"https://a.com\",\"https://b.com\"]," +
+            "\"actions\":{\"screenshots\":[\"img1\"],\"scrapes\":[{\"url\":\"https://x.com\",\"html\":\"<p>x</p>\"}]," +
+            "\"javascriptReturns\":[{\"type\":\"object\",\"value\":{\"n\":42,\"list\":[1,\"two\",true]}}],\"pdfs\":[]}," +
+            "\"changeTracking\":{\"changeStatus\":\"changed\",\"diff\":\"-a +b\",\"json\":{\"price\":{\"previous\":1,\"current\":2}}}," +
+            "\"metadata\":{\"title\":\"T\",\"statusCode\":200,\"ogImage\":[\"i.png\"],\"nested\":{\"k\":null}}," +
+            "\"unknownField\":{\"ignored\":[1,2,3]}" +
+            "}";
+
+    @Test
+    public void crawlStatusParsesLikeReflection() {
+        String json = "{\"success\":true,\"status\":\"completed\",\"next\":\"https://api/next\",\"warning\":\"slow\"," +
+                "\"total\":3,\"data\":[" + DOCUMENT + ",null,{\"markdown\":\"second\"}]}";
+        assertSameModel(json, CrawlStatusResponse.class);
+    }
+
+    @Test
+    public void scrapeAndMapResponsesParseLikeReflection() {
+        assertSameModel("{\"success\":true,\"data\":" + DOCUMENT + "}", ScrapeResponse.class);
+        assertSameModel("{\"success\":false,\"warning\":\"partial\",\"data\":null}", ScrapeResponse.class);
+        assertSameModel("{\"success\":true,\"links\":[\"https://a.com\",{\"url\":\"https://b.com\",\"title\":\"B\"}]}", MapResponse.class);
+    }
+
+    @Test
+    public void searchResponseParsesLikeReflection() {
+        String json = "{\"success\":true,\"data\":{\"web\":[{\"title\":\"A\",\"url\":\"https://a.com\"," +
+                "\"metadata\":{\"sourceURL\":\"https://a.com\",\"statusCode\":404,\"error\":\"missing\"}}]," +
+                "\"news\":[{\"url\":\"https://n.com\",\"markdown\":\"# News\"}]}}";
+        SearchResponse reflective = REFLECTIVE.fromJson(json, SearchResponse.class);
+        SearchResponse streaming = STREAMING.fromJson(json, SearchResponse.class);
+        assertEquals(REFLECTIVE.toJson(reflective), REFLECTIVE.toJson(streaming));
+        assertEquals(REFLECTIVE.toJson(reflective.getResults()), REFLECTIVE.toJson(streaming.getResults()));
+
+        String result = "{\"title\":\"A\",\"links\":[\"x\"],\"metadata\":{\"statusCode\":null,\"title\":\"M\"}}";
+        assertSameModel(result, SearchResult.class);
+    }
+
+    @Test
+    public void scrapeParamsSerializeIdenticallyToReflection() {
+        Map<String, Object> location = new LinkedHashMap<>();
+        location.put("country", "US");
+        location.put("languages", new String[]{"en"});
+        Map<String, Object> jsonFormat = new LinkedHashMap<>();
+        jsonFormat.put("type", "json");
+        jsonFormat.put("prompt", "extract");
+        ScrapeParams params = new ScrapeParams()
+                .setFormats(new String[]{"markdown", "html"})
+                .setFormatsAny(new Object[]{"markdown", jsonFormat})
+                .setHeaders(Map.of("User-Agent", "test"))
+                .setOnlyMainContent(true)
+                .setWaitFor(500)
+                .setTimeout(30000)
+                .setMaxAge(0)
+                .setLocation(location)
+                .setProxy("stealth");
+
+        assertEquals(REFLECTIVE.toJson(params), STREAMING.toJson(params));
+        assertEquals(REFLECTIVE.toJson(new ScrapeParams()), STREAMING.toJson(new ScrapeParams()));
+
+        String json = REFLECTIVE.toJson(params);
+        assertEquals(REFLECTIVE.toJson(REFLECTIVE.fromJson(json, ScrapeParams.class)),
+                REFLECTIVE.toJson(STREAMING.fromJson(json, ScrapeParams.class)));
+    }
+
+    private static <T> void assertSameModel(String json, Class<T> type) {
+        T reflective = REFLECTIVE.fromJson(json, type);
+        T streaming = STREAMING.fromJson(json, type);
+        String expected = REFLECTIVE.toJson(reflective);
+        assertEquals(expected, REFLECTIVE.toJson(streaming), "parse mismatch for " + type.getSimpleName());
+        assertEquals(expected, STREAMING.toJson(streaming), "write mismatch for " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,144 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.CachedFailureException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.util.NegativeCache;
+import dev.firecrawl.util.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NegativeCacheV2Test {
+    private MockApiServer server;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+    private final AtomicBoolean blocked = new AtomicBoolean(true);
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("blocked.example") && blocked.get()) {
+                respond(exchange, 403, "{\"success\":false,\"error\":\"This website is not supported\"}");
+            } else if (body.contains("flaky.example")) {
+                respond(exchange, 500, "{\"success\":false,\"error\":\"Internal error\"}");
+            } else {
+                respond(exchange, 200, "{\"success\":true,\"data\":{\"markdown\":\"# Hello\"}}");
+            }
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void deterministicFailuresAreRefusedWithoutARequest() throws Exception {
+        NegativeCache cache = NegativeCache.builder().build();
+        FirecrawlClient client = client(cache);
+
+        FirecrawlException first = assertThrows(FirecrawlException.class, () -> client.scrape("https://blocked.example/page", null));
+        assertEquals(1, scrapeCalls.get());
+
+        // Same canonical URL: case of the host, default port and fragment do not matter
+        CachedFailureException cached = assertThrows(CachedFailureException.class,
+                () -> client.scrape("https://BLOCKED.example:443/page#top", null));
+        assertEquals("https://blocked.example/page", cached.getUrl());
+        assertEquals(1, cached.getFailures());
+        assertSame(first, cached.getCause());
+        assertTrue(cached.getRetryAfter().compareTo(Duration.ofMinutes(1)) <= 0);
+
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> client.scrapeAsync("https://blocked.example/page", null).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CachedFailureException.class, async.getCause());
+        assertEquals(1, scrapeCalls.get());
+        assertEquals(2, cache.getShortCircuits());
+
+        client.scrape("https://open.example/page", null);
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void refusalPeriodGrowsWithEachFailure() throws Exception {
+        NegativeCache cache = NegativeCache.builder()
+                .initialTtl(Duration.ofMillis(100))
+                .multiplier(4)
+                .maxTtl(Duration.ofSeconds(10))
+                .build();
+        FirecrawlClient client = client(cache);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://blocked.example", null));
+        Thread.sleep(150);
+
+        // The first period is over, so the URL is tried again and fails a second time
+        ExecutionException second = assertThrows(ExecutionException.class,
+                () -> client.scrapeAsync("https://blocked.example", null).get(5, TimeUnit.SECONDS));
+        assertFalse(second.getCause() instanceof CachedFailureException);
+        assertEquals(2, scrapeCalls.get());
+
+        CachedFailureException cached = assertThrows(CachedFailureException.class,
+                () -> client.scrape("https://blocked.example", null));
+        assertEquals(2, cached.getFailures());
+        assertTrue(cached.getRetryAfter().compareTo(Duration.ofMillis(200)) > 0);
+        assertEquals(2, cache.getRecorded());
+    }
+
+    @Test
+    public void successClearsTheFailureHistory() throws Exception {
+        NegativeCache cache = NegativeCache.builder().initialTtl(Duration.ofMillis(50)).build();
+        FirecrawlClient client = client(cache);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://blocked.example", null));
+        assertEquals(1, cache.getSize());
+        Thread.sleep(100);
+
+        blocked.set(false);
+        assertEquals("# Hello", client.scrape("https://blocked.example", null).getMarkdown());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void transientFailuresAreNotCached() throws Exception {
+        NegativeCache cache = NegativeCache.builder().build();
+        FirecrawlClient client = client(cache);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://flaky.example", null));
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://flaky.example", null));
+        assertEquals(2, scrapeCalls.get());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void classificationIsConfigurable() throws Exception {
+        NegativeCache cache = NegativeCache.builder().statuses(500).build();
+        FirecrawlClient client = client(cache);
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://blocked.example", null));
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://blocked.example", null));
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://flaky.example", null));
+        assertThrows(CachedFailureException.class, () -> client.scrape("https://flaky.example", null));
+        assertEquals(3, scrapeCalls.get());
+
+        NegativeCache none = NegativeCache.builder().deterministic(error -> false).build();
+        assertFalse(none.recordFailure("https://blocked.example", new FirecrawlException("x",
+                new ApiException("Forbidden", 403, "{}"))));
+    }
+
+    private FirecrawlClient client(NegativeCache cache) {
+        return server.clientBuilder()
+                .retryPolicy(RetryPolicy.none())
+                .negativeCache(cache)
+                .build();
+    }
+}
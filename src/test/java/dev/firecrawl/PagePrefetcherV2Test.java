@@ -0,0 +1,127 @@
+package dev.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.util.PagePrefetcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PagePrefetcherV2Test {
+    private static final int DOCUMENTS = 12;
+
+    private MockApiServer server;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.startConcurrent();
+        // Pages of two documents each
+        server.handle("/v2/crawl/even", exchange -> page(exchange, skip -> skip + 2));
+        // Pages of one, two, three, ... documents, so offsets cannot be predicted
+        server.handle("/v2/crawl/uneven", exchange -> page(exchange, skip -> {
+            int size = 1;
+            int start = 0;
+            while (start + size <= skip) {
+                start += size++;
+            }
+            return start + size;
+        }));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void predictableOffsetsAreFetchedInParallelAndInOrder() {
+        PagePrefetcher prefetcher = PagePrefetcher.builder().initialDepth(4).maxDepth(4).build();
+        assertEquals(expected(), read(client(prefetcher).crawlDocuments("even")));
+
+        assertTrue(maxInFlight.get() > 1, "pages ahead should be requested in parallel");
+        assertTrue(maxInFlight.get() <= 4);
+        assertTrue(prefetcher.getPredictedFetches() > 0);
+    }
+
+    @Test
+    public void wrongPredictionsAreDiscarded() {
+        PagePrefetcher prefetcher = PagePrefetcher.builder().initialDepth(3).maxDepth(3).build();
+        assertEquals(expected(), read(client(prefetcher).crawlDocuments("uneven")));
+        assertTrue(prefetcher.getDiscarded() > 0);
+    }
+
+    @Test
+    public void cursorsAreFollowedOneAtATimeWithoutPrediction() {
+        PagePrefetcher prefetcher = PagePrefetcher.builder().maxDepth(4).predictOffsets(false).build();
+        FirecrawlClient client = client(prefetcher);
+        assertEquals(expected(), read(client.crawlDocuments("even")));
+        // Reading again starts from the first page
+        assertEquals(expected(), read(client.crawlDocuments("uneven")));
+
+        assertEquals(1, maxInFlight.get());
+        assertEquals(0, prefetcher.getPredictedFetches());
+        assertTrue(prefetcher.getStalls() > 0);
+    }
+
+    @Test
+    public void depthMustNotExceedTheMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> PagePrefetcher.builder().initialDepth(5).maxDepth(4).build());
+        assertThrows(IllegalArgumentException.class, () -> PagePrefetcher.builder().maxDepth(0));
+    }
+
+    private FirecrawlClient client(PagePrefetcher prefetcher) {
+        return server.clientBuilder()
+                .pagePrefetcher(prefetcher)
+                .build();
+    }
+
+    private static List<String> read(Iterable<FirecrawlDocument> documents) {
+        List<String> markdown = new ArrayList<>();
+        for (FirecrawlDocument document : documents) {
+            markdown.add(document.getMarkdown());
+        }
+        return markdown;
+    }
+
+    private static List<String> expected() {
+        List<String> markdown = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            markdown.add("# " + i);
+        }
+        return markdown;
+    }
+
+    private void page(HttpExchange exchange, java.util.function.IntUnaryOperator end) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(30);
+            String query = exchange.getRequestURI().getQuery();
+            int skip = query != null ? Integer.parseInt(query.substring("skip=".length())) : 0;
+            int to = Math.min(end.applyAsInt(skip), DOCUMENTS);
+            List<String> data = new ArrayList<>();
+            for (int i = skip; i < to; i++) {
+                data.add("{\"markdown\":\"# " + i + "\"}");
+            }
+            String next = to < DOCUMENTS
+                    ? ",\"next\":\"https://api.firecrawl.dev" + exchange.getRequestURI().getPath() + "?skip=" + to + "\""
+                    : "";
+            respond(exchange, "{\"success\":true,\"status\":\"completed\",\"data\":[" + String.join(",", data) + "]" + next + "}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
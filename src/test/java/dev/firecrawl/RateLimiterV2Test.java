@@ -0,0 +1,249 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.exception.RateLimitExceededException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.util.RateLimiter;
+import dev.firecrawl.util.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterV2Test {
+    private MockApiServer server;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            if (failuresLeft.getAndDecrement() > 0) {
+                respond(exchange, 503, "{\"error\":\"unavailable\"}");
+                return;
+            }
+            respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void failFastRefusesCallsBeyondTheBurstWithoutSendingThem() throws Exception {
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 2, Duration.ofMinutes(1))
+                .rateLimitMode(RateLimiter.Mode.FAIL_FAST)
+                .build();
+
+        client.scrape("https://example.com", null);
+        client.scrape("https://example.com", null);
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> client.scrape("https://example.com", null));
+        assertEquals("/v2/scrape", ex.getEndpoint());
+        assertTrue(ex.getRetryAfter().toMillis() > 0);
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void waitModeSpacesCallsAtTheRefillRate() throws Exception {
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 5, Duration.ofSeconds(1), 1)
+                .build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            client.scrape("https://example.com", null);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 380, "elapsed " + elapsedMs + " ms");
+        assertEquals(3, scrapeCalls.get());
+    }
+
+    @Test
+    public void asyncCallsWaitWithoutBlockingAndRespectMaxWait() throws Exception {
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 1, Duration.ofMillis(300))
+                .rateLimitMaxWait(Duration.ofMillis(400))
+                .build();
+
+        long start = System.nanoTime();
+        CompletableFuture<FirecrawlDocument> first = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> second = client.scrapeAsync("https://example.com", null);
+        CompletableFuture<FirecrawlDocument> third = client.scrapeAsync("https://example.com", null);
+        long submitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(submitMs < 250, "submitting blocked for " + submitMs + " ms");
+
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals("ok", second.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 280);
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> third.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RateLimitExceededException.class, ex.getCause());
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void retriesTakeAPermitEach() throws Exception {
+        failuresLeft.set(2);
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 5, Duration.ofSeconds(1), 1)
+                .retryPolicy(retryOn503())
+                .build();
+
+        long start = System.nanoTime();
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 380, "elapsed " + elapsedMs + " ms");
+        assertEquals(3, scrapeCalls.get());
+
+        failuresLeft.set(2);
+        start = System.nanoTime();
+        assertEquals("ok", client.scrapeAsync("https://example.com", null).get(5, TimeUnit.SECONDS).getMarkdown());
+        elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 380, "elapsed " + elapsedMs + " ms");
+        assertEquals(6, scrapeCalls.get());
+    }
+
+    @Test
+    public void refusedRetryReturnsTheLastError() throws Exception {
+        failuresLeft.set(1);
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 1, Duration.ofMinutes(1))
+                .rateLimitMode(RateLimiter.Mode.FAIL_FAST)
+                .retryPolicy(retryOn503())
+                .build();
+
+        FirecrawlException ex = assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(503, assertInstanceOf(ApiException.class, ex.getCause()).getStatusCode());
+        assertEquals(1, scrapeCalls.get());
+    }
+
+    @Test
+    public void retryBeyondTheTimeBudgetTakesNoPermit() throws Exception {
+        failuresLeft.set(1);
+        FirecrawlClient client = server.clientBuilder()
+                .rateLimit("/v2/scrape", 1, Duration.ofMillis(400))
+                .rateLimitMaxWait(Duration.ofSeconds(5))
+                .retryPolicy(RetryPolicy.builder()
+                        .retryOnMethods("POST")
+                        .retryOnStatus(503)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxElapsed(Duration.ofMillis(100))
+                        .build())
+                .build();
+
+        long start = System.nanoTime();
+        FirecrawlException ex = assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(503, assertInstanceOf(ApiException.class, ex.getCause()).getStatusCode());
+        assertEquals(1, scrapeCalls.get());
+
+        // The next call gets the permit the refused retry would have wasted
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs < 700, "elapsed " + elapsedMs + " ms");
+        assertEquals(2, scrapeCalls.get());
+    }
+
+    @Test
+    public void limitsApplyBelowAnApiUrlPrefix() throws Exception {
+        AtomicInteger prefixedCalls = new AtomicInteger();
+        server.handle("/firecrawl/v2/scrape", exchange -> {
+            prefixedCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}");
+        });
+        FirecrawlClient client = server.clientBuilder()
+                .apiUrl(server.url() + "/firecrawl")
+                .rateLimit("/v2/scrape", 1, Duration.ofMinutes(1))
+                .rateLimitMode(RateLimiter.Mode.FAIL_FAST)
+                .build();
+
+        assertEquals("ok", client.scrape("https://example.com", null).getMarkdown());
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> client.scrape("https://example.com", null));
+        assertEquals("/v2/scrape", ex.getEndpoint());
+        assertEquals(1, prefixedCalls.get());
+        assertEquals(0, scrapeCalls.get());
+    }
+
+    @Test
+    public void limitsMatchByLongestPrefixAndCanChangeAtRuntime() {
+        RateLimiter limiter = new RateLimiter(RateLimiter.Mode.FAIL_FAST, Duration.ZERO);
+        limiter.setLimit("/v2/crawl", 1, Duration.ofHours(1));
+        limiter.setLimit("/v2/crawl/special/", 2, Duration.ofHours(1));
+
+        assertTrue(limiter.tryAcquire("/v2/crawl"));
+        assertFalse(limiter.tryAcquire("/v2/crawl/job-1"), "status polls count against /v2/crawl");
+        assertTrue(limiter.tryAcquire("/v2/crawler"), "only whole path segments match");
+        assertTrue(limiter.tryAcquire("/v2/scrape"));
+        assertTrue(limiter.tryAcquire("/v2/crawl/special"));
+        assertTrue(limiter.tryAcquire("/v2/crawl/special/x"));
+        assertFalse(limiter.tryAcquire("/v2/crawl/special/y"));
+
+        limiter.setLimit("/v2/crawl", 100, Duration.ofHours(1));
+        assertFalse(limiter.tryAcquire("/v2/crawl"), "raising a limit keeps permits already used");
+        limiter.setLimit("/v2/crawl", 100, Duration.ofMillis(100));
+        limiter.removeLimit("/v2/crawl");
+        assertTrue(limiter.tryAcquire("/v2/crawl"));
+        assertEquals(1, limiter.getLimits().size());
+        assertEquals(2, limiter.getLimits().get("/v2/crawl/special").getPermits());
+    }
+
+    @Test
+    public void concurrentAcquirersNeverExceedTheBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter(RateLimiter.Mode.FAIL_FAST, Duration.ZERO);
+        limiter.setLimit("/v2/scrape", 100, Duration.ofHours(1));
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 50; i++) {
+                    if (limiter.tryAcquire("/v2/scrape")) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, granted.get());
+    }
+
+    private static RetryPolicy retryOn503() {
+        return RetryPolicy.builder()
+                .retryOnMethods("POST")
+                .retryOnStatus(503)
+                .baseDelay(Duration.ofMillis(1))
+                .jitter(false)
+                .build();
+    }
+}
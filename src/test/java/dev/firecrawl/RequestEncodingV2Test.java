@@ -0,0 +1,146 @@
+package dev.firecrawl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.CrawlParams;
+import dev.firecrawl.model.MapParams;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.model.SearchParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that request bodies written with JsonWriter are byte-identical to the previous
+ * JsonObject-tree encoding.
+ */
+public class RequestEncodingV2Test {
+    private static final Gson GSON = new Gson();
+
+    private MockApiServer server;
+    private FirecrawlClient client;
+    private volatile String lastBody;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/", exchange -> {
+            lastBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String path = exchange.getRequestURI().getPath();
+            String json = path.startsWith("/v2/scrape") ? "{\"success\":true,\"data\":{}}"
+                    : path.startsWith("/v2/map") ? "{\"success\":true,\"links\":[]}"
+                    : path.startsWith("/v2/crawl") ? "{\"success\":true,\"id\":\"job\"}"
+                    : "{\"success\":true,\"data\":[]}";
+            respond(exchange, json);
+        });
+        client = new FirecrawlClient("test-key", server.url(), null);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void scrapeBodyMatchesTreeEncoding() throws Exception {
+        ScrapeParams params = richScrapeParams();
+        client.scrape("https://example.com/?a=1&b=<2>", params);
+
+        JsonObject expected = new JsonObject();
+        expected.addProperty("url", "https://example.com/?a=1&b=<2>");
+        expected.add("formats", GSON.toJsonTree(params.getFormatsAny()));
+        expected.add("headers", GSON.toJsonTree(params.getHeaders()));
+        expected.add("includeTags", GSON.toJsonTree(params.getIncludeTags()));
+        expected.addProperty("onlyMainContent", params.getOnlyMainContent());
+        expected.addProperty("waitFor", params.getWaitFor());
+        expected.add("parsers", GSON.toJsonTree(params.getParsers()));
+        expected.addProperty("timeout", params.getTimeout());
+        expected.addProperty("maxAge", params.getMaxAge());
+        expected.add("actions", GSON.toJsonTree(params.getActions()));
+        expected.add("location", GSON.toJsonTree(params.getLocation()));
+        expected.addProperty("proxy", params.getProxy());
+        expected.addProperty("storeInCache", params.getStoreInCache());
+        assertEquals(GSON.toJson(expected), lastBody);
+    }
+
+    @Test
+    public void searchBodyMatchesTreeEncoding() throws Exception {
+        SearchParams params = new SearchParams("java \"sdk\" & more")
+                .setLimit(5)
+                .setLang("en")
+                .setScrapeOptions(richScrapeParams())
+                .setSources(new String[]{"news"});
+        client.search(params);
+
+        JsonObject expected = new JsonObject();
+        expected.addProperty("query", params.getQuery());
+        expected.addProperty("limit", 5);
+        expected.addProperty("lang", "en");
+        expected.add("scrapeOptions", GSON.toJsonTree(params.getScrapeOptions()));
+        JsonArray sources = new JsonArray();
+        sources.add("web");
+        expected.add("sources", sources);
+        assertEquals(GSON.toJson(expected), lastBody);
+    }
+
+    @Test
+    public void mapAndCrawlBodiesMatchTreeEncoding() throws Exception {
+        client.map("https://example.com", new MapParams().setIncludeSubdomains(true).setLimit(10));
+        JsonObject map = new JsonObject();
+        map.addProperty("url", "https://example.com");
+        map.addProperty("includeSubdomains", true);
+        map.addProperty("limit", 10);
+        assertEquals(GSON.toJson(map), lastBody);
+
+        CrawlParams crawlParams = new CrawlParams()
+                .setScrapeOptions(new ScrapeParams().setFormats(new String[]{"markdown"}))
+                .setPrompt("only docs")
+                .setMaxDiscoveryDepth(2);
+        client.startCrawl("https://example.com", crawlParams);
+        JsonObject crawl = new JsonObject();
+        crawl.addProperty("url", "https://example.com");
+        crawl.add("scrapeOptions", GSON.toJsonTree(crawlParams.getScrapeOptions()));
+        crawl.addProperty("prompt", "only docs");
+        crawl.addProperty("maxDiscoveryDepth", 2);
+        assertEquals(GSON.toJson(crawl), lastBody);
+    }
+
+    private static ScrapeParams richScrapeParams() {
+        Map<String, Object> jsonFormat = new LinkedHashMap<>();
+        jsonFormat.put("type", "json");
+        jsonFormat.put("prompt", "Extract <title> & 'price'");
+        jsonFormat.put("ignored", null);
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("User-Agent", "sdk=test");
+        Map<String, Object> wait = new LinkedHashMap<>();
+        wait.put("type", "wait");
+        wait.put("milliseconds", 1500);
+        wait.put("ratio", 0.5);
+        Map<String, Object> location = new LinkedHashMap<>();
+        location.put("country", "US");
+        location.put("languages", new String[]{"en-US"});
+        return new ScrapeParams()
+                .setFormatsAny(new Object[]{"markdown", jsonFormat})
+                .setHeaders(headers)
+                .setIncludeTags(new String[]{"main", "article"})
+                .setOnlyMainContent(true)
+                .setWaitFor(1000)
+                .setParsers(new Object[]{"pdf"})
+                .setTimeout(30000)
+                .setMaxAge(3600000)
+                .setActions(new Object[]{wait})
+                .setLocation(location)
+                .setProxy("stealth")
+                .setStoreInCache(false);
+    }
+}
@@ -0,0 +1,163 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.ApiException;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.CrawlStatusResponse;
+import dev.firecrawl.util.RetryEvent;
+import dev.firecrawl.util.RetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryPolicyV2Test {
+    private MockApiServer server;
+    private final AtomicInteger statusCalls = new AtomicInteger();
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+    private volatile String retryAfter = "1";
+    private final List<RetryEvent> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/crawl", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, "{\"success\":true,\"id\":\"job-1\"}");
+            } else if (statusCalls.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().set("Retry-After", retryAfter);
+                respond(exchange, 429, "{\"error\":\"Rate limit exceeded\"}");
+            } else {
+                respond(exchange, 200, "{\"success\":true,\"status\":\"completed\"}");
+            }
+        });
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 503, "{\"error\":\"busy\"}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void retriesRateLimitedCallsAfterRetryAfter() throws Exception {
+        FirecrawlClient client = client(RetryPolicy.builder()
+                .retryOnStatus(429, 502, 503, 504)
+                .baseDelay(Duration.ofMillis(10))
+                .listener(events::add)
+                .build());
+
+        long start = System.nanoTime();
+        CrawlStatusResponse status = client.checkCrawlStatus("job-1");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(status.isCompleted());
+        assertEquals(2, statusCalls.get());
+        assertTrue(elapsedMs >= 1000, "waited " + elapsedMs + " ms");
+        assertEquals(2, events.size());
+        assertEquals(429, events.get(0).getStatusCode());
+        assertTrue(events.get(0).isRetrying());
+        assertEquals(Duration.ofSeconds(1), events.get(0).getDelay());
+        assertEquals(200, events.get(1).getStatusCode());
+        assertFalse(events.get(1).isRetrying());
+        assertEquals(2, events.get(1).getAttempt());
+    }
+
+    @Test
+    public void defaultPolicyLeaves429AndPostFailuresAlone() throws Exception {
+        FirecrawlClient client = client(RetryPolicy.defaults());
+
+        FirecrawlException rateLimited = assertThrows(FirecrawlException.class, () -> client.checkCrawlStatus("job-1"));
+        assertEquals(429, ((ApiException) rateLimited.getCause()).getStatusCode());
+        assertEquals(1, statusCalls.get());
+
+        assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com", null));
+        assertEquals(1, scrapeCalls.get());
+    }
+
+    @Test
+    public void retryAfterBeyondLimitOrBudgetIsNotWaitedFor() throws Exception {
+        retryAfter = "120";
+        FirecrawlClient tooLong = client(RetryPolicy.builder().retryOnStatus(429).listener(events::add).build());
+        assertThrows(FirecrawlException.class, () -> tooLong.checkCrawlStatus("job-1"));
+        assertEquals(1, statusCalls.get());
+        assertFalse(events.get(0).isRetrying());
+
+        statusCalls.set(0);
+        retryAfter = "1";
+        FirecrawlClient budgeted = client(RetryPolicy.builder()
+                .retryOnStatus(429)
+                .maxElapsed(Duration.ofMillis(200))
+                .build());
+        assertThrows(FirecrawlException.class, () -> budgeted.checkCrawlStatus("job-1"));
+        assertEquals(1, statusCalls.get());
+    }
+
+    @Test
+    public void retriesConfiguredTransportFailuresWithJitteredBackoff() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("test-key")
+                .apiUrl("http://127.0.0.1:" + closedPort)
+                .retryPolicy(RetryPolicy.builder()
+                        .maxAttempts(4)
+                        .retryOnException(ConnectException.class)
+                        .baseDelay(Duration.ofMillis(5))
+                        .maxDelay(Duration.ofMillis(40))
+                        .listener(events::add)
+                        .build())
+                .build();
+
+        assertThrows(ConnectException.class, () -> client.checkCrawlStatus("job-1"));
+        assertEquals(4, events.size());
+        for (int i = 0; i < 3; i++) {
+            RetryEvent event = events.get(i);
+            assertEquals(-1, event.getStatusCode());
+            assertInstanceOf(ConnectException.class, event.getFailure());
+            assertTrue(event.isRetrying());
+            long delay = event.getDelay().toMillis();
+            assertTrue(delay >= 5 && delay <= 40, "delay " + delay);
+        }
+        assertFalse(events.get(3).isRetrying());
+    }
+
+    @Test
+    public void asyncCallsFollowThePolicy() throws Exception {
+        FirecrawlClient client = client(RetryPolicy.builder()
+                .retryOnStatus(429)
+                .maxRetryAfter(Duration.ofSeconds(2))
+                .listener(events::add)
+                .build());
+
+        CrawlStatusResponse status = client.crawlAsync("https://example.com", null, 1).get(10, TimeUnit.SECONDS);
+        assertTrue(status.isCompleted());
+        assertEquals(2, statusCalls.get());
+        assertEquals(3, events.size());
+        assertEquals("POST", events.get(0).getMethod());
+        assertEquals(429, events.get(1).getStatusCode());
+        assertTrue(events.get(1).isRetrying());
+        assertEquals("/v2/crawl/job-1", events.get(2).getPath());
+    }
+
+    private FirecrawlClient client(RetryPolicy policy) {
+        return server.clientBuilder().retryPolicy(policy).build();
+    }
+}
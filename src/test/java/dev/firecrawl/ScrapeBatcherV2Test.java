@@ -0,0 +1,160 @@
+package dev.firecrawl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.exception.FirecrawlException;
+import dev.firecrawl.model.FirecrawlDocument;
+import dev.firecrawl.model.ScrapeParams;
+import dev.firecrawl.util.ScrapeBatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScrapeBatcherV2Test {
+    private MockApiServer server;
+    private final AtomicInteger scrapeCalls = new AtomicInteger();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/scrape", exchange -> {
+            scrapeCalls.incrementAndGet();
+            String url = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8))
+                    .getAsJsonObject().get("url").getAsString();
+            respond(exchange, "{\"success\":true,\"data\":" + document(url) + "}");
+        });
+        server.handle("/v2/batch/scrape", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if ("POST".equals(exchange.getRequestMethod())) {
+                List<String> urls = new ArrayList<>();
+                for (JsonElement url : JsonParser.parseString(body).getAsJsonObject().getAsJsonArray("urls")) {
+                    urls.add(url.getAsString());
+                }
+                batches.add(urls);
+                respond(exchange, "{\"success\":true,\"id\":\"batch-" + (batches.size() - 1) + "\"}");
+                return;
+            }
+            // Results arrive in reverse order, one document per page
+            String path = exchange.getRequestURI().getPath();
+            List<String> urls = batches.get(Integer.parseInt(path.substring(path.lastIndexOf('-') + 1)));
+            String query = exchange.getRequestURI().getQuery();
+            int skip = query != null ? Integer.parseInt(query.substring("skip=".length())) : 0;
+            List<String> valid = new ArrayList<>();
+            for (String url : urls) {
+                if (!url.contains("invalid")) {
+                    valid.add(0, url);
+                }
+            }
+            String next = skip + 1 < valid.size() ? ",\"next\":\"https://api.firecrawl.dev" + path + "?skip=" + (skip + 1) + "\"" : "";
+            respond(exchange, "{\"success\":true,\"status\":\"completed\"" + next + ",\"data\":[" + document(valid.get(skip)) + "]}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void concurrentScrapesAreSentAsOneBatch() throws Exception {
+        ScrapeBatcher batcher = ScrapeBatcher.builder().maxDelay(Duration.ofMillis(200)).pollInterval(Duration.ofMillis(10)).build();
+        FirecrawlClient client = client(batcher);
+        ScrapeParams params = new ScrapeParams().setOnlyMainContent(true);
+
+        List<CompletableFuture<FirecrawlDocument>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(client.scrapeAsync("https://example.com/" + i, new ScrapeParams().setOnlyMainContent(true)));
+        }
+        futures.add(client.scrapeAsync("https://example.com/2", params));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("# https://example.com/" + i, futures.get(i).get(5, TimeUnit.SECONDS).getMarkdown());
+        }
+        assertSame(futures.get(2).get(), futures.get(4).get());
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("https://example.com/0", "https://example.com/1", "https://example.com/2", "https://example.com/3"),
+                batches.get(0));
+        assertEquals(0, scrapeCalls.get());
+        assertEquals(5, batcher.getCalls());
+        assertEquals(4, batcher.getBatchedUrls());
+    }
+
+    @Test
+    public void blockingCallersFromManyThreadsShareBatches() throws Exception {
+        ScrapeBatcher batcher = ScrapeBatcher.builder().maxDelay(Duration.ofSeconds(10)).maxBatchSize(3)
+                .pollInterval(Duration.ofMillis(10)).build();
+        FirecrawlClient client = client(batcher);
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<FirecrawlDocument>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                String url = "https://example.com/" + i;
+                results.add(pool.submit(() -> client.scrape(url, null)));
+            }
+            // Full groups are sent at once instead of waiting out the delay
+            for (int i = 0; i < 6; i++) {
+                assertEquals("# https://example.com/" + i, results.get(i).get(5, TimeUnit.SECONDS).getMarkdown());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(2, batches.size());
+        assertEquals(2, batcher.getBatches());
+    }
+
+    @Test
+    public void differentParametersAndLoneCallsAreNotBatched() throws Exception {
+        ScrapeBatcher batcher = ScrapeBatcher.builder().maxDelay(Duration.ofMillis(100)).pollInterval(Duration.ofMillis(10)).build();
+        FirecrawlClient client = client(batcher);
+
+        CompletableFuture<FirecrawlDocument> a = client.scrapeAsync("https://example.com/a", new ScrapeParams().setMobile(true));
+        CompletableFuture<FirecrawlDocument> b = client.scrapeAsync("https://example.com/b", new ScrapeParams().setMobile(false));
+        assertEquals("# https://example.com/a", a.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals("# https://example.com/b", b.get(5, TimeUnit.SECONDS).getMarkdown());
+        assertEquals(0, batches.size());
+        assertEquals(2, scrapeCalls.get());
+        assertEquals(2, batcher.getDirectScrapes());
+    }
+
+    @Test
+    public void callersWithoutADocumentFail() throws Exception {
+        ScrapeBatcher batcher = ScrapeBatcher.builder().maxDelay(Duration.ofMillis(100)).pollInterval(Duration.ofMillis(10)).build();
+        FirecrawlClient client = client(batcher);
+
+        CompletableFuture<FirecrawlDocument> valid = client.scrapeAsync("https://example.com/ok", null);
+        CompletableFuture<FirecrawlDocument> invalid = client.scrapeAsync("https://invalid.example", null);
+        assertEquals("# https://example.com/ok", valid.get(5, TimeUnit.SECONDS).getMarkdown());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(FirecrawlException.class, error.getCause());
+        assertTrue(error.getCause().getMessage().contains("https://invalid.example"));
+    }
+
+    private FirecrawlClient client(ScrapeBatcher batcher) {
+        return server.clientBuilder()
+                .scrapeBatcher(batcher)
+                .build();
+    }
+
+    private static String document(String url) {
+        return "{\"markdown\":\"# " + url + "\",\"metadata\":{\"sourceURL\":\"" + url + "\"}}";
+    }
+}
@@ -0,0 +1,118 @@
+package dev.firecrawl;
+
+import dev.firecrawl.client.FirecrawlClient;
+import dev.firecrawl.model.SearchParams;
+import dev.firecrawl.model.SearchResponse;
+import dev.firecrawl.util.SearchCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.firecrawl.MockApiServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchCacheV2Test {
+    private MockApiServer server;
+    private final AtomicInteger searchCalls = new AtomicInteger();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = MockApiServer.start();
+        server.handle("/v2/search", exchange -> {
+            int call = searchCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, "{\"success\":true,\"data\":{\"web\":[{\"url\":\"https://example.com/" + call + "\"}]}}");
+        });
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void repeatedQueriesAreAnsweredFromTheCache() throws Exception {
+        SearchCache cache = SearchCache.builder().build();
+        FirecrawlClient client = client(cache);
+
+        SearchResponse first = client.search(new SearchParams("java  sdk").setLang("EN"));
+        assertSame(first, client.search(new SearchParams(" java sdk ").setLang("en").setTimeout(5000)));
+        assertSame(first, client.searchAsync(new SearchParams("java sdk").setLang("en")).get(5, TimeUnit.SECONDS));
+        assertEquals(1, searchCalls.get());
+        assertEquals(2, cache.getHits());
+
+        // Parameters that change results are part of the key
+        client.search(new SearchParams("java sdk").setLang("en").setLimit(3));
+        client.search(new SearchParams("java sdk").setLang("de"));
+        assertEquals(3, searchCalls.get());
+        assertEquals(3, cache.getSize());
+    }
+
+    @Test
+    public void hotQueriesAreRefreshedBeforeTheyExpire() throws Exception {
+        SearchCache cache = SearchCache.builder()
+                .ttl(Duration.ofSeconds(5))
+                .refreshAfter(Duration.ofMillis(100))
+                .build();
+        FirecrawlClient client = client(cache);
+        assertEquals("https://example.com/1", url(client.search("java sdk")));
+        Thread.sleep(150);
+
+        // Served at once while a single refresh runs
+        assertEquals("https://example.com/1", url(client.search("java sdk")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"https://example.com/2".equals(url(client.search("java sdk"))) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("https://example.com/2", url(client.search("java sdk")));
+        assertEquals(2, searchCalls.get());
+        assertEquals(1, cache.getRefreshes());
+    }
+
+    @Test
+    public void responsesExpireAfterTheirTtl() throws Exception {
+        SearchCache cache = SearchCache.builder()
+                .ttl(Duration.ofMillis(100))
+                .refreshAfter(Duration.ofMillis(90))
+                .build();
+        FirecrawlClient client = client(cache);
+        client.search("java sdk");
+        Thread.sleep(150);
+
+        assertEquals("https://example.com/2", url(client.search("java sdk")));
+        assertEquals(1, cache.getExpirations());
+        assertEquals(0, cache.getRefreshes());
+    }
+
+    @Test
+    public void leastRecentlyUsedQueryIsEvicted() throws Exception {
+        SearchCache cache = SearchCache.builder().maximumSize(2).concurrencyLevel(1).build();
+        FirecrawlClient client = client(cache);
+        client.search("first");
+        client.search("second");
+        client.search("first");
+        client.search("third");
+        assertEquals(3, searchCalls.get());
+        assertEquals(1, cache.getEvictions());
+
+        client.search("first");
+        assertEquals(3, searchCalls.get());
+        client.search("second");
+        assertEquals(4, searchCalls.get());
+    }
+
+    private static String url(SearchResponse response) {
+        return response.getResults().get(0).getUrl();
+    }
+
+    private FirecrawlClient client(SearchCache cache) {
+        return server.clientBuilder()
+                .searchCache(cache)
+                .build();
+    }
+}